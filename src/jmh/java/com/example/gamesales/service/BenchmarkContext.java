@@ -0,0 +1,59 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.model.Game;
+import com.example.gamesales.repository.GameRepository;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * 벤치마크·부하 하네스용 Spring 컨텍스트. H2 메모리 DB 위에 JPA 저장소와 적재 경로 빈만 올린다.
+ * 웹 서버·스케줄러·IGDB 설정은 띄우지 않고, application.yml 의 JDBC 배치 설정은 그대로 쓴다.
+ */
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(String dbName) {
+        return new SpringApplicationBuilder(Config.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                // 명령행 인자는 application.yml 보다 우선한다
+                .run("--spring.datasource.url=jdbc:h2:mem:" + dbName + ";DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--logging.level.com.example.gamesales=WARN");
+    }
+
+    /** 모든 테이블을 비우고 메모리의 마지막 가격도 버린다 */
+    static void truncateAll(ConfigurableApplicationContext context) {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        List<String> tables = jdbc.queryForList("select table_name from information_schema.tables "
+                + "where table_schema = 'PUBLIC' and table_type = 'BASE TABLE'", String.class);
+        jdbc.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        tables.forEach(table -> jdbc.execute("TRUNCATE TABLE " + table));
+        jdbc.execute("SET REFERENTIAL_INTEGRITY TRUE");
+        context.getBean(LastKnownPrices.class).reset(GamePriceIngestService.CATALOG_SERVICE);
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = Game.class)
+    @EnableJpaRepositories(basePackageClasses = GameRepository.class)
+    @Import({GamePriceIngestService.class, LastKnownPrices.class, CrawlCheckpoints.class,
+            GameEnrichmentWriter.class, CrawlerConfig.class})
+    static class Config {
+    }
+}
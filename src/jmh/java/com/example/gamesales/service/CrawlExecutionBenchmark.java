@@ -0,0 +1,90 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.dto.PriceDto;
+import com.example.gamesales.util.CrawlExecution;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랫폼 스레드(boundedElastic) vs 가상 스레드 실행 모드를 동시 작업 10 / 100 / 1,000 개로 비교.
+ *
+ * 작업 하나는 크롤링 단위 하나를 흉내낸다: 블로킹 HTTP 대기(WebClient.block() 자리, sleep) 뒤에
+ * 50행을 H2 에 적재한다. 적재는 {@link CrawlExecution#jdbc} 를 거치므로 가상 스레드 모드에서는 세마포어가
+ * 커넥션 풀(Hikari 기본 10) 앞에서 동시 트랜잭션 수를 jdbcPermits 로 묶는다.
+ * 플랫폼 모드는 boundedElastic 스레드 수(코어 × 10)만큼만 동시에 대기할 수 있다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class CrawlExecutionBenchmark {
+
+    private static final int BLOCKING_IO_MS = 50;
+    private static final int ROWS_PER_UNIT = 50;
+    private static final int BASE_APP_ID = 100_000;
+
+    @Param({"10", "100", "1000"})
+    public int units;
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    private ConfigurableApplicationContext context;
+    private GamePriceIngestService ingestService;
+    private CrawlExecution execution;
+    private List<List<PriceDto>> batches;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("execution" + units + virtualThreads);
+        ingestService = context.getBean(GamePriceIngestService.class);
+        CrawlerConfig config = new CrawlerConfig();
+        config.getExecution().setVirtualThreads(virtualThreads);
+        execution = new CrawlExecution(config);
+
+        batches = new ArrayList<>(units);
+        for (int unit = 0; unit < units; unit++) {
+            List<PriceDto> rows = new ArrayList<>(ROWS_PER_UNIT);
+            for (int i = 0; i < ROWS_PER_UNIT; i++) {
+                int n = unit * ROWS_PER_UNIT + i;
+                rows.add(new PriceDto(BASE_APP_ID + n, "Game " + n, "게임 " + n, 20_000, 10_000, 50, n + 1));
+            }
+            batches.add(rows);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void truncate() {
+        BenchmarkContext.truncateAll(context);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        execution.shutdown();
+        context.close();
+    }
+
+    @Benchmark
+    public Integer concurrentUnits() {
+        return Flux.fromIterable(batches)
+                .flatMap(batch -> Mono.fromCallable(() -> crawlUnit(batch))
+                        .subscribeOn(execution.scheduler()), units)
+                .reduce(0, Integer::sum)
+                .block();
+    }
+
+    private int crawlUnit(List<PriceDto> batch) throws InterruptedException {
+        Thread.sleep(BLOCKING_IO_MS);
+        // 작업마다 서로 다른 appId 라서 적재끼리 행 잠금을 다투지 않는다
+        return execution.jdbc(() -> ingestService.ingest(GamePriceIngestService.CATALOG_SERVICE, batch));
+    }
+}
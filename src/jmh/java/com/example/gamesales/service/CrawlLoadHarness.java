@@ -0,0 +1,252 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.config.IgdbProperties;
+import com.example.gamesales.crawler.SteamAppDetailsClient;
+import com.example.gamesales.crawler.SteamCrawlerService;
+import com.example.gamesales.repository.GameRepository;
+import com.example.gamesales.repository.LatestPriceRepository;
+import com.example.gamesales.util.CrawlExecution;
+import com.example.gamesales.util.RateLimiter;
+import com.example.gamesales.util.SteamSearchRowParser;
+import com.example.gamesales.util.SteamSearchRowStreamParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+/**
+ * 오프라인 부하 하네스. WireMock 으로 녹화된 Steam 검색 페이지와 가짜 IGDB({@link IgdbFakeServer})를 띄우고,
+ * 실제 경로(SteamCrawlerService → StorePriceSink → H2 적재, 이어서 IGDB 플랫폼 보강)를 여러 번 돌린다.
+ *
+ * 반복마다 걸린 시간으로 처리량과 p50/p99 를 내고, Micrometer 타이머(페이지 요청·파싱·적재·IGDB 요청)의
+ * 분위수를 함께 JSON 파일로 남긴다. 커밋마다 같은 설정으로 돌려 파일끼리 비교한다.
+ *
+ * 실행: ./gradlew loadTest (결과는 build/results/load/crawl-load.json)
+ * 옵션: -Pload.warmup=3 -Pload.iterations=20 -Pload.delayMs=0 (페이지 응답마다 더할 지연) -Pload.commit=$(git rev-parse HEAD)
+ *       -Pload.virtualThreads=true (crawler.execution.virtual-threads 모드로 실행)
+ */
+public final class CrawlLoadHarness {
+
+    private static final int PAGES = 10;
+    private static final int PAGE_SIZE = 50;
+    /** 녹화된 한 페이지를 페이지마다 다른 게임으로 보이게 appId 를 이만큼씩 민다 */
+    private static final int APP_ID_SHIFT = 10_000_000;
+    private static final Pattern APP_ID = Pattern.compile("(/app/|data-ds-appid=\"|App_)(\\d+)");
+
+    private CrawlLoadHarness() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path output = Path.of(args.length > 0 ? args[0] : "build/results/load/crawl-load.json");
+        Settings settings = new Settings(PAGES, PAGE_SIZE,
+                Integer.getInteger("load.warmup", 3),
+                Integer.getInteger("load.iterations", 20),
+                Integer.getInteger("load.delayMs", 0),
+                Boolean.getBoolean("load.virtualThreads"));
+
+        WireMockServer steam = new WireMockServer(options().dynamicPort().containerThreads(PAGES * 2));
+        steam.start();
+        WireMockServer igdb = IgdbFakeServer.start();
+        ConfigurableApplicationContext context = BenchmarkContext.start("load");
+        try {
+            stubSteam(steam, settings.delayMs());
+            Report report = run(context, steam, igdb, settings);
+
+            Files.createDirectories(output.toAbsolutePath().getParent());
+            new ObjectMapper()
+                    .registerModule(new JavaTimeModule())
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .writerWithDefaultPrettyPrinter()
+                    .writeValue(output.toFile(), report);
+            System.out.printf("crawl: %.0f rows/s, p50=%.1fms, p99=%.1fms | enrichment: %.0f appIds/s, p99=%.1fms%n",
+                    report.crawl().throughputPerSecond(), report.crawl().p50Ms(), report.crawl().p99Ms(),
+                    report.enrichment().throughputPerSecond(), report.enrichment().p99Ms());
+            System.out.println("결과: " + output.toAbsolutePath());
+        } finally {
+            context.close();
+            igdb.stop();
+            steam.stop();
+        }
+    }
+
+    private static Report run(ConfigurableApplicationContext context, WireMockServer steam, WireMockServer igdb,
+                              Settings settings) {
+        CrawlerConfig config = context.getBean(CrawlerConfig.class);
+        GamePriceIngestService ingestService = context.getBean(GamePriceIngestService.class);
+        CrawlCheckpoints checkpoints = context.getBean(CrawlCheckpoints.class);
+        GameRepository gameRepo = context.getBean(GameRepository.class);
+        ObjectMapper objectMapper = new ObjectMapper();
+        config.getExecution().setVirtualThreads(settings.virtualThreads());
+        CrawlExecution execution = new CrawlExecution(config);
+
+        DealsIndex dealsIndex = new DealsIndex(context.getBean(LatestPriceRepository.class), checkpoints);
+        GameTitleMatcher titleMatcher = new GameTitleMatcher(gameRepo, config);
+        SteamCrawlerService steamCrawler = new SteamCrawlerService(
+                WebClient.builder().baseUrl(steam.baseUrl()).build(), ingestService, objectMapper, config,
+                new SteamSearchRowParser(), new SteamSearchRowStreamParser(), dealsIndex,
+                new SteamAppDetailsClient(WebClient.create(), objectMapper, config));
+        CrawlerService crawlerService = new CrawlerService(List.of(steamCrawler),
+                new StorePriceSink(ingestService, titleMatcher, dealsIndex, checkpoints, execution, config),
+                titleMatcher, checkpoints, execution);
+
+        IgdbProperties props = new IgdbProperties();
+        props.setId("load-harness");
+        props.setSecret("secret");
+        props.setBaseUrl(igdb.baseUrl());
+        props.setTokenUrl(igdb.baseUrl() + "/oauth2/token");
+        // localhost 는 요청 제한 목록에 없으므로 RateLimiter 는 기다리지 않는다
+        IGDBPlatformService igdbService = new IGDBPlatformService(props, context.getBean(GameEnrichmentWriter.class),
+                objectMapper, new RateLimiter(config), new TwitchTokenManager(props), new IgdbCache(props),
+                execution);
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder().percentiles(0.5, 0.99).build().merge(config);
+            }
+        });
+
+        List<Long> crawlNanos = new ArrayList<>();
+        List<Long> enrichNanos = new ArrayList<>();
+        long rows = 0;
+        long appIds = 0;
+        for (int i = 0; i < settings.warmup() + settings.iterations(); i++) {
+            boolean measured = i >= settings.warmup();
+            if (i == settings.warmup()) {
+                // 워밍업이 끝난 뒤에 붙여야 타이머 분위수에 워밍업이 섞이지 않는다
+                Metrics.addRegistry(registry);
+            }
+
+            long begin = System.nanoTime();
+            Map<String, StorePriceSink.StoreResult> results = crawlerService.crawlAll();
+            long crawled = System.nanoTime() - begin;
+
+            List<Integer> steamAppIds = gameRepo.findAllAppIds();
+            begin = System.nanoTime();
+            igdbService.updatePlatformsForSteamGames(steamAppIds);
+            long enriched = System.nanoTime() - begin;
+
+            if (measured) {
+                crawlNanos.add(crawled);
+                enrichNanos.add(enriched);
+                rows += results.values().stream().mapToInt(StorePriceSink.StoreResult::crawled).sum();
+                appIds += steamAppIds.size();
+            }
+        }
+        Metrics.removeRegistry(registry);
+        execution.shutdown();
+
+        return new Report(Instant.now(), System.getProperty("load.commit"), settings,
+                Phase.of(crawlNanos, rows), Phase.of(enrichNanos, appIds), timers(registry));
+    }
+
+    /** 녹화된 페이지 하나를 appId 만 밀어서 10페이지로 돌려준다 */
+    private static void stubSteam(WireMockServer steam, int delayMs) throws IOException {
+        String recorded;
+        try (InputStream in = CrawlLoadHarness.class.getResourceAsStream("/fixtures/steam/search-topsellers-50.html")) {
+            recorded = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        for (int page = 0; page < PAGES; page++) {
+            steam.stubFor(get(urlPathEqualTo("/search/"))
+                    .withQueryParam("start", equalTo(String.valueOf(page * PAGE_SIZE)))
+                    .willReturn(ok(shiftAppIds(recorded, page * APP_ID_SHIFT))
+                            .withHeader("Content-Type", "text/html; charset=UTF-8")
+                            .withFixedDelay(delayMs)));
+        }
+    }
+
+    private static String shiftAppIds(String html, int shift) {
+        if (shift == 0) return html;
+        Matcher m = APP_ID.matcher(html);
+        StringBuilder sb = new StringBuilder(html.length());
+        while (m.find()) {
+            m.appendReplacement(sb, m.group(1) + (Integer.parseInt(m.group(2)) + shift));
+        }
+        return m.appendTail(sb).toString();
+    }
+
+    private static List<TimerStats> timers(SimpleMeterRegistry registry) {
+        return registry.getMeters().stream()
+                .filter(Timer.class::isInstance)
+                .map(Timer.class::cast)
+                .filter(timer -> timer.count() > 0)
+                .map(TimerStats::of)
+                .sorted(Comparator.comparing(TimerStats::name).thenComparing(t -> t.tags().toString()))
+                .toList();
+    }
+
+    record Settings(int pages, int pageSize, int warmup, int iterations, int delayMs, boolean virtualThreads) {
+    }
+
+    record Report(Instant generatedAt, String commit, Settings settings,
+                  Phase crawl, Phase enrichment, List<TimerStats> timers) {
+    }
+
+    /** 반복 단위 결과. throughput 은 측정 반복 전체의 처리 건수 / 걸린 시간 */
+    record Phase(int iterations, long items, double throughputPerSecond,
+                 double meanMs, double p50Ms, double p99Ms, double maxMs) {
+
+        static Phase of(List<Long> nanos, long items) {
+            long[] sorted = nanos.stream().mapToLong(Long::longValue).sorted().toArray();
+            long total = Arrays.stream(sorted).sum();
+            return new Phase(sorted.length, items,
+                    total == 0 ? 0 : items / (total / 1e9),
+                    sorted.length == 0 ? 0 : total / 1e6 / sorted.length,
+                    percentile(sorted, 0.5), percentile(sorted, 0.99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+        }
+
+        /** nearest-rank 분위수 (ms) */
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) return 0;
+            int rank = (int) Math.ceil(p * sorted.length);
+            return sorted[Math.max(0, rank - 1)] / 1e6;
+        }
+    }
+
+    record TimerStats(String name, Map<String, String> tags, long count,
+                      double meanMs, double p50Ms, double p99Ms, double maxMs) {
+
+        static TimerStats of(Timer timer) {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            Map<Double, Double> percentiles = new HashMap<>();
+            for (ValueAtPercentile v : snapshot.percentileValues()) {
+                percentiles.put(v.percentile(), v.value(TimeUnit.MILLISECONDS));
+            }
+            Map<String, String> tags = timer.getId().getTags().stream()
+                    .collect(Collectors.toMap(Tag::getKey, Tag::getValue, (a, b) -> a, TreeMap::new));
+            return new TimerStats(timer.getId().getName(), tags, snapshot.count(),
+                    snapshot.mean(TimeUnit.MILLISECONDS),
+                    percentiles.getOrDefault(0.5, 0.0), percentiles.getOrDefault(0.99, 0.0),
+                    snapshot.max(TimeUnit.MILLISECONDS));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.dto.PriceDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DealsIndex 조회: Steam 한 번 크롤링 분량(500행) 인덱스에서 할인율 순 상위 20개.
+ * 세 행에 하나만 할인 중이라 필터·정렬이 둘 다 일을 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DealsIndexBenchmark {
+
+    private static final int ROWS = 500;
+
+    private final DealsIndex index = new DealsIndex(null, null);
+
+    @Setup
+    public void setUp() {
+        List<PriceDto> dtos = new ArrayList<>(ROWS);
+        for (int i = 1; i <= ROWS; i++) {
+            dtos.add(i % 3 == 1
+                    ? new PriceDto(i, "Game " + i, "게임 " + i, 20_000, 10_000, 50, i)
+                    : new PriceDto(i, "Game " + i, "게임 " + i, 20_000, 20_000, 0, i));
+        }
+        index.publish("Steam", dtos, Map.of());
+    }
+
+    @Benchmark
+    public List<PriceDto> topDiscounts() {
+        return index.query("Steam", DealsIndex.Sort.DISCOUNT, null, 20);
+    }
+}
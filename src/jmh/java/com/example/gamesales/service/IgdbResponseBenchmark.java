@@ -0,0 +1,77 @@
+package com.example.gamesales.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * IGDB external_games 응답 처리: 본문 바이트 → JsonNode → Steam appId 별 플랫폼 이름.
+ * 응답은 보강 청크 하나(기본 250, 최대 500건)와 같은 모양으로 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IgdbResponseBenchmark {
+
+    private static final int[][] PLATFORM_SETS = {{6}, {6, 167}, {6, 48, 167, 169}, {130}};
+    private static final Map<Integer, String> PLATFORM_NAMES = Map.of(
+            6, "PC (Microsoft Windows)",
+            48, "PlayStation 4",
+            130, "Nintendo Switch",
+            167, "PlayStation 5",
+            169, "Xbox Series X|S");
+
+    @Param({"250", "500"})
+    public int rows;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] body;
+    private JsonNode tree;
+
+    @Setup
+    public void setUp() throws IOException {
+        body = externalGames(rows).getBytes(StandardCharsets.UTF_8);
+        tree = objectMapper.readTree(body);
+    }
+
+    /** WebClient 의 bodyToMono(JsonNode) 에 해당하는 역직렬화만 */
+    @Benchmark
+    public JsonNode readTree() throws IOException {
+        return objectMapper.readTree(body);
+    }
+
+    /** 트리는 미리 만들어 두고 appId → 플랫폼 이름 변환만 */
+    @Benchmark
+    public Map<Integer, List<String>> mapOnly() {
+        return IGDBPlatformService.platformsByAppId(tree, PLATFORM_NAMES);
+    }
+
+    @Benchmark
+    public Map<Integer, List<String>> readAndMap() throws IOException {
+        return IGDBPlatformService.platformsByAppId(objectMapper.readTree(body), PLATFORM_NAMES);
+    }
+
+    private static String externalGames(int rows) {
+        return IntStream.range(0, rows)
+                .mapToObj(i -> {
+                    int uid = 1_000_000 + i * 10;
+                    String platforms = IntStream.of(PLATFORM_SETS[i % PLATFORM_SETS.length])
+                            .mapToObj(String::valueOf)
+                            .collect(Collectors.joining(","));
+                    return String.format("{\"id\":%d,\"game\":{\"id\":%d,\"platforms\":[%s]},\"uid\":\"%d\"}",
+                            i + 1, uid + 7, platforms, uid);
+                })
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.dto.PriceDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GamePriceIngestService.ingest (구 savePricesWithRanking) 를 H2 에 500 / 5천 / 5만 행으로 적재.
+ * - newCatalog: 빈 DB 에 처음 적재 (게임·가격·latest_price 모두 insert)
+ * - recrawl: 같은 카탈로그를 다시 적재. 10행 중 1행만 가격이 바뀌어 델타 경로(update 한 문장)를 탄다
+ *
+ * 호출 한 번이 수십 ms~수 초라서 SingleShotTime 으로 잰다.
+ * 실행: ./gradlew jmh (결과는 build/results/jmh/results.json)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class IngestBenchmark {
+
+    private static final int BASE_APP_ID = 100_000;
+
+    @Param({"500", "5000", "50000"})
+    public int rows;
+
+    ConfigurableApplicationContext context;
+    GamePriceIngestService ingestService;
+    List<PriceDto> firstCrawl;
+    List<PriceDto> nextCrawl;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = BenchmarkContext.start("ingest" + rows);
+        ingestService = context.getBean(GamePriceIngestService.class);
+        firstCrawl = crawl(rows, false);
+        nextCrawl = crawl(rows, true);
+    }
+
+    @TearDown(Level.Trial)
+    public void closeContext() {
+        context.close();
+    }
+
+    /** 호출마다 테이블을 비운다 */
+    @State(Scope.Benchmark)
+    public static class EmptyDb {
+
+        @Setup(Level.Invocation)
+        public void truncate(IngestBenchmark bench) {
+            BenchmarkContext.truncateAll(bench.context);
+        }
+    }
+
+    /** 카탈로그를 한 번 적재해 두고, 호출마다 두 크롤링 결과를 번갈아 넣는다 */
+    @State(Scope.Benchmark)
+    public static class LoadedDb {
+
+        int round;
+
+        @Setup(Level.Trial)
+        public void load(IngestBenchmark bench) {
+            BenchmarkContext.truncateAll(bench.context);
+            bench.ingestService.ingest(GamePriceIngestService.CATALOG_SERVICE, bench.firstCrawl);
+        }
+
+        List<PriceDto> next(IngestBenchmark bench) {
+            return round++ % 2 == 0 ? bench.nextCrawl : bench.firstCrawl;
+        }
+    }
+
+    @Benchmark
+    public int newCatalog(EmptyDb db) {
+        return ingestService.ingest(GamePriceIngestService.CATALOG_SERVICE, firstCrawl);
+    }
+
+    @Benchmark
+    public int recrawl(LoadedDb db) {
+        return ingestService.ingest(GamePriceIngestService.CATALOG_SERVICE, db.next(this));
+    }
+
+    /**
+     * @param changed true 면 10행마다 한 행을 반값 할인으로 바꾼다
+     */
+    private static List<PriceDto> crawl(int rows, boolean changed) {
+        List<PriceDto> dtos = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            int discountPercent = changed && i % 10 == 0 ? 50 : 0;
+            int finalPrice = 20_000 * (100 - discountPercent) / 100;
+            dtos.add(new PriceDto(BASE_APP_ID + i, "Game " + i, "게임 " + i,
+                    20_000, finalPrice, discountPercent, i + 1));
+        }
+        return dtos;
+    }
+}
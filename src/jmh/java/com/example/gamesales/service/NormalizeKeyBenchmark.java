@@ -0,0 +1,42 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.dto.PriceDto;
+import com.example.gamesales.util.SteamSearchRowParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GamePriceIngestService.normalizeKey: 신규 게임마다 한 번씩 불린다.
+ * 제목은 녹화된 Steam 검색 페이지(™·®·한글·기호가 섞인 실제 제목)에서 가져와 차례로 돌린다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NormalizeKeyBenchmark {
+
+    private PriceDto[] games;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        String html;
+        try (InputStream in = getClass().getResourceAsStream("/fixtures/steam/search-topsellers-50.html")) {
+            html = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        games = new SteamSearchRowParser().parsePage(html, 0).toArray(PriceDto[]::new);
+    }
+
+    @Benchmark
+    public String normalizeKey() {
+        PriceDto game = games[next];
+        next = next + 1 == games.length ? 0 : next + 1;
+        return GamePriceIngestService.normalizeKey(game.englishName(), game.appId());
+    }
+}
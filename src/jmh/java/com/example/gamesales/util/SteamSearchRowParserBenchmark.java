@@ -0,0 +1,115 @@
+package com.example.gamesales.util;
+
+import com.example.gamesales.dto.PriceDto;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 50행 검색 페이지 파싱: 기존 SteamCrawlerService 인라인 코드 vs SteamSearchRowParser.
+ * 실행: ./gradlew jmh (결과는 build/results/jmh/results.json)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SteamSearchRowParserBenchmark {
+
+    private final SteamSearchRowParser parser = new SteamSearchRowParser();
+
+    private String html;
+    private Elements rows;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/fixtures/steam/search-topsellers-50.html")) {
+            html = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        rows = Jsoup.parse(html).select(".search_result_row");
+    }
+
+    /** HTML 파싱 + 행 추출 전체 (페이지 단위) */
+    @Benchmark
+    public List<PriceDto> legacyPage() {
+        return legacyParse(Jsoup.parse(html).select(".search_result_row"));
+    }
+
+    @Benchmark
+    public List<PriceDto> parserPage() {
+        return parser.parsePage(html, 0);
+    }
+
+    /** DOM은 미리 만들어 두고 행 추출 루프만 비교 */
+    @Benchmark
+    public List<PriceDto> legacyRowsOnly() {
+        return legacyParse(rows);
+    }
+
+    @Benchmark
+    public void parserRowsOnly(Blackhole bh) {
+        for (int pos = 0; pos < rows.size(); pos++) {
+            bh.consume(parser.parseRow(rows.get(pos), pos + 1));
+        }
+    }
+
+    /** user-001 시점 SteamCrawlerService 의 행 루프 (로그 출력만 제거) */
+    private static List<PriceDto> legacyParse(Elements elements) {
+        List<PriceDto> results = new ArrayList<>();
+        int ranking = 1;
+        for (Element el : elements) {
+            String href = el.attr("href");
+            Matcher matcher = Pattern.compile("/app/(\\d+)/").matcher(href);
+            if (!matcher.find()) {
+                continue;
+            }
+
+            int appId = Integer.parseInt(matcher.group(1));
+            String title = el.select(".title").text();
+
+            Element discountBlock = el.selectFirst(".search_discount_block");
+            if (discountBlock == null) {
+                continue;
+            }
+
+            Element finalPriceEl = discountBlock.selectFirst(".discount_final_price");
+            Element originalPriceEl = discountBlock.selectFirst(".discount_original_price");
+            Element discountPercentEl = discountBlock.selectFirst(".discount_pct");
+
+            if (finalPriceEl == null) {
+                continue;
+            }
+
+            String finalPriceText = finalPriceEl.text().replaceAll("[^\\d]", "");
+            int finalPrice = finalPriceText.isBlank() ? 0 : Integer.parseInt(finalPriceText);
+
+            int initialPrice = originalPriceEl != null
+                    ? Integer.parseInt(originalPriceEl.text().replaceAll("[^\\d]", ""))
+                    : finalPrice;
+
+            int discountPercent = discountPercentEl != null
+                    ? Integer.parseInt(discountPercentEl.text().replaceAll("[^\\d]", ""))
+                    : 0;
+
+            if (finalPrice == 0) {
+                continue;
+            }
+
+            results.add(new PriceDto(appId, title, title, initialPrice, finalPrice, discountPercent, ranking++));
+        }
+        return results;
+    }
+}
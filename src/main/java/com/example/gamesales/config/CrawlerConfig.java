@@ -1,4 +1,262 @@
 package com.example.gamesales.config;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "crawler")
+@Getter
+@Setter
 public class CrawlerConfig {
+
+    private Steam steam = new Steam();
+    private SteamDetails steamDetails = new SteamDetails();
+    private RateLimit rateLimit = new RateLimit();
+    private Http http = new Http();
+    private ResponseCache responseCache = new ResponseCache();
+    private Schedule schedule = new Schedule();
+    private Ingest ingest = new Ingest();
+    private Archive archive = new Archive();
+    private Sink sink = new Sink();
+    private Execution execution = new Execution();
+    private Checkpoint checkpoint = new Checkpoint();
+    private Matching matching = new Matching();
+    /** Steam 외 스토어. 키는 psn, eshop, directg */
+    private Map<String, Store> stores = new HashMap<>(Map.of(
+            "psn", Store.of("https://web.np.playstation.com", 2, 24, 20),
+            "eshop", Store.of("https://ec.nintendo.com", 2, 30, 20)
+                    .withApiUrl("https://api.ec.nintendo.com"),
+            "directg", Store.of("https://directg.net", 2, 40, 10)
+    ));
+
+    @Getter
+    @Setter
+    public static class Steam {
+        /** Steam 스토어 주소 (테스트에서는 WireMock 주소로 교체) */
+        private String baseUrl = "https://store.steampowered.com";
+        /** 동시에 요청할 검색 페이지 수 (1이면 기존처럼 순차 크롤링) */
+        private int pageConcurrency = 4;
+        /** true면 응답을 String으로 모으지 않고 DataBuffer 스트림에서 행 단위로 파싱 */
+        private boolean streaming = false;
+    }
+
+    @Getter
+    @Setter
+    public static class SteamDetails {
+        /** true면 Steam 검색 페이지마다 appdetails price_overview 로 가격을 다시 확인해 덮어쓴다 */
+        private boolean prices = false;
+        /** price_overview 한 요청에 묶는 appId 수 (여러 appId 는 price_overview 필터에서만 받는다) */
+        private int batchSize = 50;
+        /** 동시에 보내는 appdetails 요청 수. 실제 속도는 store.steampowered.com 요청 제한이 맞춘다 */
+        private int concurrency = 8;
+        /** 이 안에 가격을 확인한 게임은 다시 묻지 않고 지난 결과를 쓴다 */
+        private Duration priceRefreshAfter = Duration.ofHours(1);
+        /** 이 안에 한국어 이름을 확인한 게임은 다시 묻지 않는다 */
+        private Duration nameRefreshAfter = Duration.ofDays(30);
+        /** 가격 통화 국가 (cc) */
+        private String country = "kr";
+        /** 이름 언어 (l) */
+        private String language = "koreana";
+    }
+
+    @Getter
+    @Setter
+    public static class RateLimit {
+        /** 토큰을 이보다 오래 기다려야 하면 요청을 거절 */
+        private Duration maxWait = Duration.ofSeconds(30);
+        /** 호스트별 초당 요청 수와 버스트 크기. 목록에 없는 호스트는 제한하지 않음 */
+        private Map<String, Limit> hosts = new HashMap<>(Map.of(
+                "store.steampowered.com", new Limit(4, 4),
+                "api.igdb.com", new Limit(4, 4),   // IGDB 공식 제한: 초당 4회
+                "web.np.playstation.com", new Limit(2, 2),
+                "ec.nintendo.com", new Limit(2, 2),
+                "api.ec.nintendo.com", new Limit(2, 2),
+                "directg.net", new Limit(2, 2)
+        ));
+    }
+
+    @Getter
+    @Setter
+    public static class Http {
+        private Duration connectTimeout = Duration.ofSeconds(5);
+        /** 응답(헤더·본문)을 기다리는 최대 시간. 데이터가 이만큼 오지 않으면 연결을 끊고 재시도 */
+        private Duration readTimeout = Duration.ofSeconds(20);
+        /** 공유 커넥션 풀 크기 (모든 외부 호스트 합계가 아니라 호스트별 최대 연결 수) */
+        private int maxConnections = 50;
+        /** 풀에서 연결을 기다리는 최대 시간 */
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(30);
+        /** keep-alive 로 재사용하던 연결을 이만큼 놀면 닫는다 (서버가 먼저 끊은 연결 재사용 방지) */
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        private Retry retry = new Retry();
+        private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    }
+
+    @Getter
+    @Setter
+    public static class ResponseCache {
+        /** 크롤러 GET 응답을 디스크에 두고 조건부 요청(If-None-Match/If-Modified-Since)을 보낸다 */
+        private boolean enabled = true;
+        /** 응답 본문(gzip)과 검증자(ETag·Last-Modified·내용 해시)를 두는 디렉터리 */
+        private String dir = System.getProperty("java.io.tmpdir") + "/gamesales-http-cache";
+    }
+
+    @Getter
+    @Setter
+    public static class Retry {
+        /** 첫 요청 포함 최대 시도 횟수 (1이면 재시도 없음) */
+        private int maxAttempts = 4;
+        private Duration initialBackoff = Duration.ofMillis(500);
+        private Duration maxBackoff = Duration.ofSeconds(10);
+        /** 백오프에서 무작위로 깎는 비율 (0~1). 여러 요청이 같은 순간에 다시 몰리지 않게 */
+        private double jitter = 0.5;
+        /** Retry-After 가 이보다 길면 기다리지 않고 실패로 돌려준다 */
+        private Duration maxRetryAfter = Duration.ofSeconds(60);
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        /** 연속 실패(5xx·연결 오류·타임아웃)가 이만큼이면 호스트 차단 */
+        private int failureThreshold = 5;
+        /** 차단 유지 시간. 지나면 요청 하나로 회복 여부를 본다 */
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Ingest {
+        /** true면 가격이 바뀐 게임만 새 행으로 저장하고, 나머지는 lastSeenAt 만 갱신 */
+        private boolean delta = true;
+    }
+
+    @Getter
+    @Setter
+    public static class Archive {
+        /** 마지막으로 확인한 지 이만큼 지난 가격 이력 행을 게임별 아카이브 파일로 옮긴다 */
+        private Duration olderThan = Duration.ofDays(365);
+        /** 게임별 아카이브 파일(appId.gpa)을 두는 디렉터리. 지우면 그 이력도 사라지므로 임시 디렉터리가 아닌 곳에 */
+        private String dir = "data/price-archive";
+    }
+
+    @Getter
+    @Setter
+    public static class Checkpoint {
+        /**
+         * 이 시간 안에 시작한 미완료 실행만 이어 받는다. 더 오래된 실행은 버리고 새로 시작.
+         * 실패한 실행은 다음 가격 cron 에서 이어 받으므로 cron 간격 × (maxAttempts - 1) 보다 길어야 한다 (6시간 × 2 + 여유)
+         */
+        private Duration resumeWindow = Duration.ofHours(13);
+        /** 한 실행의 최대 시도 횟수 (첫 시도 포함) */
+        private int maxAttempts = 3;
+    }
+
+    @Getter
+    @Setter
+    public static class Sink {
+        /** 스토어 크롤러들이 함께 쓰는 저장 싱크의 배치 크기 */
+        private int batchSize = 500;
+        /** 배치가 덜 찼어도 이 시간이 지나면 저장 */
+        private Duration maxDelay = Duration.ofSeconds(2);
+    }
+
+    @Getter
+    @Setter
+    public static class Execution {
+        /**
+         * true면 스토어 크롤링·싱크 배치·IGDB 청크를 가상 스레드에서 돌린다 (Java 21).
+         * false면 기존처럼 Reactor boundedElastic 플랫폼 스레드
+         */
+        private boolean virtualThreads = false;
+        /** 가상 스레드 모드에서 동시에 JDBC 를 쓰는 작업 수. 커넥션 풀(Hikari 기본 10)보다 작게 */
+        private int jdbcPermits = 8;
+        /** JDBC 허가를 기다리는 최대 시간 (Hikari connectionTimeout 과 같은 기본값) */
+        private Duration jdbcAcquireTimeout = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Matching {
+        /** 다른 스토어 제목을 Steam 게임으로 볼 최소 trigram 유사도 (0~1, 1이면 정규화 제목이 같아야 함) */
+        private double threshold = 0.6;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Store {
+        private boolean enabled = true;
+        /** 스토어 주소 (테스트에서는 WireMock 주소로 교체) */
+        private String baseUrl;
+        /** 목록과 가격 API 호스트가 다른 스토어(eShop)의 가격 API 주소 */
+        private String apiUrl;
+        /** 이 스토어에서 동시에 요청할 페이지 수 */
+        private int concurrency = 2;
+        private int pageSize;
+        /** 한 번의 크롤링에서 읽을 최대 페이지 수 */
+        private int maxPages;
+        /** 크롤링할 카테고리 ID (PSN 할인 카테고리: 스토어 URL 의 /category/{id}) */
+        private String category;
+        /** PSN GraphQL persisted query 해시 (스토어 웹이 categoryGridRetrieve 에 쓰는 값) */
+        private String queryHash;
+
+        static Store of(String baseUrl, int concurrency, int pageSize, int maxPages) {
+            Store store = new Store();
+            store.baseUrl = baseUrl;
+            store.concurrency = concurrency;
+            store.pageSize = pageSize;
+            store.maxPages = maxPages;
+            return store;
+        }
+
+        Store withApiUrl(String apiUrl) {
+            this.apiUrl = apiUrl;
+            return this;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Schedule {
+        /** 모든 스토어 가격 크롤링 (Steam 상위 500 + PSN·eShop·DirectG 할인 목록) */
+        private Job prices = new Job("0 0 */6 * * *");
+        /** IGDB 지원 플랫폼 보강 (저장된 모든 Steam 게임) */
+        private Job igdbEnrichment = new Job("0 30 4 * * *");
+        /** 오래된 가격 이력을 아카이브 파일로 이동 */
+        private Job priceArchive = new Job("0 0 5 * * *");
+        /** Steam appdetails 한국어 이름 보강 (이름을 오래 확인하지 않은 게임만) */
+        private Job steamDetails = new Job("0 20 */6 * * *");
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Job {
+        private boolean enabled = true;
+        /** Spring cron 식 (초 분 시 일 월 요일) */
+        private String cron;
+        /** cron 해석 기준 시간대 */
+        private String zone = "Asia/Seoul";
+
+        public Job(String cron) {
+            this.cron = cron;
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        private double permitsPerSecond;
+        private int burst = 1;
+    }
 }
@@ -7,6 +7,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
+
 @Component
 @ConfigurationProperties(prefix = "igdb.client")
 @Validated
@@ -19,4 +21,36 @@ public class IgdbProperties {
     private String secret;
     @NotBlank
     private String baseUrl;
+    /** Twitch App Access Token 발급 주소 */
+    @NotBlank
+    private String tokenUrl = "https://id.twitch.tv/oauth2/token";
+    /** 만료까지 이 시간보다 적게 남은 토큰은 미리 새로 발급받는다 */
+    private Duration tokenRefreshBefore = Duration.ofHours(1);
+
+    private Enrichment enrichment = new Enrichment();
+
+    private Cache cache = new Cache();
+
+    @Getter
+    @Setter
+    public static class Enrichment {
+        /** external_games 한 번에 묻는 Steam appId 수 (IGDB 결과 상한 500 이내) */
+        private int chunkSize = 250;
+        /** 동시에 진행하는 청크 수 (실제 요청 속도는 RateLimiter 가 제한) */
+        private int concurrency = 4;
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+        /** 플랫폼 id→이름 카탈로그 재조회 주기 */
+        private Duration platformTtl = Duration.ofHours(24);
+        /** 카탈로그 조회가 실패하면 이 시간 동안은 다시 읽지 않는다 */
+        private Duration platformRetryBackoff = Duration.ofMinutes(1);
+        /** 제목→IGDB 게임 캐시 최대 항목 수 */
+        private long titleMaxSize = 10_000;
+        private Duration titleTtl = Duration.ofDays(7);
+        /** 검색 결과가 없던 제목을 다시 묻지 않는 기간 */
+        private Duration negativeTtl = Duration.ofHours(6);
+    }
 }
\ No newline at end of file
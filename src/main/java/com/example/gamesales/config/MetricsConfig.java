@@ -0,0 +1,119 @@
+package com.example.gamesales.config;
+
+import com.example.gamesales.scheduler.CrawlerScheduler;
+import com.example.gamesales.service.IgdbCache;
+import com.example.gamesales.service.PriceAlertEngine;
+import com.example.gamesales.util.CrawlExecution;
+import com.example.gamesales.util.HttpResilience;
+import com.example.gamesales.util.RateLimiter;
+import com.example.gamesales.util.ResponseCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 크롤러 구성요소가 모아 두는 통계(stats())를 Micrometer 에 등록한다. /actuator/prometheus 로 나간다.
+ * 요청 단위 타이머·카운터는 {@link com.example.gamesales.util.CrawlerMetrics} 가 직접 기록한다.
+ *
+ * 호스트별로 계측이 늘어나는 구성요소는 스스로 bindMeters 를 갖고, 나머지는 여기서 stats() 를 읽는 meter 를 만든다.
+ * 값은 scrape 할 때마다 stats() 에서 다시 읽는다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /** 호스트별 재시도·회로 차단기·타임아웃 */
+    @Bean
+    public MeterBinder httpResilienceMeters(HttpResilience httpResilience) {
+        return httpResilience::bindMeters;
+    }
+
+    /** 호스트별 요청 제한: 토큰·대기·거절 */
+    @Bean
+    public MeterBinder rateLimiterMeters(RateLimiter rateLimiter) {
+        return rateLimiter::bindMeters;
+    }
+
+    /** IGDB 제목 캐시 hit/miss/eviction 과 플랫폼 카탈로그 */
+    @Bean
+    public MeterBinder igdbCacheMeters(IgdbCache igdbCache) {
+        return igdbCache::bindMeters;
+    }
+
+    /** 조건부 요청(ETag/Last-Modified) 응답 캐시 */
+    @Bean
+    public MeterBinder responseCacheMeters(ResponseCache responseCache) {
+        return registry -> {
+            FunctionCounter.builder("crawler.response.cache.misses", responseCache, c -> c.stats().misses())
+                    .register(registry);
+            FunctionCounter.builder("crawler.response.cache.revalidated", responseCache, c -> c.stats().revalidated())
+                    .register(registry);
+            FunctionCounter.builder("crawler.response.cache.fetched", responseCache, c -> c.stats().bytesFetched())
+                    .baseUnit(BaseUnits.BYTES)
+                    .register(registry);
+            FunctionCounter.builder("crawler.response.cache.saved", responseCache, c -> c.stats().bytesSaved())
+                    .baseUnit(BaseUnits.BYTES)
+                    .register(registry);
+        };
+    }
+
+    /** 작업별 실행·실패·건너뜀과 마지막 실행 결과 (tag job) */
+    @Bean
+    public MeterBinder crawlerSchedulerMeters(CrawlerScheduler scheduler) {
+        return registry -> scheduler.stats().keySet().forEach(job -> {
+            FunctionCounter.builder("crawler.job.runs", scheduler, s -> s.stats().get(job).runs())
+                    .tag("job", job)
+                    .register(registry);
+            FunctionCounter.builder("crawler.job.failures", scheduler, s -> s.stats().get(job).failures())
+                    .tag("job", job)
+                    .register(registry);
+            FunctionCounter.builder("crawler.job.skipped", scheduler, s -> s.stats().get(job).skipped())
+                    .tag("job", job)
+                    .register(registry);
+            Gauge.builder("crawler.job.running", scheduler, s -> s.stats().get(job).running() ? 1 : 0)
+                    .tag("job", job)
+                    .register(registry);
+            TimeGauge.builder("crawler.job.last.duration", scheduler, TimeUnit.MILLISECONDS, s -> {
+                        CrawlerScheduler.JobRun last = s.stats().get(job).lastRun();
+                        return last == null ? 0 : last.duration().toMillis();
+                    })
+                    .tag("job", job)
+                    .register(registry);
+            Gauge.builder("crawler.job.last.rows", scheduler, s -> {
+                        CrawlerScheduler.JobRun last = s.stats().get(job).lastRun();
+                        return last == null ? 0 : last.rows();
+                    })
+                    .tag("job", job)
+                    .register(registry);
+        });
+    }
+
+    /** JDBC 작업 동시 실행 제한 (가상 스레드 모드에서만 의미가 있다) */
+    @Bean
+    public MeterBinder crawlExecutionMeters(CrawlExecution execution) {
+        return registry -> {
+            Gauge.builder("crawler.execution.virtual.threads", execution, e -> e.stats().virtualThreads() ? 1 : 0)
+                    .register(registry);
+            Gauge.builder("crawler.jdbc.permits", execution, e -> e.stats().jdbcPermits()).register(registry);
+            Gauge.builder("crawler.jdbc.in.use", execution, e -> e.stats().inUse()).register(registry);
+            Gauge.builder("crawler.jdbc.waiting", execution, e -> e.stats().waiting()).register(registry);
+        };
+    }
+
+    /** 가격 알림: 관심 목록 크기, 평가한 가격 변경, 보낸 알림 */
+    @Bean
+    public MeterBinder priceAlertMeters(PriceAlertEngine alertEngine) {
+        return registry -> {
+            Gauge.builder("crawler.alerts.watches", alertEngine, e -> e.stats().watches()).register(registry);
+            Gauge.builder("crawler.alerts.games", alertEngine, e -> e.stats().games()).register(registry);
+            FunctionCounter.builder("crawler.alerts.evaluated", alertEngine, e -> e.stats().evaluatedChanges())
+                    .register(registry);
+            FunctionCounter.builder("crawler.alerts.sent", alertEngine, e -> e.stats().alerts()).register(registry);
+        };
+    }
+}
@@ -1,15 +1,35 @@
 package com.example.gamesales.config;
 
+import com.example.gamesales.util.HttpResilience;
+import com.example.gamesales.util.RateLimiter;
+import com.example.gamesales.util.ResponseCache;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.WebClient;
 
 @Configuration
 public class WebClientConfig {
+
+    /**
+     * 주입받는 모든 WebClient.Builder 에 공유 커넥션 풀·타임아웃·재시도·회로 차단기를 붙인다.
+     * 이 필터가 가장 바깥이므로 클라이언트마다 붙이는 RateLimiter 필터는 재시도 요청에도 적용된다.
+     */
+    @Bean
+    public WebClientCustomizer resilientWebClientCustomizer(HttpResilience httpResilience) {
+        return httpResilience::customize;
+    }
+
+    /**
+     * 응답 캐시는 요청 제한 뒤(가장 안쪽)에 붙인다. 304 도 요청 한 번이므로 제한은 그대로 받는다.
+     */
     @Bean
-    public WebClient steamWebClient(WebClient.Builder builder) {
+    public WebClient steamWebClient(WebClient.Builder builder, CrawlerConfig crawlerConfig, RateLimiter rateLimiter,
+                                    ResponseCache responseCache) {
         return builder
-                .baseUrl("https://store.steampowered.com")  // 호스트 지정
+                .baseUrl(crawlerConfig.getSteam().getBaseUrl())  // 호스트 지정
+                .filter(rateLimiter.filter())
+                .filter(responseCache.filter())
                 .codecs(c -> c.defaultCodecs().maxInMemorySize(16 * 1024 * 1024))
                 .build();
     }
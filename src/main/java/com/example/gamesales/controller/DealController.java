@@ -0,0 +1,62 @@
+package com.example.gamesales.controller;
+
+import com.example.gamesales.dto.DealResponse;
+import com.example.gamesales.dto.PriceDto;
+import com.example.gamesales.service.DealQueryService;
+import com.example.gamesales.service.DealsIndex;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 현재 할인·플랫폼별 게임 읽기 API.
+ * limit 은 1~{@value DealQueryService#MAX_LIMIT} 으로 잘린다.
+ */
+@RestController
+@RequestMapping("/api")
+public class DealController {
+
+    private final DealQueryService dealQueryService;
+    private final DealsIndex dealsIndex;
+
+    public DealController(DealQueryService dealQueryService, DealsIndex dealsIndex) {
+        this.dealQueryService = dealQueryService;
+        this.dealsIndex = dealsIndex;
+    }
+
+    /** GET /api/deals?service=Steam&limit=20 */
+    @GetMapping("/deals")
+    public List<DealResponse> topDiscounts(@RequestParam(defaultValue = "Steam") String service,
+                                           @RequestParam(defaultValue = "20") int limit) {
+        return dealQueryService.topDiscounts(service, limit);
+    }
+
+    /**
+     * GET /api/deals/hot?sort=discount|price|ranking&platform=PlayStation 5&service=Steam&limit=20
+     * 마지막 크롤링 결과로 만든 메모리 인덱스에서 바로 답한다 (DB 조회 없음).
+     */
+    @GetMapping("/deals/hot")
+    public List<PriceDto> hotDeals(@RequestParam(defaultValue = "discount") String sort,
+                                   @RequestParam(required = false) String platform,
+                                   @RequestParam(defaultValue = "Steam") String service,
+                                   @RequestParam(defaultValue = "20") int limit) {
+        DealsIndex.Sort order;
+        try {
+            order = DealsIndex.Sort.valueOf(sort.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "unknown sort: " + sort);
+        }
+        return dealsIndex.query(service, order, platform, Math.min(limit, DealQueryService.MAX_LIMIT));
+    }
+
+    /** GET /api/games?platform=PlayStation 5&service=Steam&limit=50 */
+    @GetMapping("/games")
+    public List<DealResponse> byPlatform(@RequestParam String platform,
+                                         @RequestParam(defaultValue = "Steam") String service,
+                                         @RequestParam(defaultValue = "50") int limit) {
+        return dealQueryService.byPlatform(service, platform, limit);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.gamesales.controller;
+
+import com.example.gamesales.dto.DailyPrice;
+import com.example.gamesales.dto.PriceHistoryPage;
+import com.example.gamesales.service.PriceHistoryService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 게임 하나의 가격 이력 API. 목록은 커서 페이지, 차트는 일별로 줄인 값을 쓴다.
+ */
+@RestController
+@RequestMapping("/api/games/{appId}/prices")
+public class PriceHistoryController {
+
+    private final PriceHistoryService priceHistoryService;
+
+    public PriceHistoryController(PriceHistoryService priceHistoryService) {
+        this.priceHistoryService = priceHistoryService;
+    }
+
+    /** GET /api/games/{appId}/prices?service=Steam&limit=100&cursor=... (최근 순) */
+    @GetMapping
+    public PriceHistoryPage history(@PathVariable int appId,
+                                    @RequestParam(defaultValue = "Steam") String service,
+                                    @RequestParam(required = false) String cursor,
+                                    @RequestParam(defaultValue = "100") int limit) {
+        try {
+            return priceHistoryService.page(appId, service, cursor, limit)
+                    .orElseThrow(() -> unknownApp(appId));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /** GET /api/games/{appId}/prices/daily?service=Steam&from=2024-01-01&to=2024-12-31 (기본: 최근 1년) */
+    @GetMapping("/daily")
+    public List<DailyPrice> daily(@PathVariable int appId,
+                                  @RequestParam(defaultValue = "Steam") String service,
+                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1);
+        try {
+            return priceHistoryService.daily(appId, service, start, end)
+                    .orElseThrow(() -> unknownApp(appId));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private static ResponseStatusException unknownApp(int appId) {
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, "unknown appId " + appId);
+    }
+}
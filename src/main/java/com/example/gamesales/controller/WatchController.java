@@ -0,0 +1,47 @@
+package com.example.gamesales.controller;
+
+import com.example.gamesales.dto.WatchRequest;
+import com.example.gamesales.dto.WatchResponse;
+import com.example.gamesales.service.PriceAlertEngine;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+/**
+ * 가격 알림 구독 API. 알림은 크롤링 적재 후 가격이 목표를 넘어선 게임에만 나간다({@link PriceAlertEngine}).
+ */
+@RestController
+@RequestMapping("/api/watches")
+public class WatchController {
+
+    private final PriceAlertEngine alertEngine;
+
+    public WatchController(PriceAlertEngine alertEngine) {
+        this.alertEngine = alertEngine;
+    }
+
+    /** POST /api/watches {"subscriber":"...","appId":1145360,"targetPrice":15000,"targetDiscountPercent":50} */
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public WatchResponse create(@Valid @RequestBody WatchRequest request) {
+        return WatchResponse.from(alertEngine.addWatch(request));
+    }
+
+    /** GET /api/watches?subscriber=... */
+    @GetMapping
+    public List<WatchResponse> list(@RequestParam String subscriber) {
+        return alertEngine.watches(subscriber).stream().map(WatchResponse::from).toList();
+    }
+
+    /** DELETE /api/watches/{id} */
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void delete(@PathVariable long id) {
+        if (!alertEngine.removeWatch(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "unknown watch " + id);
+        }
+    }
+}
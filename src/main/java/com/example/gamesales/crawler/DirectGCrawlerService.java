@@ -1,4 +1,123 @@
 package com.example.gamesales.crawler;
 
-public class DirectGCrawlerService {
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.dto.StorePage;
+import com.example.gamesales.dto.StorePrice;
+import com.example.gamesales.util.CrawlerMetrics;
+import com.example.gamesales.util.JsoupUtil;
+import com.example.gamesales.util.RateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntPredicate;
+
+/**
+ * 다이렉트 게임즈(DirectG) 할인 목록 크롤러.
+ * 목록 HTML 은 전체 건수를 주지 않으므로 maxPages 까지 concurrency 개씩 동시에 요청하고, 빈 페이지가 나오면 멈춘다.
+ * 랭킹은 (페이지 - 1) × pageSize + 페이지 안 위치라 앞 페이지를 건너뛰고 이어 받아도 같다.
+ */
+@Slf4j
+@Service
+public class DirectGCrawlerService implements StoreCrawler {
+
+    public static final String SERVICE_NAME = "DirectG";
+
+    private final WebClient webClient;
+    private final CrawlerConfig.Store store;
+
+    public DirectGCrawlerService(WebClient.Builder webClientBuilder,
+                                 CrawlerConfig crawlerConfig,
+                                 RateLimiter rateLimiter) {
+        this.store = crawlerConfig.getStores().get("directg");
+        this.webClient = webClientBuilder.clone()
+                .baseUrl(store.getBaseUrl())
+                .filter(rateLimiter.filter())
+                .build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public boolean enabled() {
+        return store.isEnabled();
+    }
+
+    @Override
+    public Flux<StorePrice> crawl() {
+        return crawlPages(page -> false).flatMapIterable(StorePage::prices);
+    }
+
+    /**
+     * 목록 페이지 단위 체크포인트 (페이지 번호는 1부터). 실패한 페이지는 건너뛰고 나머지를 다 내보낸 뒤 오류로 끝낸다.
+     * 빈 페이지에서 멈출 때 남은 요청을 취소하므로, 지연 오류(delayError)가 아니라 실패를 따로 모아 마지막에 낸다.
+     */
+    @Override
+    public Flux<StorePage> crawlPages(IntPredicate completed) {
+        return Flux.defer(() -> {
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            return Flux.range(1, Math.max(0, store.getMaxPages()))
+                    .filter(page -> !completed.test(page))
+                    .flatMapSequential(page -> fetchPage(page)
+                                    .map(rows -> new StorePage(SERVICE_NAME, page, ranked(page, rows)))
+                                    .onErrorResume(e -> {
+                                        log.warn("DirectG 페이지 실패: page={}, error={}", page, e.toString());
+                                        failure.compareAndSet(null, e);
+                                        return Mono.empty();
+                                    }),
+                            Math.max(1, store.getConcurrency()))
+                    // 빈 페이지가 목록 끝. 이미 나간 뒤 페이지 요청은 취소된다
+                    .takeWhile(page -> !page.prices().isEmpty())
+                    .concatWith(Mono.defer(() -> failure.get() == null ? Mono.empty() : Mono.error(failure.get())));
+        });
+    }
+
+    private List<StorePrice> ranked(int page, List<StorePrice> rows) {
+        int base = (page - 1) * store.getPageSize();
+        List<StorePrice> ranked = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            StorePrice row = rows.get(i);
+            ranked.add(new StorePrice(SERVICE_NAME, row.productId(), row.title(), null,
+                    row.initialPrice(), row.finalPrice(), row.discountPercent(), base + i + 1));
+        }
+        return ranked;
+    }
+
+    private Mono<List<StorePrice>> fetchPage(int page) {
+        Mono<String> html = webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/game/game_sale.html")
+                        .queryParam("page", page)
+                        .build())
+                .retrieve()
+                .bodyToMono(String.class);
+        return CrawlerMetrics.timePageFetch(SERVICE_NAME, html)
+                .map(body -> CrawlerMetrics.timeParse(SERVICE_NAME, () -> parsePage(body)));
+    }
+
+    /** 목록 한 페이지. 랭킹은 crawlPages() 에서 페이지 번호로 다시 매긴다 */
+    static List<StorePrice> parsePage(String html) {
+        List<StorePrice> rows = new ArrayList<>();
+        for (Element item : Jsoup.parse(html).select("li.sale-item[data-product-no]")) {
+            int initialPrice = JsoupUtil.digitsOf(item.selectFirst(".price-origin"));
+            int finalPrice = JsoupUtil.digitsOf(item.selectFirst(".price-sale"));
+            if (initialPrice <= 0) continue;
+            if (finalPrice <= 0) finalPrice = initialPrice;
+
+            Element title = item.selectFirst(".title");
+            rows.add(new StorePrice(SERVICE_NAME, item.attr("data-product-no"), title == null ? "" : title.text(), null,
+                    initialPrice, finalPrice, JsoupUtil.digitsOf(item.selectFirst(".sale-percent")), 0));
+        }
+        return rows;
+    }
 }
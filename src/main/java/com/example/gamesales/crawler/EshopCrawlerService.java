@@ -1,4 +1,130 @@
 package com.example.gamesales.crawler;
 
-public class EshopCrawlerService {
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.dto.StorePage;
+import com.example.gamesales.dto.StorePrice;
+import com.example.gamesales.util.CrawlerMetrics;
+import com.example.gamesales.util.RateLimiter;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.IntPredicate;
+
+/**
+ * 닌텐도 eShop(한국) 세일 목록 크롤러.
+ * 세일 검색(ec.nintendo.com)으로 title id 를 한 페이지씩 받고, 페이지마다 가격 API(api.ec.nintendo.com)를
+ * ids 묶음 한 번으로 호출해 합친다. 두 호스트는 요청 제한을 따로 받는다.
+ */
+@Service
+public class EshopCrawlerService implements StoreCrawler {
+
+    public static final String SERVICE_NAME = "eShop";
+
+    private final WebClient searchClient;
+    private final WebClient priceClient;
+    private final CrawlerConfig.Store store;
+
+    public EshopCrawlerService(WebClient.Builder webClientBuilder,
+                               CrawlerConfig crawlerConfig,
+                               RateLimiter rateLimiter) {
+        this.store = crawlerConfig.getStores().get("eshop");
+        this.searchClient = webClientBuilder.clone()
+                .baseUrl(store.getBaseUrl())
+                .filter(rateLimiter.filter())
+                .build();
+        this.priceClient = webClientBuilder.clone()
+                .baseUrl(store.getApiUrl())
+                .filter(rateLimiter.filter())
+                .build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public boolean enabled() {
+        return store.isEnabled();
+    }
+
+    @Override
+    public Flux<StorePrice> crawl() {
+        return crawlPages(page -> false).flatMapIterable(StorePage::prices);
+    }
+
+    /** 세일 목록 페이지 단위 체크포인트. 랭킹은 목록 offset 기준이라 앞 페이지를 건너뛰어도 같다 */
+    @Override
+    public Flux<StorePage> crawlPages(IntPredicate completed) {
+        return StorePages.fetchPages(SERVICE_NAME, this::fetchPage, page -> page.total, page -> page.prices,
+                store.getPageSize(), store.getMaxPages(), store.getConcurrency(), completed);
+    }
+
+    /** 세일 목록 한 페이지 + 그 페이지 가격 */
+    private Mono<Page> fetchPage(int offset) {
+        return searchClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/KR/ko/search/sales")
+                        .queryParam("count", store.getPageSize())
+                        .queryParam("offset", offset)
+                        .build())
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .flatMap(sales -> {
+                    JsonNode contents = sales.path("contents");
+                    if (contents.isEmpty()) return Mono.just(new Page(sales.path("total").asInt(), List.of()));
+                    return fetchPrices(contents)
+                            .map(prices -> new Page(sales.path("total").asInt(),
+                                    CrawlerMetrics.timeParse(SERVICE_NAME, () -> join(contents, prices, offset))));
+                });
+    }
+
+    private Mono<JsonNode> fetchPrices(JsonNode contents) {
+        StringJoiner ids = new StringJoiner(",");
+        contents.forEach(c -> ids.add(c.path("id").asText()));
+        return priceClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/v1/price")
+                        .queryParam("country", "KR")
+                        .queryParam("lang", "ko")
+                        .queryParam("ids", ids.toString())
+                        .build())
+                .retrieve()
+                .bodyToMono(JsonNode.class);
+    }
+
+    /** 목록 순서를 유지한 채 가격을 붙인다. 판매 중이 아니거나 가격이 없는 타이틀은 건너뛴다 */
+    static List<StorePrice> join(JsonNode contents, JsonNode priceResponse, int offset) {
+        Map<String, JsonNode> pricesById = new HashMap<>();
+        priceResponse.path("prices").forEach(p -> pricesById.put(p.path("title_id").asText(), p));
+
+        List<StorePrice> prices = new ArrayList<>(contents.size());
+        for (int i = 0; i < contents.size(); i++) {
+            JsonNode content = contents.get(i);
+            String id = content.path("id").asText();
+            JsonNode price = pricesById.get(id);
+            if (price == null || !"onsale".equals(price.path("sales_status").asText())) continue;
+
+            int initialPrice = price.path("regular_price").path("raw_value").asInt();
+            if (initialPrice <= 0) continue;
+            JsonNode discount = price.path("discount_price");
+            int finalPrice = discount.isMissingNode() ? initialPrice : discount.path("raw_value").asInt();
+            int discountPercent = Math.round((initialPrice - finalPrice) * 100f / initialPrice);
+
+            prices.add(new StorePrice(SERVICE_NAME, id, content.path("formal_name").asText(), null,
+                    initialPrice, finalPrice, discountPercent, offset + i + 1));
+        }
+        return prices;
+    }
+
+    private record Page(int total, List<StorePrice> prices) {
+    }
 }
@@ -1,4 +1,127 @@
 package com.example.gamesales.crawler;
 
-public class PsnCrawlerService {
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.dto.StorePage;
+import com.example.gamesales.dto.StorePrice;
+import com.example.gamesales.util.JsoupUtil;
+import com.example.gamesales.util.CrawlerMetrics;
+import com.example.gamesales.util.RateLimiter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * PlayStation Store(한국) 할인 카테고리 크롤러.
+ * 스토어 웹과 같은 GraphQL categoryGridRetrieve(persisted query)를 페이지 단위로 호출한다.
+ * 카테고리 ID 와 쿼리 해시는 스토어 웹에서 바뀔 수 있어 설정(crawler.stores.psn)으로 받는다.
+ */
+@Slf4j
+@Service
+public class PsnCrawlerService implements StoreCrawler {
+
+    public static final String SERVICE_NAME = "PSN";
+
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final CrawlerConfig.Store store;
+
+    public PsnCrawlerService(WebClient.Builder webClientBuilder,
+                             CrawlerConfig crawlerConfig,
+                             RateLimiter rateLimiter,
+                             ObjectMapper objectMapper) {
+        this.store = crawlerConfig.getStores().get("psn");
+        this.objectMapper = objectMapper;
+        this.webClient = webClientBuilder.clone()
+                .baseUrl(store.getBaseUrl())
+                .defaultHeader("x-psn-store-locale-override", "ko-KR")
+                .filter(rateLimiter.filter())
+                .build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public boolean enabled() {
+        return store.isEnabled();
+    }
+
+    @Override
+    public Flux<StorePrice> crawl() {
+        return crawlPages(page -> false).flatMapIterable(StorePage::prices);
+    }
+
+    /** 카테고리 페이지 단위 체크포인트. 랭킹은 카테고리 안의 위치라 앞 페이지를 건너뛰어도 같다 */
+    @Override
+    public Flux<StorePage> crawlPages(IntPredicate completed) {
+        if (isBlank(store.getCategory()) || isBlank(store.getQueryHash())) {
+            log.info("PSN 카테고리/쿼리 해시 미설정 → 건너뜀");
+            return Flux.empty();
+        }
+        return StorePages.fetchPages(SERVICE_NAME, this::fetchPage,
+                grid -> grid.path("pageInfo").path("totalCount").asInt(),
+                grid -> CrawlerMetrics.timeParse(SERVICE_NAME, () -> parseGrid(grid)),
+                store.getPageSize(), store.getMaxPages(), store.getConcurrency(), completed);
+    }
+
+    /** categoryGridRetrieve 한 페이지. data.categoryGridRetrieve 노드를 돌려준다 */
+    private Mono<JsonNode> fetchPage(int offset) {
+        ObjectNode variables = objectMapper.createObjectNode();
+        variables.put("id", store.getCategory());
+        variables.putObject("pageArgs").put("size", store.getPageSize()).put("offset", offset);
+        variables.putNull("sortBy");
+        variables.putArray("filterBy");
+        variables.putArray("facetOptions");
+        ObjectNode extensions = objectMapper.createObjectNode();
+        extensions.putObject("persistedQuery").put("version", 1).put("sha256Hash", store.getQueryHash());
+
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/graphql/v1/op")
+                        .queryParam("operationName", "categoryGridRetrieve")
+                        .queryParam("variables", "{variables}")
+                        .queryParam("extensions", "{extensions}")
+                        // JSON 값은 템플릿 변수로 넘겨야 { } " 까지 인코딩된다
+                        .build(variables.toString(), extensions.toString()))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .map(body -> body.path("data").path("categoryGridRetrieve"));
+    }
+
+    /** 무료 상품과 가격이 없는 상품(예약 전 등)은 건너뛴다. 랭킹은 카테고리 안의 위치 */
+    static List<StorePrice> parseGrid(JsonNode grid) {
+        int offset = grid.path("pageInfo").path("offset").asInt();
+        JsonNode products = grid.path("products");
+        List<StorePrice> prices = new ArrayList<>(products.size());
+        for (int i = 0; i < products.size(); i++) {
+            JsonNode product = products.get(i);
+            JsonNode price = product.path("price");
+            if (price.path("isFree").asBoolean(false)) continue;
+
+            int initialPrice = JsoupUtil.digitsOf(price.path("basePrice").asText(null));
+            if (initialPrice <= 0) continue;
+            int finalPrice = JsoupUtil.digitsOf(price.path("discountedPrice").asText(null));
+            if (finalPrice <= 0) finalPrice = initialPrice;
+
+            prices.add(new StorePrice(SERVICE_NAME, product.path("id").asText(), product.path("name").asText(), null,
+                    initialPrice, finalPrice, JsoupUtil.digitsOf(price.path("discountText").asText(null)),
+                    offset + i + 1));
+        }
+        return prices;
+    }
+
+    private static boolean isBlank(String s) {
+        return s == null || s.isBlank();
+    }
 }
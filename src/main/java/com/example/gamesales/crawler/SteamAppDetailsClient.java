@@ -0,0 +1,142 @@
+package com.example.gamesales.crawler;
+
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.dto.AppDetailsResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Steam appdetails API (/api/appdetails). 검색 페이지의 가격·제목은 목록 표시용이라 가격은 price_overview 로,
+ * 한국어 이름은 l=koreana 상세로 다시 확인한다. 요청은 Steam 공유 WebClient(호스트 요청 제한·재시도)를 그대로 탄다.
+ *
+ * - 가격: 여러 appId 를 한 요청에 받는 것은 filters=price_overview 뿐이므로 batchSize 개씩 묶어 concurrency 개까지 동시에 보낸다.
+ *   price-refresh-after 안에 확인한 appId 는 요청에서 빼고 지난 결과를 쓴다.
+ * - 이름: 상세(filters=basic)는 appId 하나씩만 받는다.
+ */
+@Slf4j
+@Component
+public class SteamAppDetailsClient {
+
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final CrawlerConfig.SteamDetails config;
+    /** appId 별 마지막 price_overview 확인 결과. 가격이 없던 게임(무료·판매 중지)은 price 가 null */
+    private final Map<Integer, CheckedPrice> checkedPrices = new ConcurrentHashMap<>();
+
+    public SteamAppDetailsClient(WebClient steamWebClient, ObjectMapper objectMapper, CrawlerConfig crawlerConfig) {
+        this.webClient = steamWebClient;
+        this.objectMapper = objectMapper;
+        this.config = crawlerConfig.getSteamDetails();
+    }
+
+    /** 크롤링한 가격을 price_overview 로 덮어쓸지 */
+    public boolean pricesEnabled() {
+        return config.isPrices();
+    }
+
+    /**
+     * appId → 가격 (원 단위로 바꾼 price_overview). 무료·판매 중지·지역 제한으로 가격이 없는 appId 와
+     * 요청이 실패한 묶음의 appId 는 빠지므로, 호출하는 쪽은 빠진 appId 에 원래 가격을 쓴다.
+     */
+    public Mono<Map<Integer, AppDetailsResponse.PriceOverview>> prices(Collection<Integer> appIds) {
+        Instant now = Instant.now();
+        Instant freshAfter = now.minus(config.getPriceRefreshAfter());
+        Map<Integer, AppDetailsResponse.PriceOverview> result = new ConcurrentHashMap<>();
+        List<Integer> due = new ArrayList<>();
+        for (Integer appId : new LinkedHashSet<>(appIds)) {
+            CheckedPrice checked = checkedPrices.get(appId);
+            if (checked == null || checked.checkedAt().isBefore(freshAfter)) {
+                due.add(appId);
+            } else if (checked.price() != null) {
+                result.put(appId, checked.price());
+            }
+        }
+        if (due.isEmpty()) return Mono.just(result);
+
+        return Flux.fromIterable(partition(due, Math.max(1, config.getBatchSize())))
+                .flatMap(batch -> fetch(batch, "price_overview")
+                                .doOnNext(found -> batch.forEach(appId -> {
+                                    AppDetailsResponse.PriceOverview price = wonPrice(found.get(appId));
+                                    checkedPrices.put(appId, new CheckedPrice(price, now));
+                                    if (price != null) result.put(appId, price);
+                                }))
+                                .onErrorResume(e -> {
+                                    log.warn("Steam appdetails 가격 요청 실패: appIds={}, error={}", batch.size(), e.toString());
+                                    return Mono.empty();
+                                }),
+                        Math.max(1, config.getConcurrency()))
+                .then(Mono.fromSupplier(() -> result));
+    }
+
+    /**
+     * 한국어 상세 (name 은 l 언어). 없는 앱·판매 중지·지역 제한이면 empty
+     */
+    public Mono<AppDetailsResponse.Data> details(int appId) {
+        return fetch(List.of(appId), "basic")
+                .mapNotNull(found -> {
+                    AppDetailsResponse response = found.get(appId);
+                    return response == null ? null : response.data();
+                });
+    }
+
+    private Mono<Map<Integer, AppDetailsResponse>> fetch(List<Integer> appIds, String filters) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/appdetails")
+                        .queryParam("appids", appIds.stream().map(String::valueOf).collect(Collectors.joining(",")))
+                        .queryParam("filters", filters)
+                        .queryParam("cc", config.getCountry())
+                        .queryParam("l", config.getLanguage())
+                        .build())
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .map(body -> parse(body, objectMapper));
+    }
+
+    /**
+     * 응답 본문(appId 문자열 → {success, data}) → appId 별 응답. success 가 false 거나 data 가 객체가 아니면 뺀다
+     * (price_overview 필터에서 가격이 없는 게임은 data 가 빈 배열로 온다).
+     */
+    static Map<Integer, AppDetailsResponse> parse(JsonNode body, ObjectMapper objectMapper) {
+        Map<Integer, AppDetailsResponse> found = new HashMap<>();
+        if (body == null || !body.isObject()) return found;
+        body.fields().forEachRemaining(entry -> {
+            JsonNode node = entry.getValue();
+            if (!node.path("success").asBoolean(false) || !node.path("data").isObject()) return;
+            try {
+                found.put(Integer.parseInt(entry.getKey()), objectMapper.convertValue(node, AppDetailsResponse.class));
+            } catch (IllegalArgumentException e) {
+                log.debug("Steam appdetails 항목 건너뜀: appId={}, error={}", entry.getKey(), e.toString());
+            }
+        });
+        return found;
+    }
+
+    /** price_overview 는 통화 최소 단위(원 × 100)라 검색 페이지와 같은 원 단위로 바꾼다 */
+    private static AppDetailsResponse.PriceOverview wonPrice(AppDetailsResponse response) {
+        if (response == null || response.data().priceOverview() == null) return null;
+        AppDetailsResponse.PriceOverview p = response.data().priceOverview();
+        return new AppDetailsResponse.PriceOverview(p.initial() / 100, p.finalPrice() / 100, p.discountPercent());
+    }
+
+    private static <T> List<List<T>> partition(List<T> list, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += size) {
+            chunks.add(list.subList(i, Math.min(list.size(), i + size)));
+        }
+        return chunks;
+    }
+
+    private record CheckedPrice(AppDetailsResponse.PriceOverview price, Instant checkedAt) {
+    }
+}
@@ -1,163 +1,221 @@
 package com.example.gamesales.crawler;
 
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.dto.AppDetailsResponse;
 import com.example.gamesales.dto.PriceDto;
-import com.example.gamesales.model.Game;
-import com.example.gamesales.model.GamePrice;
-import com.example.gamesales.repository.GamePriceRepository;
-import com.example.gamesales.repository.GameRepository;
+import com.example.gamesales.dto.StorePage;
+import com.example.gamesales.dto.StorePrice;
+import com.example.gamesales.service.DealsIndex;
+import com.example.gamesales.service.GamePriceIngestService;
+import com.example.gamesales.util.CrawlerMetrics;
+import com.example.gamesales.util.ResponseCache;
+import com.example.gamesales.util.SteamSearchRowParser;
+import com.example.gamesales.util.SteamSearchRowStreamParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.transaction.Transactional;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.concurrent.Queues;
 
-import java.time.LocalDateTime;
-import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntPredicate;
 
+@Slf4j
 @Service
-public class SteamCrawlerService {
+public class SteamCrawlerService implements StoreCrawler {
 
     private final WebClient webClient;
-    private final GameRepository gameRepo;
-    private final GamePriceRepository priceRepo;
+    private final GamePriceIngestService ingestService;
     private final ObjectMapper objectMapper;
+    private final CrawlerConfig crawlerConfig;
+    private final SteamSearchRowParser rowParser;
+    private final SteamSearchRowStreamParser rowStreamParser;
+    private final DealsIndex dealsIndex;
+    private final SteamAppDetailsClient appDetails;
+    /** start 별 마지막으로 파싱한 페이지. 본문 해시가 같으면 다시 파싱하지 않는다 */
+    private final Map<Integer, ParsedPage> parsedPages = new ConcurrentHashMap<>();
+
+    public static final String SERVICE_NAME = "Steam";
+    private static final int PAGE_SIZE = 50;
+    private static final int MAX_RESULTS = 500;
 
     public SteamCrawlerService(
             WebClient steamWebClient,
-            GameRepository gameRepo,
-            GamePriceRepository priceRepo,
-            ObjectMapper objectMapper
+            GamePriceIngestService ingestService,
+            ObjectMapper objectMapper,
+            CrawlerConfig crawlerConfig,
+            SteamSearchRowParser rowParser,
+            SteamSearchRowStreamParser rowStreamParser,
+            DealsIndex dealsIndex,
+            SteamAppDetailsClient appDetails
     ) {
         this.webClient = steamWebClient;
-        this.gameRepo = gameRepo;
-        this.priceRepo = priceRepo;
+        this.ingestService = ingestService;
         this.objectMapper = objectMapper;
+        this.crawlerConfig = crawlerConfig;
+        this.rowParser = rowParser;
+        this.rowStreamParser = rowStreamParser;
+        this.dealsIndex = dealsIndex;
+        this.appDetails = appDetails;
     }
 
-    public void fetchAndSaveTop500PaidGamesFromStorePage() {
-        List<PriceDto> results = new ArrayList<>();
-        int ranking = 1;
-
-        for (int i = 0; i < 500; i += 50) {
-            int start = i;
-            try {
-                String html = webClient.get()
-                        .uri(uriBuilder -> uriBuilder
-                                // • scheme()와 host() 호출 제거
-                                .path("/search/")
-                                .queryParam("filter", "topsellers")
-                                .queryParam("cc", "kr")
-                                .queryParam("category1", "998")
-                                .queryParam("start", start)
-                                .queryParam("count", 50)
-                                .build()
-                        )
-                        .retrieve()
-                        .bodyToMono(String.class)
-                        .block();
-
-                Document doc = Jsoup.parse(html);
-                Elements elements = doc.select(".search_result_row");
-
-                for (Element el : elements) {
-                    String href = el.attr("href");
-                    Matcher matcher = Pattern.compile("/app/(\\d+)/").matcher(href);
-                    if (!matcher.find()) {
-                        System.out.println("❌ appId 추출 실패: " + href);
-                        continue;
-                    }
-
-                    int appId = Integer.parseInt(matcher.group(1));
-                    String title = el.select(".title").text();
-
-                    Element discountBlock = el.selectFirst(".search_discount_block");
-                    if (discountBlock == null) {
-                        System.out.printf("⚠️ %s (appId=%d)는 discount block 없음, 스킵%n", title, appId);
-                        continue;
-                    }
-
-                    Element finalPriceEl = discountBlock.selectFirst(".discount_final_price");
-                    Element originalPriceEl = discountBlock.selectFirst(".discount_original_price");
-                    Element discountPercentEl = discountBlock.selectFirst(".discount_pct");
-
-                    if (finalPriceEl == null) {
-                        System.out.printf("⚠️ %s (appId=%d)는 priceEl null, 원본 HTML:\n%s%n", title, appId, el.html());
-                        continue;
-                    }
-
-                    String finalPriceText = finalPriceEl.text().replaceAll("[^\\d]", "");
-                    int finalPrice = finalPriceText.isBlank() ? 0 : Integer.parseInt(finalPriceText);
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
 
-                    int initialPrice = originalPriceEl != null
-                            ? Integer.parseInt(originalPriceEl.text().replaceAll("[^\\d]", ""))
-                            : finalPrice;
+    /** 상위 500개 유료 게임. Steam 은 appId 를 직접 알려 주므로 제목 매칭이 필요 없다 */
+    @Override
+    public Flux<StorePrice> crawl() {
+        return fetchTop500PaidGames().map(SteamCrawlerService::toStorePrice);
+    }
 
-                    int discountPercent = discountPercentEl != null
-                            ? Integer.parseInt(discountPercentEl.text().replaceAll("[^\\d]", ""))
-                            : 0;
+    /**
+     * 검색 페이지 10개를 체크포인트 단위로 내보낸다. 랭킹은 페이지 offset 으로 정해지므로 앞 페이지를 건너뛰어도 같다.
+     * 실패한 페이지가 있으면 나머지 페이지를 다 내보낸 뒤 오류로 끝나, 실행이 미완료로 남고 다음 실행이 그 페이지만 가져온다.
+     */
+    @Override
+    public Flux<StorePage> crawlPages(IntPredicate completed) {
+        int concurrency = Math.max(1, crawlerConfig.getSteam().getPageConcurrency());
+
+        return Flux.range(0, MAX_RESULTS / PAGE_SIZE)
+                .filter(page -> !completed.test(page))
+                .flatMapSequentialDelayError(page -> fetchSearchPage(page * PAGE_SIZE)
+                                .collectList()
+                                .flatMap(this::withAuthoritativePrices)
+                                .map(rows -> rows.stream().map(SteamCrawlerService::toStorePrice).toList())
+                                .map(prices -> new StorePage(SERVICE_NAME, page, prices))
+                                .doOnError(e -> log.warn("Steam 검색 페이지 실패: start={}, error={}",
+                                        page * PAGE_SIZE, e.toString())),
+                        concurrency, Queues.XS_BUFFER_SIZE);
+    }
 
-                    if (finalPrice == 0) {
-                        System.out.printf("⚠️ %s (appId=%d)는 무료, 스킵%n", title, appId);
-                        continue;
-                    }
+    private static StorePrice toStorePrice(PriceDto dto) {
+        return new StorePrice(SERVICE_NAME, String.valueOf(dto.appId()), dto.englishName(), dto.appId(),
+                dto.initialPrice(), dto.finalPrice(), dto.discountPercent(), dto.ranking());
+    }
 
-                    System.out.printf("✅ 추출 성공: %s (appId=%d, finalPrice=%d, initialPrice=%d, discount=%d%%, rank=%d)%n",
-                            title, appId, finalPrice, initialPrice, discountPercent, ranking);
+    /**
+     * 상위 500개 유료 게임을 크롤링해 저장하고, 저장이 끝나면 메모리 할인 인덱스를 새 결과로 교체한다.
+     *
+     * @return 저장한 가격 행 수
+     */
+    public int fetchAndSaveTop500PaidGamesFromStorePage() {
+        List<PriceDto> results = fetchTop500PaidGames()
+                .collectList()
+                .block();
 
-                    results.add(new PriceDto(appId, title, title, initialPrice, finalPrice, discountPercent, ranking++));
-                    if (results.size() >= 500) break;
-                }
+        savePricesWithRanking(results);
+        if (results != null && !results.isEmpty()) {
+            dealsIndex.rebuild(SERVICE_NAME, results);
+        }
+        return results == null ? 0 : results.size();
+    }
 
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
+    /**
+     * 검색 페이지 10개를 pageConcurrency 개씩 동시에 요청하고, 도착한 페이지부터 바로 파싱한다.
+     * flatMapSequential 이 페이지 순서대로 결과를 내보내므로 랭킹(페이지 offset + 행 위치)은 항상 같다.
+     * 한 페이지가 실패해도 그 페이지만 비고 나머지 페이지는 계속 진행된다.
+     */
+    public Flux<PriceDto> fetchTop500PaidGames() {
+        int concurrency = Math.max(1, crawlerConfig.getSteam().getPageConcurrency());
+
+        return Flux.range(0, MAX_RESULTS / PAGE_SIZE)
+                .map(page -> page * PAGE_SIZE)
+                .flatMapSequential(start -> fetchSearchPage(start)
+                                .collectList()
+                                .flatMap(this::withAuthoritativePrices)
+                                .flatMapIterable(rows -> rows)
+                                .onErrorResume(e -> {
+                                    log.warn("Steam 검색 페이지 실패: start={}, error={}", start, e.toString());
+                                    return Flux.empty();
+                                }),
+                        concurrency)
+                .take(MAX_RESULTS);
+    }
 
-            if (results.size() >= 500) break;
+    /**
+     * 검색 페이지 하나를 가져와 행 단위로 내보낸다.
+     * streaming 모드에서는 본문을 DataBuffer 로 받아 행이 닫히는 즉시 내보내고(본문을 모으는 응답 캐시는 건너뛴다),
+     * 기본 모드에서는 본문 전체를 String 으로 받은 뒤 Jsoup DOM 으로 파싱한다. 응답 캐시가 붙인 본문 해시가
+     * 지난번과 같으면(304 재검증 포함) 파싱을 건너뛰고 지난 결과를 그대로 쓴다.
+     */
+    private Flux<PriceDto> fetchSearchPage(int start) {
+        boolean streaming = crawlerConfig.getSteam().isStreaming();
+        WebClient.RequestHeadersSpec<?> request = webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        // • scheme()와 host() 호출 제거
+                        .path("/search/")
+                        .queryParam("filter", "topsellers")
+                        .queryParam("cc", "kr")
+                        .queryParam("category1", "998")
+                        .queryParam("start", start)
+                        .queryParam("count", PAGE_SIZE)
+                        .build()
+                );
+        if (streaming) {
+            request = request.attribute(ResponseCache.BYPASS, true);
         }
+        WebClient.ResponseSpec response = request.retrieve();
 
-        savePricesWithRanking(results);
+        if (streaming) {
+            // 받으면서 파싱하므로 파싱 시간은 페이지 요청 시간에 들어간다
+            return CrawlerMetrics.timePageFetch(SERVICE_NAME,
+                    rowStreamParser.parse(response.bodyToFlux(DataBuffer.class), start));
+        }
+        return CrawlerMetrics.timePageFetch(SERVICE_NAME, response.toEntity(String.class))
+                .flatMapIterable(entity -> {
+                    String hash = entity.getHeaders().getFirst(ResponseCache.CONTENT_HASH);
+                    ParsedPage cached = parsedPages.get(start);
+                    if (hash != null && cached != null && hash.equals(cached.hash())) {
+                        log.debug("Steam 검색 페이지 변경 없음, 파싱 생략: start={}, rows={}", start, cached.rows().size());
+                        return cached.rows();
+                    }
+                    List<PriceDto> rows = parseSearchPage(entity.getBody() == null ? "" : entity.getBody(), start);
+                    if (hash != null) parsedPages.put(start, new ParsedPage(hash, List.copyOf(rows)));
+                    return rows;
+                });
     }
 
+    /**
+     * 검색 페이지의 가격은 목록 표시용이라 번들·지역 가격이 섞일 수 있다. crawler.steam-details.prices 가 켜져 있으면
+     * 페이지 한 장(50개)을 price_overview 요청 하나로 다시 확인해 덮어쓴다. 가격을 받지 못한 행(무료 전환·판매 중지·
+     * 요청 실패)은 검색 페이지 가격을 그대로 쓴다. 페이지 안에서 덮어쓰므로 저장·이력·알림·할인 인덱스가 모두 같은 가격을 본다.
+     */
+    private Mono<List<PriceDto>> withAuthoritativePrices(List<PriceDto> rows) {
+        if (!appDetails.pricesEnabled() || rows.isEmpty()) return Mono.just(rows);
+        return appDetails.prices(rows.stream().map(PriceDto::appId).toList())
+                .map(prices -> rows.stream()
+                        .map(row -> {
+                            AppDetailsResponse.PriceOverview price = prices.get(row.appId());
+                            if (price == null) return row;
+                            return new PriceDto(row.appId(), row.englishName(), row.koreanName(),
+                                    price.initial(), price.finalPrice(), price.discountPercent(), row.ranking());
+                        })
+                        .toList());
+    }
 
+    /**
+     * 검색 결과 한 페이지를 파싱한다. 랭킹은 start + 페이지 내 행 위치(1부터)로 매긴다.
+     */
+    List<PriceDto> parseSearchPage(String html, int start) {
+        List<PriceDto> rows = CrawlerMetrics.timeParse(SERVICE_NAME, () -> rowParser.parsePage(html, start));
+        log.debug("Steam 검색 페이지 파싱: start={}, rows={}", start, rows.size());
+        return rows;
+    }
 
-
-    @Transactional
+    /**
+     * 순위가 매겨진 크롤링 결과를 벌크 적재 경로로 저장한다.
+     */
     public void savePricesWithRanking(List<PriceDto> dtos) {
-        for (PriceDto dto : dtos) {
-            Game game = gameRepo.findByAppId(dto.appId())
-                    .orElseGet(() -> gameRepo.save(Game.builder()
-                            .appId(dto.appId())
-                            .englishName(dto.englishName())
-                            .koreanName(dto.koreanName())
-                            .normalizedKey(normalizeKey(dto.englishName(), dto.appId()))
-                            .ranking(dto.ranking())
-                            .build()));
-
-            GamePrice gp = GamePrice.builder()
-                    .game(game)
-                    .serviceName("Steam")
-                    .finalPrice(dto.finalPrice())
-                    .discountPercent(dto.discountPercent())
-                    .fetchedAt(LocalDateTime.now())
-                    .build();
-
-            priceRepo.save(gp);
-        }
+        ingestService.ingest(SERVICE_NAME, dtos);
     }
 
-    private String normalizeKey(String input, int appId) {
-        String slug = Optional.ofNullable(input)
-                .map(s -> s.toLowerCase()
-                        .replaceAll("[^a-z0-9\\s]", "")
-                        .trim()
-                        .replaceAll("\\s+", "-"))
-                .filter(s -> !s.isBlank())
-                .orElse("game");
-        return slug + "-" + appId;
+    private record ParsedPage(String hash, List<PriceDto> rows) {
     }
 }
@@ -0,0 +1,46 @@
+package com.example.gamesales.crawler;
+
+import com.example.gamesales.dto.StorePage;
+import com.example.gamesales.dto.StorePrice;
+import reactor.core.publisher.Flux;
+
+import java.util.function.IntPredicate;
+
+/**
+ * 스토어 크롤러 SPI. 빈으로 등록하면 {@link com.example.gamesales.service.CrawlerService} 가
+ * 다른 스토어와 동시에 돌리고, 결과를 공유 저장 싱크로 보낸다.
+ *
+ * 동시 요청 수와 요청 제한은 스토어마다 따로 둔다(crawler.stores.*, crawler.rate-limit.hosts).
+ */
+public interface StoreCrawler {
+
+    /** 저장·조회에 쓰는 스토어 이름 (game_prices.service_name) */
+    String serviceName();
+
+    /** 설정에서 끈 스토어는 건너뛴다 */
+    default boolean enabled() {
+        return true;
+    }
+
+    /**
+     * 한 번의 크롤링. 랭킹 순서대로 내보내고, 실패한 페이지는 건너뛴 채 나머지를 계속 내보낸다.
+     * 기본 crawlPages() 를 쓰는 크롤러는 실패가 있었으면 마지막에 오류로 끝내야 실행이 미완료로 남는다.
+     */
+    Flux<StorePrice> crawl();
+
+    /**
+     * 체크포인트를 남기는 크롤링. 페이지 순서대로 내보내고, completed 가 참인 페이지는 가져오지 않는다.
+     * 이어 받아도 랭킹이 같도록 페이지 번호와 랭킹은 앞 페이지를 건너뛰었는지와 상관없이 정해져야 한다.
+     *
+     * 기본 구현은 crawl() 전체를 0번 페이지 하나로 본다(스토어 단위로 이어 받는다). crawl() 이 오류로 끝나면 저장하지 않는다.
+     * 실패한 페이지가 있으면 나머지 페이지를 다 내보낸 뒤 오류로 끝내야 실행이 미완료로 남는다. 오류를 삼키면(onErrorResume)
+     * 빠진 페이지가 있어도 실행이 완료로 끝나므로, 페이지가 실패할 수 있는 스토어는 이 메서드를 페이지 단위로 구현한다.
+     */
+    default Flux<StorePage> crawlPages(IntPredicate completed) {
+        if (completed.test(0)) return Flux.empty();
+        return crawl().collectList()
+                .filter(prices -> !prices.isEmpty())
+                .map(prices -> new StorePage(serviceName(), 0, prices))
+                .flux();
+    }
+}
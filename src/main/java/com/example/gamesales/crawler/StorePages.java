@@ -0,0 +1,56 @@
+package com.example.gamesales.crawler;
+
+import com.example.gamesales.dto.StorePage;
+import com.example.gamesales.dto.StorePrice;
+import com.example.gamesales.util.CrawlerMetrics;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.concurrent.Queues;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * 전체 건수를 알려 주는 목록 API 의 페이지 순회.
+ * 첫 페이지로 전체 건수를 알아낸 뒤 나머지 페이지를 concurrency 개씩 동시에 요청하고, 페이지 순서대로 내보낸다.
+ * 첫 페이지 뒤의 페이지가 실패하면 그 페이지만 비고 나머지는 계속 진행되며, 다 내보낸 뒤 오류로 끝나
+ * 실행이 미완료로 남는다(다음 실행이 체크포인트가 없는 페이지만 가져온다).
+ */
+@Slf4j
+final class StorePages {
+
+    private StorePages() {
+    }
+
+    /**
+     * 페이지 번호는 offset / pageSize. completed 가 참인 페이지는 내보내지 않는다
+     * (첫 페이지는 전체 건수를 알아야 하므로 완료됐어도 가져온다).
+     *
+     * @param fetch    offset 을 받아 페이지 하나를 가져온다
+     * @param total    페이지에서 전체 건수를 읽는다
+     * @param prices   페이지의 상품. 랭킹은 offset 기준이어야 앞 페이지를 건너뛰어도 같다
+     */
+    static <P> Flux<StorePage> fetchPages(String serviceName, IntFunction<Mono<P>> fetch, ToIntFunction<P> total,
+                                          Function<P, List<StorePrice>> prices, int pageSize, int maxPages,
+                                          int concurrency, IntPredicate completed) {
+        IntFunction<Mono<P>> timed = offset -> CrawlerMetrics.timePageFetch(serviceName, fetch.apply(offset));
+        return timed.apply(0).flatMapMany(first -> {
+            int pages = Math.min(maxPages, (total.applyAsInt(first) + pageSize - 1) / pageSize);
+            Flux<StorePage> head = completed.test(0)
+                    ? Flux.empty()
+                    : Flux.just(new StorePage(serviceName, 0, prices.apply(first)));
+            Flux<StorePage> rest = Flux.range(1, Math.max(0, pages - 1))
+                    .filter(page -> !completed.test(page))
+                    .flatMapSequentialDelayError(page -> timed.apply(page * pageSize)
+                                    .map(p -> new StorePage(serviceName, page, prices.apply(p)))
+                                    .doOnError(e -> log.warn("{} 페이지 실패: offset={}, error={}",
+                                            serviceName, page * pageSize, e.toString())),
+                            Math.max(1, concurrency), Queues.XS_BUFFER_SIZE);
+            return Flux.concat(head, rest);
+        });
+    }
+}
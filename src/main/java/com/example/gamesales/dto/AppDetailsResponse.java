@@ -1,13 +1,20 @@
 package com.example.gamesales.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+/**
+ * Steam /api/appdetails 응답에서 appId 하나의 값. 응답 본문은 appId 문자열 → 이 객체의 맵이다.
+ * price_overview 의 가격은 통화 최소 단위(원 × 100)다.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
 public record AppDetailsResponse(
         @JsonProperty("success")
         boolean success,
         @JsonProperty("data")
         Data data
 ) {
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public record Data(
             @JsonProperty("name")
             String name,
@@ -18,6 +25,7 @@ public record AppDetailsResponse(
     ) {
     }
 
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public record PriceOverview(
             @JsonProperty("initial")
             int initial,
@@ -0,0 +1,12 @@
+package com.example.gamesales.dto;
+
+import java.time.LocalDate;
+
+/** 하루 단위로 줄인 가격 (차트용). last* 는 그날 마지막으로 유효했던 가격 */
+public record DailyPrice(
+        LocalDate day,
+        int minPrice,
+        int maxPrice,
+        int lastPrice,
+        int lastDiscountPercent
+) {}
@@ -0,0 +1,27 @@
+package com.example.gamesales.dto;
+
+import com.example.gamesales.model.LatestPrice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/** 현재 가격 한 건 (latest_price projection) */
+public record DealResponse(
+        int appId,
+        String englishName,
+        String koreanName,
+        String serviceName,
+        int ranking,
+        int initialPrice,
+        int finalPrice,
+        int discountPercent,
+        List<String> platforms,
+        LocalDateTime priceSince,
+        LocalDateTime lastSeenAt
+) {
+    public static DealResponse from(LatestPrice lp) {
+        return new DealResponse(lp.getAppId(), lp.getEnglishName(), lp.getKoreanName(), lp.getServiceName(),
+                lp.getRanking(), lp.getInitialPrice(), lp.getFinalPrice(), lp.getDiscountPercent(),
+                List.copyOf(lp.getPlatforms()), lp.getPriceSince(), lp.getLastSeenAt());
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.gamesales.dto;
+
+import java.time.LocalDateTime;
+
+/** 목표를 넘어선 구독 하나에 보낼 알림 */
+public record PriceAlert(
+        long watchId,
+        String subscriber,
+        String serviceName,
+        int appId,
+        String title,
+        int initialPrice,
+        int finalPrice,
+        int discountPercent,
+        Integer targetPrice,
+        Integer targetDiscountPercent,
+        LocalDateTime changedAt
+) {
+}
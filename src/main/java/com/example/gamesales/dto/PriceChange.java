@@ -0,0 +1,23 @@
+package com.example.gamesales.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 적재 한 번에서 latest_price 가 바뀐 게임 하나.
+ * oldFinalPrice·oldDiscountPercent 가 null 이면 이 스토어에서 처음 본 가격이다.
+ */
+public record PriceChange(
+        String serviceName,
+        int appId,
+        String title,
+        Integer oldFinalPrice,
+        Integer oldDiscountPercent,
+        int initialPrice,
+        int finalPrice,
+        int discountPercent,
+        LocalDateTime changedAt
+) {
+    public boolean firstSeen() {
+        return oldFinalPrice == null;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.gamesales.dto;
+
+import java.util.List;
+
+/** 적재 트랜잭션 하나에서 가격이 바뀐 게임들. 커밋된 뒤에 알림 엔진이 받는다 */
+public record PriceChangeEvent(String serviceName, List<PriceChange> changes) {
+}
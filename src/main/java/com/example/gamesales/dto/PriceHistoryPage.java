@@ -0,0 +1,9 @@
+package com.example.gamesales.dto;
+
+import java.util.List;
+
+/** 가격 이력 한 페이지. nextCursor 가 null 이면 마지막 페이지 */
+public record PriceHistoryPage(
+        List<PricePointResponse> items,
+        String nextCursor
+) {}
@@ -0,0 +1,20 @@
+package com.example.gamesales.dto;
+
+import com.example.gamesales.repository.GamePriceRepository;
+
+import java.time.LocalDateTime;
+
+/** 가격 이력 한 구간: fetchedAt 부터 lastSeenAt 까지 같은 가격 */
+public record PricePointResponse(
+        String serviceName,
+        int initialPrice,
+        int finalPrice,
+        int discountPercent,
+        LocalDateTime fetchedAt,
+        LocalDateTime lastSeenAt
+) {
+    public static PricePointResponse from(GamePriceRepository.PricePointRow p) {
+        return new PricePointResponse(p.getServiceName(), p.getInitialPrice(), p.getFinalPrice(),
+                p.getDiscountPercent(), p.getFetchedAt(), p.getLastSeenAt());
+    }
+}
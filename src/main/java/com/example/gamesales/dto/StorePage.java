@@ -0,0 +1,11 @@
+package com.example.gamesales.dto;
+
+import java.util.List;
+
+/**
+ * 스토어 크롤러가 내보내는 목록 한 페이지. 체크포인트 단위다.
+ *
+ * @param page 스토어 안에서의 페이지 번호 (0부터). 다시 가져와도 같은 번호여야 한다
+ */
+public record StorePage(String serviceName, int page, List<StorePrice> prices) {
+}
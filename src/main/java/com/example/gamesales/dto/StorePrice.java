@@ -0,0 +1,19 @@
+package com.example.gamesales.dto;
+
+/**
+ * 스토어 크롤러가 내보내는 정규화된 가격 한 건. 가격은 원 단위 정수.
+ *
+ * @param productId 스토어 안의 상품 ID (PSN 상품 ID, eShop title id, DirectG 상품 번호)
+ * @param appId     Steam appId 를 알면 그 값(Steam), 모르면 null → 저장 싱크가 제목으로 찾는다
+ * @param ranking   스토어 목록에서의 순서 (1부터)
+ */
+public record StorePrice(
+        String serviceName,
+        String productId,
+        String title,
+        Integer appId,
+        int initialPrice,
+        int finalPrice,
+        int discountPercent,
+        int ranking
+) {}
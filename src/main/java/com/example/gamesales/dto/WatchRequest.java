@@ -0,0 +1,22 @@
+package com.example.gamesales.dto;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+/** 가격 알림 구독 요청. 목표 가격·할인율 중 하나 이상 필요 */
+public record WatchRequest(
+        @NotBlank @Size(max = 200) String subscriber,
+        String serviceName,
+        @Positive int appId,
+        @Positive Integer targetPrice,
+        @Min(1) @Max(100) Integer targetDiscountPercent
+) {
+    @AssertTrue(message = "targetPrice or targetDiscountPercent is required")
+    public boolean isTargetSet() {
+        return targetPrice != null || targetDiscountPercent != null;
+    }
+}
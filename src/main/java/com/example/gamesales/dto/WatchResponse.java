@@ -0,0 +1,20 @@
+package com.example.gamesales.dto;
+
+import com.example.gamesales.model.PriceWatch;
+
+import java.time.LocalDateTime;
+
+public record WatchResponse(
+        long id,
+        String subscriber,
+        String serviceName,
+        int appId,
+        Integer targetPrice,
+        Integer targetDiscountPercent,
+        LocalDateTime createdAt
+) {
+    public static WatchResponse from(PriceWatch w) {
+        return new WatchResponse(w.getId(), w.getSubscriber(), w.getServiceName(), w.getAppId(),
+                w.getTargetPrice(), w.getTargetDiscountPercent(), w.getCreatedAt());
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.gamesales.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 실행 하나에서 저장까지 끝난 스토어 페이지. 페이지의 가격 행과 같은 트랜잭션에서 insert 되므로,
+ * 체크포인트가 있으면 그 페이지의 가격은 이미 저장된 것이다.
+ *
+ * 이어 받을 때 중복 제거·결과 집계·할인 인덱스 재구성에 쓰도록 매칭된 appId 를 랭킹 순으로 남긴다.
+ */
+@Entity
+@Table(name = "crawl_checkpoint",
+        uniqueConstraints = @UniqueConstraint(name = "uk_crawl_checkpoint_run_service_page",
+                columnNames = {"run_id", "service_name", "page"}))
+@Access(AccessType.FIELD)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class CrawlCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "crawl_checkpoint_seq")
+    @SequenceGenerator(name = "crawl_checkpoint_seq", sequenceName = "crawl_checkpoint_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "service_name", nullable = false)
+    private String serviceName;
+
+    /** 스토어 안에서의 페이지 번호 (0부터) */
+    @Column(nullable = false)
+    private Integer page;
+
+    /** 페이지에서 받은 상품 수 */
+    @Column(nullable = false)
+    private Integer crawled;
+
+    /** 게임을 찾지 못한 상품 수 */
+    @Column(nullable = false)
+    private Integer unmatched;
+
+    /** 적재한 게임의 appId, 랭킹 순 쉼표 구분 */
+    @Column(name = "app_ids", nullable = false, length = 8000)
+    private String appIds;
+
+    @Column(nullable = false)
+    private LocalDateTime completedAt;
+
+    public List<Integer> appIdList() {
+        if (appIds.isEmpty()) return List.of();
+        return Arrays.stream(appIds.split(",")).map(Integer::valueOf).toList();
+    }
+
+    public static String joinAppIds(List<Integer> appIds) {
+        return appIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CrawlCheckpoint that)) return false;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.gamesales.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 가격 크롤링 한 번의 실행. 중간에 실패하거나 프로세스가 죽으면 끝나지 않은 채 남고,
+ * 다음 실행이 같은 실행을 이어 받아 {@link CrawlCheckpoint} 에 없는 페이지만 다시 가져온다.
+ */
+@Entity
+@Table(name = "crawl_run", indexes = @Index(name = "idx_crawl_run_status", columnList = "status, started_at"))
+@Access(AccessType.FIELD)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class CrawlRun {
+
+    public enum Status {
+        /** 진행 중 (또는 진행 중에 프로세스가 죽음) */
+        RUNNING,
+        /** 일부 스토어·페이지가 실패. 다음 실행이 이어 받는다 */
+        FAILED,
+        COMPLETED,
+        /** 이어 받기 기간·횟수를 넘겨 버림 */
+        ABANDONED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "crawl_run_seq")
+    @SequenceGenerator(name = "crawl_run_seq", sequenceName = "crawl_run_seq", allocationSize = 1)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    /** 시도 횟수 (첫 시도 포함) */
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(length = 1000)
+    private String error;
+
+    public boolean isUnfinished() {
+        return status == Status.RUNNING || status == Status.FAILED;
+    }
+
+    /** 이어 받기 시작 */
+    public void resume() {
+        this.status = Status.RUNNING;
+        this.attempts = attempts + 1;
+        this.finishedAt = null;
+        this.error = null;
+    }
+
+    public void finish(Status status, String error, LocalDateTime at) {
+        this.status = status;
+        this.error = error == null || error.length() <= 1000 ? error : error.substring(0, 1000);
+        this.finishedAt = at;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CrawlRun that)) return false;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -3,6 +3,7 @@ package com.example.gamesales.model;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -17,7 +18,8 @@ import java.util.Objects;
 public class Game {
 
         @Id
-        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "games_seq")
+        @SequenceGenerator(name = "games_seq", sequenceName = "games_seq", allocationSize = 50) // IDENTITY는 insert 배치 불가
         private Long id;
 
         @Column(nullable = false, unique = true)
@@ -35,9 +37,11 @@ public class Game {
         @Column(nullable = false)
         private Integer ranking; // 인기순 랭킹 필드 추가
 
-        @OneToMany(mappedBy = "game", cascade = CascadeType.ALL, orphanRemoval = true)
-        @Builder.Default
-        private List<GamePrice> prices = new ArrayList<>();
+        /** Steam appdetails(l=koreana)로 한국어 이름을 마지막으로 확인한 시각. null 이면 아직 확인 전 */
+        private LocalDateTime detailsFetchedAt;
+
+        // 가격 이력(game_prices)은 컬렉션으로 매핑하지 않는다. 오래 추적한 게임은 수천 행이라
+        // 한 번에 영속성 컨텍스트로 올리지 말고 PriceHistoryService 의 페이지/일별 조회를 쓴다.
 
         @ElementCollection(fetch = FetchType.LAZY)
         @CollectionTable(name = "game_platforms", joinColumns = @JoinColumn(name = "game_id"))
@@ -57,10 +61,17 @@ public class Game {
                 return Objects.hash(id);
         }
 
-        /** 예시: 가격 목록을 추가하거나 교체할 때만 노출하는 비즈니스 메서드 */
-        public void setPrices(List<GamePrice> newPrices) {
-                this.prices.clear();
-                this.prices.addAll(newPrices);
+        /** 크롤링마다 바뀌는 인기순 랭킹 갱신 */
+        public void updateRanking(Integer ranking) {
+                this.ranking = ranking;
+        }
+
+        /** appdetails 확인 결과 반영. 이름이 없으면(판매 중지·지역 제한) 확인 시각만 남긴다 */
+        public void updateDetails(String koreanName, LocalDateTime fetchedAt) {
+                if (koreanName != null && !koreanName.isBlank()) {
+                        this.koreanName = koreanName;
+                }
+                this.detailsFetchedAt = fetchedAt;
         }
 
         /** 지원 플랫폼 목록을 추가하거나 교체하는 비즈니스 메서드 */
@@ -7,7 +7,10 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
-@Table(name = "game_prices")
+@Table(name = "game_prices",
+        // 게임 하나의 이력을 시간순으로 훑는 조회(키셋 페이지, 일별 집계)용
+        indexes = @Index(name = "idx_game_prices_game_service_fetched",
+                columnList = "game_id, service_name, fetched_at"))
 @Access(AccessType.FIELD)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -16,14 +19,15 @@ import java.util.Objects;
 public class GamePrice {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "game_prices_seq")
+    @SequenceGenerator(name = "game_prices_seq", sequenceName = "game_prices_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "game_id", nullable = false)
     private Game game;
 
-    @Column(nullable = false)
+    @Column(name = "service_name", nullable = false)
     private String serviceName;
 
     @Column(nullable = false)
@@ -35,9 +39,13 @@ public class GamePrice {
     @Column(nullable = false)
     private Integer discountPercent;
 
-    @Column(nullable = false)
+    /** 이 가격을 처음 본 시각 */
+    @Column(name = "fetched_at", nullable = false)
     private LocalDateTime fetchedAt;
 
+    /** 이 가격을 마지막으로 본 시각. 델타 적재에서는 가격이 그대로인 동안 이 값만 앞으로 옮긴다 */
+    private LocalDateTime lastSeenAt;
+
     // custom builder logic: if initialPrice not set, default to finalPrice
     public static class GamePriceBuilder {
         public GamePriceBuilder finalPrice(Integer finalPrice) {
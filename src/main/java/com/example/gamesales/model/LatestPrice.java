@@ -0,0 +1,114 @@
+package com.example.gamesales.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.BatchSize;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 읽기 API 용 비정규화 projection: (스토어, 게임) 마다 현재 가격 한 행.
+ * game_prices 에서 게임별 최신 행을 찾는 조인 대신 이 테이블만 읽으므로, 이력이 쌓여도 조회 비용이 일정하다.
+ * 가격·랭킹은 적재 경로(GamePriceIngestService), 플랫폼은 보강 경로(GameEnrichmentWriter)가 함께 갱신한다.
+ */
+@Entity
+@Table(name = "latest_price",
+        uniqueConstraints = @UniqueConstraint(name = "uk_latest_price_service_app", columnNames = {"service_name", "app_id"}),
+        indexes = {
+                @Index(name = "idx_latest_price_discount", columnList = "service_name, discount_percent"),
+                @Index(name = "idx_latest_price_ranking", columnList = "service_name, ranking")
+        })
+@Access(AccessType.FIELD)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class LatestPrice {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "latest_price_seq")
+    @SequenceGenerator(name = "latest_price_seq", sequenceName = "latest_price_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "service_name", nullable = false)
+    private String serviceName;
+
+    @Column(name = "app_id", nullable = false)
+    private Integer appId;
+
+    @Column(nullable = false)
+    private String englishName;
+
+    @Column(nullable = false)
+    private String koreanName;
+
+    @Column(nullable = false)
+    private Integer ranking;
+
+    @Column(nullable = false)
+    private Integer initialPrice;
+
+    @Column(nullable = false)
+    private Integer finalPrice;
+
+    @Column(name = "discount_percent", nullable = false)
+    private Integer discountPercent;
+
+    /** 현재 가격이 처음 관측된 시각 */
+    @Column(nullable = false)
+    private LocalDateTime priceSince;
+
+    @Column(nullable = false)
+    private LocalDateTime lastSeenAt;
+
+    // 목록 조회 한 페이지의 플랫폼을 IN 쿼리 한 번으로 읽는다 (페이지 + 컬렉션 fetch join 은 메모리 페이징이 됨)
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "latest_price_platforms",
+            joinColumns = @JoinColumn(name = "latest_price_id"),
+            indexes = @Index(name = "idx_latest_price_platform", columnList = "platform"))
+    @Column(name = "platform", nullable = false)
+    @BatchSize(size = 100)
+    @Builder.Default
+    private List<String> platforms = new ArrayList<>();
+
+    /** 새 가격으로 교체 */
+    public void updatePrice(int initialPrice, int finalPrice, int discountPercent, LocalDateTime seenAt) {
+        this.initialPrice = initialPrice;
+        this.finalPrice = finalPrice;
+        this.discountPercent = discountPercent;
+        this.priceSince = seenAt;
+        this.lastSeenAt = seenAt;
+    }
+
+    /** 크롤링마다 바뀌는 인기순 랭킹 갱신 (lastSeenAt 은 적재 경로가 update 한 문장으로 옮긴다) */
+    public void updateRanking(Integer ranking) {
+        this.ranking = ranking;
+    }
+
+    /** 보강 경로가 확인한 한국어 이름 */
+    public void updateKoreanName(String koreanName) {
+        this.koreanName = koreanName;
+    }
+
+    public void setPlatforms(List<String> newPlatforms) {
+        this.platforms.clear();
+        if (newPlatforms != null) {
+            this.platforms.addAll(newPlatforms);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LatestPrice that)) return false;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.gamesales.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 가격 알림 구독: 한 게임(스토어별)이 목표 가격 이하로 떨어지거나 목표 할인율 이상이 되면 알린다.
+ * 목표는 둘 중 하나 이상 있어야 하고, 둘 다 있으면 먼저 넘는 쪽으로 알린다.
+ * 평가는 {@link com.example.gamesales.service.PriceAlertEngine} 가 가격이 바뀐 게임만 골라서 한다.
+ */
+@Entity
+@Table(name = "price_watch", indexes = {
+        @Index(name = "idx_price_watch_game", columnList = "service_name, app_id"),
+        @Index(name = "idx_price_watch_subscriber", columnList = "subscriber")
+})
+@Access(AccessType.FIELD)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class PriceWatch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "price_watch_seq")
+    @SequenceGenerator(name = "price_watch_seq", sequenceName = "price_watch_seq", allocationSize = 1)
+    private Long id;
+
+    /** 알림 받을 대상 (이메일·웹훅 ID 등, 전달 방식은 AlertSink 가 정한다) */
+    @Column(nullable = false, length = 200)
+    private String subscriber;
+
+    @Column(name = "service_name", nullable = false)
+    private String serviceName;
+
+    @Column(name = "app_id", nullable = false)
+    private Integer appId;
+
+    /** 최종 가격이 이 값 이하가 되면 알림 (원) */
+    private Integer targetPrice;
+
+    /** 할인율이 이 값 이상이 되면 알림 (%) */
+    private Integer targetDiscountPercent;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PriceWatch that)) return false;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.gamesales.repository;
+
+import com.example.gamesales.model.CrawlCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface CrawlCheckpointRepository extends JpaRepository<CrawlCheckpoint, Long> {
+
+    /** 실행 하나의 체크포인트, 스토어·페이지 순 (uk_crawl_checkpoint_run_service_page) */
+    List<CrawlCheckpoint> findByRunIdOrderByServiceNameAscPageAsc(Long runId);
+}
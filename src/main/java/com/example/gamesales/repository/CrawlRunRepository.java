@@ -0,0 +1,16 @@
+package com.example.gamesales.repository;
+
+import com.example.gamesales.model.CrawlRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface CrawlRunRepository extends JpaRepository<CrawlRun, Long> {
+
+    /** 끝나지 않은 실행, 최근 순 (idx_crawl_run_status) */
+    List<CrawlRun> findByStatusInOrderByStartedAtDesc(Collection<CrawlRun.Status> statuses);
+
+    Optional<CrawlRun> findFirstByStatusOrderByStartedAtDesc(CrawlRun.Status status);
+}
@@ -1,7 +1,129 @@
 package com.example.gamesales.repository;
 
 import com.example.gamesales.model.GamePrice;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface GamePriceRepository extends JpaRepository<GamePrice, Long> {
+
+    /** 스토어의 게임별 최신 가격 행 (델타 적재 기준값) */
+    @Query("select p.id as id, g.appId as appId, p.initialPrice as initialPrice, " +
+            "p.finalPrice as finalPrice, p.discountPercent as discountPercent " +
+            "from GamePrice p join p.game g " +
+            "where p.serviceName = :serviceName and p.id = (" +
+            "  select max(p2.id) from GamePrice p2 where p2.game = p.game and p2.serviceName = p.serviceName)")
+    List<LatestPriceRow> findLatestByServiceName(@Param("serviceName") String serviceName);
+
+    /** 가격이 그대로인 행들의 마지막 확인 시각만 한 문장으로 갱신 */
+    @Modifying
+    @Query("update GamePrice p set p.lastSeenAt = :seenAt where p.id in :ids")
+    int touchLastSeen(@Param("ids") Collection<Long> ids, @Param("seenAt") LocalDateTime seenAt);
+
+    /*
+     * 가격 이력 조회. 모두 (game_id, service_name, fetched_at) 인덱스를 타고, 엔티티 대신 projection 으로 읽는다.
+     * 페이지는 OFFSET 없이 (fetchedAt, id) 키셋으로 이어간다.
+     */
+    String PRICE_POINT = "select p.id as id, p.serviceName as serviceName, p.initialPrice as initialPrice, " +
+            "p.finalPrice as finalPrice, p.discountPercent as discountPercent, " +
+            "p.fetchedAt as fetchedAt, p.lastSeenAt as lastSeenAt " +
+            "from GamePrice p where p.game.id = :gameId and p.serviceName = :serviceName ";
+
+    /** 최근 순 첫 페이지 */
+    @Query(PRICE_POINT + "order by p.fetchedAt desc, p.id desc")
+    List<PricePointRow> findHistory(@Param("gameId") Long gameId,
+                                    @Param("serviceName") String serviceName,
+                                    Pageable pageable);
+
+    /** 최근 순, 커서 (fetchedAt, id) 다음 페이지 */
+    @Query(PRICE_POINT + "and (p.fetchedAt < :fetchedAt or (p.fetchedAt = :fetchedAt and p.id < :id)) " +
+            "order by p.fetchedAt desc, p.id desc")
+    List<PricePointRow> findHistoryBefore(@Param("gameId") Long gameId,
+                                          @Param("serviceName") String serviceName,
+                                          @Param("fetchedAt") LocalDateTime fetchedAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    /** before 이전 행, 최근 순 */
+    @Query(PRICE_POINT + "and p.fetchedAt < :before order by p.fetchedAt desc, p.id desc")
+    List<PricePointRow> findHistoryFetchedBefore(@Param("gameId") Long gameId,
+                                                 @Param("serviceName") String serviceName,
+                                                 @Param("before") LocalDateTime before,
+                                                 Pageable pageable);
+
+    /** [from, to) 구간을 시간순으로 흘려 읽는다 (트랜잭션 안에서 닫아야 함) */
+    @Query(PRICE_POINT + "and p.fetchedAt >= :from and p.fetchedAt < :to order by p.fetchedAt, p.id")
+    Stream<PricePointRow> streamRange(@Param("gameId") Long gameId,
+                                      @Param("serviceName") String serviceName,
+                                      @Param("from") LocalDateTime from,
+                                      @Param("to") LocalDateTime to);
+
+    /** 가장 오래된 행. 이보다 오래된 이력은 아카이브 파일에 있다 */
+    @Query(PRICE_POINT + "order by p.fetchedAt, p.id")
+    List<PricePointRow> findOldest(@Param("gameId") Long gameId,
+                                   @Param("serviceName") String serviceName,
+                                   Pageable pageable);
+
+    /*
+     * 아카이브 대상: 마지막 확인 시각이 cutoff 이전인 행. 스토어별 마지막 행은 델타 적재가 lastSeenAt 을
+     * 옮기는 기준 행(LastKnownPrices)이므로 아무리 오래돼도 남긴다.
+     */
+    String ARCHIVABLE = "coalesce(p.lastSeenAt, p.fetchedAt) < :cutoff and p.id < (" +
+            "  select max(p2.id) from GamePrice p2 where p2.game = p.game and p2.serviceName = p.serviceName)";
+
+    @Query("select distinct g.id as gameId, g.appId as appId from GamePrice p join p.game g where " + ARCHIVABLE)
+    List<ArchiveCandidate> findArchiveCandidates(@Param("cutoff") LocalDateTime cutoff);
+
+    /** 게임 하나의 아카이브 대상 행, 모든 스토어 시간순 */
+    @Query("select p.id as id, p.serviceName as serviceName, p.initialPrice as initialPrice, " +
+            "p.finalPrice as finalPrice, p.discountPercent as discountPercent, " +
+            "p.fetchedAt as fetchedAt, p.lastSeenAt as lastSeenAt " +
+            "from GamePrice p where p.game.id = :gameId and " + ARCHIVABLE + " order by p.fetchedAt, p.id")
+    List<PricePointRow> findArchivable(@Param("gameId") Long gameId, @Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query("delete from GamePrice p where p.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    interface ArchiveCandidate {
+        Long getGameId();
+
+        Integer getAppId();
+    }
+
+    interface PricePointRow {
+        Long getId();
+
+        String getServiceName();
+
+        Integer getInitialPrice();
+
+        Integer getFinalPrice();
+
+        Integer getDiscountPercent();
+
+        LocalDateTime getFetchedAt();
+
+        /** 델타 적재 이전 행은 null */
+        LocalDateTime getLastSeenAt();
+    }
+
+    interface LatestPriceRow {
+        Long getId();
+
+        Integer getAppId();
+
+        Integer getInitialPrice();
+
+        Integer getFinalPrice();
+
+        Integer getDiscountPercent();
+    }
 }
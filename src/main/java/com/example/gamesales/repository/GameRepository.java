@@ -1,10 +1,45 @@
 package com.example.gamesales.repository;
 
 import com.example.gamesales.model.Game;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface GameRepository extends JpaRepository<Game, Long> {
     Optional<Game> findByAppId(Integer appId);
+
+    List<Game> findAllByAppIdIn(Collection<Integer> appIds);
+
+    /** 지원 플랫폼 컬렉션까지 한 쿼리로 로딩 (게임별 지연 로딩 N+1 방지) */
+    @EntityGraph(attributePaths = "supportedPlatforms")
+    List<Game> findWithPlatformsByAppIdIn(Collection<Integer> appIds);
+
+    @Query("select g.id from Game g where g.appId = :appId")
+    Optional<Long> findIdByAppId(@Param("appId") Integer appId);
+
+    /** 엔티티를 읽지 않고 appId 만 조회 */
+    @Query("select g.appId from Game g")
+    List<Integer> findAllAppIds();
+
+    /** appdetails 로 before 이후에 확인하지 않은 게임의 appId. 랭킹 순 (인기 게임부터 보강) */
+    @Query("select g.appId from Game g where g.detailsFetchedAt is null or g.detailsFetchedAt < :before order by g.ranking")
+    List<Integer> findAppIdsWithDetailsBefore(@Param("before") LocalDateTime before);
+
+    /** 다른 스토어 상품을 제목으로 찾기 위한 (appId, 이름) 목록. 랭킹 순 (동점 매칭은 인기 게임 우선) */
+    @Query("select g.appId as appId, g.englishName as englishName, g.koreanName as koreanName from Game g order by g.ranking")
+    List<GameTitle> findAllTitles();
+
+    interface GameTitle {
+        Integer getAppId();
+
+        String getEnglishName();
+
+        String getKoreanName();
+    }
 }
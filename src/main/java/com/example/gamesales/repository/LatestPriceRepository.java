@@ -0,0 +1,59 @@
+package com.example.gamesales.repository;
+
+import com.example.gamesales.model.LatestPrice;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface LatestPriceRepository extends JpaRepository<LatestPrice, Long> {
+
+    List<LatestPrice> findAllByServiceNameAndAppIdIn(String serviceName, Collection<Integer> appIds);
+
+    /** 플랫폼 컬렉션까지 한 쿼리로 로딩 (보강 경로에서 교체용) */
+    @EntityGraph(attributePaths = "platforms")
+    List<LatestPrice> findWithPlatformsByAppIdIn(Collection<Integer> appIds);
+
+    @Query("select distinct lp.serviceName from LatestPrice lp")
+    List<String> findServiceNames();
+
+    @EntityGraph(attributePaths = "platforms")
+    List<LatestPrice> findWithPlatformsByServiceName(String serviceName);
+
+    /** 스토어의 가장 최근 크롤링 시각. 행이 없으면 null */
+    @Query("select max(lp.lastSeenAt) from LatestPrice lp where lp.serviceName = :serviceName")
+    LocalDateTime findLastSeenAt(@Param("serviceName") String serviceName);
+
+    /** 이번 크롤링에서 본 게임들의 마지막 확인 시각을 한 문장으로 갱신 */
+    @Modifying
+    @Query("update LatestPrice lp set lp.lastSeenAt = :seenAt " +
+            "where lp.serviceName = :serviceName and lp.appId in :appIds")
+    int touchLastSeen(@Param("serviceName") String serviceName,
+                      @Param("appIds") Collection<Integer> appIds,
+                      @Param("seenAt") LocalDateTime seenAt);
+
+    /**
+     * 할인율 높은 순 (idx_latest_price_discount). seenSince 전에 마지막으로 본 행(순위권 밖·판매 중지)은 뺀다
+     */
+    @Query("select lp from LatestPrice lp " +
+            "where lp.serviceName = :serviceName and lp.discountPercent > :minDiscount and lp.lastSeenAt >= :seenSince " +
+            "order by lp.discountPercent desc, lp.ranking asc")
+    List<LatestPrice> findDiscounted(@Param("serviceName") String serviceName,
+                                     @Param("minDiscount") int minDiscount,
+                                     @Param("seenSince") LocalDateTime seenSince,
+                                     Pageable pageable);
+
+    /** 플랫폼별 인기순 (idx_latest_price_platform → idx_latest_price_ranking). seenSince 전에 마지막으로 본 행은 뺀다 */
+    @Query("select lp from LatestPrice lp join lp.platforms p " +
+            "where lp.serviceName = :serviceName and p = :platform and lp.lastSeenAt >= :seenSince order by lp.ranking")
+    List<LatestPrice> findByPlatform(@Param("serviceName") String serviceName,
+                                     @Param("platform") String platform,
+                                     @Param("seenSince") LocalDateTime seenSince,
+                                     Pageable pageable);
+}
@@ -0,0 +1,12 @@
+package com.example.gamesales.repository;
+
+import com.example.gamesales.model.PriceWatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface PriceWatchRepository extends JpaRepository<PriceWatch, Long> {
+
+    /** idx_price_watch_subscriber */
+    List<PriceWatch> findBySubscriberOrderByIdAsc(String subscriber);
+}
@@ -1,4 +1,238 @@
 package com.example.gamesales.scheduler;
 
-public class CrawlerScheduler {
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.repository.GameRepository;
+import com.example.gamesales.service.CrawlerService;
+import com.example.gamesales.service.DealsIndex;
+import com.example.gamesales.service.IGDBPlatformService;
+import com.example.gamesales.service.PriceArchiveService;
+import com.example.gamesales.service.SteamDetailsService;
+import com.example.gamesales.service.StorePriceSink;
+import com.example.gamesales.util.CrawlExecution;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * 크롤링 작업 스케줄러.
+ *
+ * cron 은 crawler.schedule.* 설정을 따른다. 작업마다 전용 스레드 하나(bounded executor, 가상 스레드 모드면 가상 스레드)에서 돌기 때문에
+ * 느린 IGDB 보강이 가격 크롤링을 막지 않고, 같은 작업이 아직 실행 중이면 이번 실행은 건너뛴다.
+ * 실행마다 소요 시간·저장 행 수·실패를 기록한다({@link #stats()}).
+ */
+@Slf4j
+@Component
+@EnableScheduling
+public class CrawlerScheduler implements SchedulingConfigurer {
+
+    /** 모든 스토어 가격 (Steam·PSN·eShop·DirectG 동시) */
+    public static final String PRICES = "store-prices";
+    public static final String IGDB_ENRICHMENT = "igdb-enrichment";
+    /** 오래된 가격 이력을 아카이브 파일로 */
+    public static final String PRICE_ARCHIVE = "price-archive";
+    /** Steam appdetails 한국어 이름 보강 */
+    public static final String STEAM_DETAILS = "steam-details";
+
+    private final CrawlerConfig.Schedule schedule;
+    private final CrawlerConfig.Checkpoint checkpoint;
+    private final CrawlerService crawlerService;
+    private final Map<String, JobRunner> jobs = new TreeMap<>();
+
+    public CrawlerScheduler(CrawlerConfig crawlerConfig,
+                            CrawlerService crawlerService,
+                            IGDBPlatformService igdbPlatformService,
+                            GameRepository gameRepo,
+                            DealsIndex dealsIndex,
+                            PriceArchiveService priceArchiveService,
+                            SteamDetailsService steamDetailsService,
+                            CrawlExecution execution) {
+        this.schedule = crawlerConfig.getSchedule();
+        this.checkpoint = crawlerConfig.getCheckpoint();
+        this.crawlerService = crawlerService;
+        jobs.put(PRICES, new JobRunner(PRICES, execution, () -> crawlerService.crawlAll().values().stream()
+                .mapToInt(StorePriceSink.StoreResult::matched)
+                .sum()));
+        jobs.put(IGDB_ENRICHMENT, new JobRunner(IGDB_ENRICHMENT, execution, () -> {
+            int updated = igdbPlatformService.updatePlatformsForSteamGames(gameRepo.findAllAppIds());
+            if (updated > 0) dealsIndex.refreshEnrichment();
+            return updated;
+        }));
+        jobs.put(PRICE_ARCHIVE, new JobRunner(PRICE_ARCHIVE, execution, priceArchiveService::archiveOldPrices));
+        jobs.put(STEAM_DETAILS, new JobRunner(STEAM_DETAILS, execution, () -> {
+            int updated = steamDetailsService.refreshKoreanNames();
+            if (updated > 0) dealsIndex.refreshEnrichment();
+            return updated;
+        }));
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        register(registrar, PRICES, schedule.getPrices());
+        register(registrar, IGDB_ENRICHMENT, schedule.getIgdbEnrichment());
+        register(registrar, PRICE_ARCHIVE, schedule.getPriceArchive());
+        register(registrar, STEAM_DETAILS, schedule.getSteamDetails());
+        checkResumeWindow();
+    }
+
+    /** 이어 받기 창이 가격 cron 간격보다 짧으면 실패한 실행은 다음 주기에 늘 ABANDONED 로 버려진다 */
+    private void checkResumeWindow() {
+        CrawlerConfig.Job prices = schedule.getPrices();
+        if (!prices.isEnabled() || prices.getCron() == null || prices.getCron().isBlank()) return;
+        CronExpression cron = CronExpression.parse(prices.getCron());
+        ZonedDateTime first = cron.next(ZonedDateTime.now(ZoneId.of(prices.getZone())));
+        ZonedDateTime second = first == null ? null : cron.next(first);
+        if (second == null) return;
+        Duration interval = Duration.between(first, second);
+        if (checkpoint.getResumeWindow().compareTo(interval) <= 0) {
+            log.warn("이어 받기 창이 가격 크롤링 간격보다 짧아 실패한 실행을 이어 받지 못함: resumeWindow={}, interval={}",
+                    checkpoint.getResumeWindow(), interval);
+        }
+    }
+
+    private void register(ScheduledTaskRegistrar registrar, String name, CrawlerConfig.Job job) {
+        if (!job.isEnabled() || job.getCron() == null || job.getCron().isBlank()) {
+            log.info("스케줄 비활성: job={}", name);
+            return;
+        }
+        // 스케줄러 스레드는 작업을 넘기기만 하고 바로 돌아간다
+        registrar.addTriggerTask(() -> trigger(name),
+                new CronTrigger(job.getCron(), ZoneId.of(job.getZone())));
+        log.info("스케줄 등록: job={}, cron={}, zone={}", name, job.getCron(), job.getZone());
+    }
+
+    /** 이전 프로세스가 가격 크롤링 도중에 죽었으면 다음 cron 을 기다리지 않고 바로 이어 받는다 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedCrawl() {
+        if (schedule.getPrices().isEnabled() && crawlerService.hasUnfinishedRun()) {
+            trigger(PRICES);
+        }
+    }
+
+    /**
+     * 작업을 지금 실행한다(스케줄과 같은 경로).
+     *
+     * @return 실행 결과로 완료되는 future. 같은 작업이 이미 실행 중이면 null 로 바로 완료
+     */
+    public CompletableFuture<JobRun> trigger(String name) {
+        JobRunner job = jobs.get(name);
+        if (job == null) throw new IllegalArgumentException("unknown job: " + name);
+        return job.trigger();
+    }
+
+    /** 작업별 누적 통계 스냅샷 */
+    public Map<String, JobStats> stats() {
+        Map<String, JobStats> snapshot = new TreeMap<>();
+        jobs.forEach((name, job) -> snapshot.put(name, job.stats()));
+        return snapshot;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(JobRunner::shutdown);
+    }
+
+    /**
+     * 작업 하나의 실행기. running 플래그로 겹치는 실행을 막고, 스레드 하나짜리 executor 에서 돌린다.
+     */
+    private static final class JobRunner {
+
+        private final String name;
+        private final IntSupplier task;
+        private final ExecutorService executor;
+        private final AtomicBoolean running = new AtomicBoolean();
+
+        private final LongAdder runs = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+        private final AtomicReference<JobRun> lastRun = new AtomicReference<>();
+
+        JobRunner(String name, CrawlExecution execution, IntSupplier task) {
+            this.name = name;
+            this.task = task;
+            // 스레드 하나 + 대기열 하나: 겹침은 running 플래그가 막고, 대기열은 running 을 내린 직후
+            // 스레드가 아직 반환되기 전에 다음 실행이 들어오는 경우만 받는다
+            this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1),
+                    execution.jobThreadFactory("crawl-" + name));
+        }
+
+        CompletableFuture<JobRun> trigger() {
+            if (!running.compareAndSet(false, true)) {
+                skipped.increment();
+                log.warn("이전 실행이 아직 진행 중 → 이번 실행 건너뜀: job={}", name);
+                return CompletableFuture.completedFuture(null);
+            }
+            try {
+                return CompletableFuture.supplyAsync(this::run, executor);
+            } catch (RuntimeException e) {
+                running.set(false);
+                throw e;
+            }
+        }
+
+        private JobRun run() {
+            Instant startedAt = Instant.now();
+            long begin = System.nanoTime();
+            int rows = 0;
+            String error = null;
+            JobRun run;
+            try {
+                rows = task.getAsInt();
+            } catch (RuntimeException e) {
+                failures.increment();
+                error = e.getClass().getSimpleName() + ": " + e.getMessage();
+                log.error("작업 실패: job={}", name, e);
+            } finally {
+                // 결과를 남긴 뒤에 running 을 내려야 stats() 가 끝난 실행을 놓치지 않는다
+                run = new JobRun(name, startedAt, Duration.ofNanos(System.nanoTime() - begin), rows, error);
+                lastRun.set(run);
+                runs.increment();
+                running.set(false);
+            }
+            log.info("작업 종료: job={}, rows={}, elapsedMs={}, succeeded={}", name, rows, run.duration().toMillis(),
+                    error == null);
+            return run;
+        }
+
+        JobStats stats() {
+            return new JobStats(runs.sum(), failures.sum(), skipped.sum(), running.get(), lastRun.get());
+        }
+
+        void shutdown() {
+            executor.shutdownNow();
+        }
+    }
+
+    /** 한 번의 실행 결과. error 는 성공이면 null */
+    public record JobRun(String job, Instant startedAt, Duration duration, int rows, String error) {
+        public boolean succeeded() {
+            return error == null;
+        }
+    }
+
+    /** lastRun 은 아직 한 번도 끝나지 않았으면 null */
+    public record JobStats(long runs, long failures, long skipped, boolean running, JobRun lastRun) {
+    }
 }
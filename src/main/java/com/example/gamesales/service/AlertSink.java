@@ -0,0 +1,14 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.dto.PriceAlert;
+
+import java.util.List;
+
+/**
+ * 가격 알림 전달 방식. 빈으로 등록된 모든 구현이 같은 알림 묶음을 받는다(이메일·웹훅 등은 구현을 추가한다).
+ * 적재가 커밋된 스레드에서 호출되므로 느린 전달은 구현 안에서 비동기로 넘긴다.
+ */
+public interface AlertSink {
+
+    void deliver(List<PriceAlert> alerts);
+}
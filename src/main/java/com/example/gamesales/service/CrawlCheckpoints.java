@@ -0,0 +1,158 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.dto.PriceDto;
+import com.example.gamesales.model.CrawlCheckpoint;
+import com.example.gamesales.model.CrawlRun;
+import com.example.gamesales.repository.CrawlCheckpointRepository;
+import com.example.gamesales.repository.CrawlRunRepository;
+import com.example.gamesales.repository.LatestPriceRepository;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 크롤링 실행(run)과 페이지 체크포인트.
+ *
+ * 실행을 시작하면 최근(resumeWindow 안)에 끝나지 못한 실행이 있는지 보고, 있으면 같은 실행 ID 로 이어 받는다.
+ * 페이지 체크포인트는 그 페이지 가격과 같은 트랜잭션에서 저장되므로({@link #commit}), 이어 받을 때는
+ * 체크포인트가 없는 페이지만 다시 가져오면 된다.
+ */
+@Slf4j
+@Service
+public class CrawlCheckpoints {
+
+    private static final List<CrawlRun.Status> UNFINISHED = List.of(CrawlRun.Status.RUNNING, CrawlRun.Status.FAILED);
+
+    private final CrawlRunRepository runRepo;
+    private final CrawlCheckpointRepository checkpointRepo;
+    private final LatestPriceRepository latestPriceRepo;
+    private final CrawlerConfig.Checkpoint config;
+
+    public CrawlCheckpoints(CrawlRunRepository runRepo,
+                            CrawlCheckpointRepository checkpointRepo,
+                            LatestPriceRepository latestPriceRepo,
+                            CrawlerConfig crawlerConfig) {
+        this.runRepo = runRepo;
+        this.checkpointRepo = checkpointRepo;
+        this.latestPriceRepo = latestPriceRepo;
+        this.config = crawlerConfig.getCheckpoint();
+    }
+
+    /** 이어 받을 실행이 있는지 (기동 직후 바로 이어 받을지 판단용) */
+    @Transactional
+    public boolean hasResumable() {
+        return resumable(LocalDateTime.now()).isPresent();
+    }
+
+    /**
+     * 실행을 시작한다. 이어 받을 실행이 있으면 그 실행과 완료된 페이지를, 없으면 새 실행을 돌려준다.
+     * 이어 받지 않는 오래된 미완료 실행은 ABANDONED 로 닫는다.
+     */
+    @Transactional
+    public Resume begin() {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<CrawlRun> resumable = resumable(now);
+        for (CrawlRun stale : runRepo.findByStatusInOrderByStartedAtDesc(UNFINISHED)) {
+            if (resumable.isEmpty() || !stale.equals(resumable.get())) {
+                stale.finish(CrawlRun.Status.ABANDONED, stale.getError(), now);
+            }
+        }
+
+        if (resumable.isPresent()) {
+            CrawlRun run = resumable.get();
+            run.resume();
+            Map<String, List<CrawlCheckpoint>> completed = new HashMap<>();
+            checkpointRepo.findByRunIdOrderByServiceNameAscPageAsc(run.getId())
+                    .forEach(cp -> completed.computeIfAbsent(cp.getServiceName(), s -> new ArrayList<>()).add(cp));
+            log.info("크롤링 실행 이어 받기: runId={}, attempt={}, completedPages={}",
+                    run.getId(), run.getAttempts(), completed.values().stream().mapToInt(List::size).sum());
+            return new Resume(run.getId(), run.getStartedAt(), completed);
+        }
+
+        CrawlRun run = runRepo.save(CrawlRun.builder()
+                .status(CrawlRun.Status.RUNNING)
+                .startedAt(now)
+                .attempts(1)
+                .build());
+        log.info("크롤링 실행 시작: runId={}", run.getId());
+        return new Resume(run.getId(), run.getStartedAt(), Map.of());
+    }
+
+    private Optional<CrawlRun> resumable(LocalDateTime now) {
+        LocalDateTime since = now.minus(config.getResumeWindow());
+        return runRepo.findByStatusInOrderByStartedAtDesc(UNFINISHED).stream()
+                .findFirst()
+                .filter(run -> run.getStartedAt().isAfter(since) && run.getAttempts() < config.getMaxAttempts());
+    }
+
+    /**
+     * 배치 적재와 그 배치로 끝난 페이지의 체크포인트를 한 트랜잭션으로 저장한다.
+     * ingest 안의 적재 트랜잭션은 이 트랜잭션에 합류한다.
+     */
+    @Transactional
+    public void commit(List<CrawlCheckpoint> pages, Runnable ingest) {
+        ingest.run();
+        checkpointRepo.saveAll(pages);
+    }
+
+    /**
+     * @param complete 모든 스토어·페이지가 저장됐으면 true. false 면 다음 실행이 이어 받는다
+     */
+    @Transactional
+    public void finish(long runId, boolean complete, String error) {
+        runRepo.findById(runId).ifPresent(run -> run.finish(
+                complete ? CrawlRun.Status.COMPLETED : CrawlRun.Status.FAILED, error, LocalDateTime.now()));
+    }
+
+    /**
+     * 이전 시도에서 저장한 페이지의 가격 (할인 인덱스를 실행 전체 결과로 다시 만들 때 쓴다). 랭킹 순.
+     */
+    @Transactional
+    public List<PriceDto> savedPrices(String serviceName, Collection<Integer> appIds) {
+        if (appIds.isEmpty()) return List.of();
+        return latestPriceRepo.findAllByServiceNameAndAppIdIn(serviceName, appIds).stream()
+                .map(lp -> new PriceDto(lp.getAppId(), lp.getEnglishName(), lp.getKoreanName(),
+                        lp.getInitialPrice(), lp.getFinalPrice(), lp.getDiscountPercent(), lp.getRanking()))
+                .sorted(Comparator.comparingInt(PriceDto::ranking))
+                .toList();
+    }
+
+    /**
+     * latest_price 에서 "마지막 크롤링에서 본 행"을 고르는 기준 시각. 실행의 모든 배치는 실행 시작 시각을 lastSeenAt 으로
+     * 남기므로, 마지막으로 끝난 실행의 시작 시각 이후에 본 행이 현재 목록이다 (진행 중인 실행이 아직 다시 보지 못한 게임도 남는다).
+     * 끝난 실행이 없거나 그 뒤로 이 스토어를 크롤링하지 않았으면 이 스토어의 가장 최근 크롤링 시각.
+     *
+     * @return 스토어에 행이 없으면 null
+     */
+    @Transactional
+    public LocalDateTime seenCutoff(String serviceName) {
+        LocalDateTime newest = latestPriceRepo.findLastSeenAt(serviceName);
+        if (newest == null) return null;
+        return runRepo.findFirstByStatusOrderByStartedAtDesc(CrawlRun.Status.COMPLETED)
+                .map(CrawlRun::getStartedAt)
+                .filter(completed -> completed.isBefore(newest))
+                .orElse(newest);
+    }
+
+    /**
+     * @param startedAt 실행 시작 시각 (이어 받아도 같다). 적재의 lastSeenAt 으로 쓴다
+     * @param completed 스토어별 이미 저장된 페이지. 새 실행이면 비어 있다
+     */
+    public record Resume(long runId, LocalDateTime startedAt, Map<String, List<CrawlCheckpoint>> completed) {
+
+        public boolean resumed() {
+            return !completed.isEmpty();
+        }
+
+        /** 스토어의 완료된 페이지 번호 */
+        public Set<Integer> completedPages(String serviceName) {
+            Set<Integer> pages = new HashSet<>();
+            completed.getOrDefault(serviceName, List.of()).forEach(cp -> pages.add(cp.getPage()));
+            return pages;
+        }
+    }
+}
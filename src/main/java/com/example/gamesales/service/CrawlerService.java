@@ -1,4 +1,87 @@
 package com.example.gamesales.service;
 
+import com.example.gamesales.crawler.StoreCrawler;
+import com.example.gamesales.dto.StorePage;
+import com.example.gamesales.util.CrawlExecution;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 등록된 모든 {@link StoreCrawler} 를 동시에 돌려 결과를 {@link StorePriceSink} 하나로 모은다.
+ *
+ * 스토어마다 자기 동시 요청 수·호스트 요청 제한 안에서 따로 진행되고(구독은 {@link CrawlExecution} 스케줄러에서), 저장은 공유 싱크가 배치로 처리하므로
+ * 스토어를 늘려도 전체 시간은 가장 느린 스토어 정도로 유지된다. 한 스토어가 실패해도 다른 스토어 결과는 저장된다.
+ *
+ * 실행마다 실행 ID 와 페이지 체크포인트를 남긴다({@link CrawlCheckpoints}). 실패한 스토어·페이지가 있거나 도중에
+ * 죽은 실행은 다음 실행이 이어 받아, 저장이 끝난 페이지는 다시 가져오지 않는다.
+ */
+@Slf4j
+@Service
 public class CrawlerService {
+
+    private final List<StoreCrawler> crawlers;
+    private final StorePriceSink sink;
+    private final GameTitleMatcher titleMatcher;
+    private final CrawlCheckpoints checkpoints;
+    private final CrawlExecution execution;
+
+    public CrawlerService(List<StoreCrawler> crawlers,
+                          StorePriceSink sink,
+                          GameTitleMatcher titleMatcher,
+                          CrawlCheckpoints checkpoints,
+                          CrawlExecution execution) {
+        this.crawlers = List.copyOf(crawlers);
+        this.sink = sink;
+        this.titleMatcher = titleMatcher;
+        this.checkpoints = checkpoints;
+        this.execution = execution;
+    }
+
+    /**
+     * 모든 스토어를 한 번 크롤링해 저장한다. 끝나지 못한 최근 실행이 있으면 이어 받는다.
+     *
+     * @return 스토어별 결과 (이어 받았으면 이전 시도분 포함)
+     */
+    public Map<String, StorePriceSink.StoreResult> crawlAll() {
+        List<StoreCrawler> enabled = crawlers.stream().filter(StoreCrawler::enabled).toList();
+        if (enabled.isEmpty()) return Map.of();
+        titleMatcher.refresh();
+
+        CrawlCheckpoints.Resume resume = checkpoints.begin();
+        Set<String> failed = new ConcurrentSkipListSet<>();
+        Flux<StorePage> pages = Flux.fromIterable(enabled)
+                .flatMap(crawler -> {
+                            Set<Integer> done = resume.completedPages(crawler.serviceName());
+                            return crawler.crawlPages(done::contains)
+                                    .subscribeOn(execution.scheduler())
+                                    .onErrorResume(e -> {
+                                        failed.add(crawler.serviceName());
+                                        log.warn("스토어 크롤링 실패: store={}, error={}", crawler.serviceName(), e.toString());
+                                        return Flux.empty();
+                                    });
+                        },
+                        enabled.size());
+
+        Map<String, StorePriceSink.StoreResult> results;
+        try {
+            results = sink.write(resume, pages).block();
+        } catch (RuntimeException e) {
+            checkpoints.finish(resume.runId(), false, e.getMessage());
+            throw e;
+        }
+        checkpoints.finish(resume.runId(), failed.isEmpty(),
+                failed.isEmpty() ? null : "incomplete stores: " + failed);
+        return results == null ? Map.of() : results;
+    }
+
+    /** 기동 직후 이어 받을 실행이 있는지 */
+    public boolean hasUnfinishedRun() {
+        return checkpoints.hasResumable();
+    }
 }
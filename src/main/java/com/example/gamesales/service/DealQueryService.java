@@ -0,0 +1,55 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.dto.DealResponse;
+import com.example.gamesales.repository.LatestPriceRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 현재 가격 조회. latest_price projection 만 읽는다 (이력은 {@link PriceHistoryService}).
+ * latest_price 행은 지우지 않으므로 마지막 크롤링에서 본 행만 돌려준다({@link CrawlCheckpoints#seenCutoff}).
+ */
+@Service
+public class DealQueryService {
+
+    /** 한 번에 돌려주는 최대 건수 */
+    public static final int MAX_LIMIT = 100;
+
+    private final LatestPriceRepository latestPriceRepo;
+    private final CrawlCheckpoints checkpoints;
+
+    public DealQueryService(LatestPriceRepository latestPriceRepo, CrawlCheckpoints checkpoints) {
+        this.latestPriceRepo = latestPriceRepo;
+        this.checkpoints = checkpoints;
+    }
+
+    /** 할인 중인 게임, 할인율 높은 순 (같으면 인기순) */
+    @Transactional
+    public List<DealResponse> topDiscounts(String serviceName, int limit) {
+        LocalDateTime seenSince = checkpoints.seenCutoff(serviceName);
+        if (seenSince == null) return List.of();
+        return latestPriceRepo.findDiscounted(serviceName, 0, seenSince, PageRequest.of(0, clamp(limit)))
+                .stream()
+                .map(DealResponse::from)
+                .toList();
+    }
+
+    /** 플랫폼 지원 게임, 인기순 */
+    @Transactional
+    public List<DealResponse> byPlatform(String serviceName, String platform, int limit) {
+        LocalDateTime seenSince = checkpoints.seenCutoff(serviceName);
+        if (seenSince == null) return List.of();
+        return latestPriceRepo.findByPlatform(serviceName, platform, seenSince, PageRequest.of(0, clamp(limit)))
+                .stream()
+                .map(DealResponse::from)
+                .toList();
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
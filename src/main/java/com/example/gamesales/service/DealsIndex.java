@@ -0,0 +1,246 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.dto.PriceDto;
+import com.example.gamesales.model.LatestPrice;
+import com.example.gamesales.repository.LatestPriceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+/**
+ * "지금 할인 중" 조회용 메모리 인덱스. 크롤링이 끝날 때마다 결과(PriceDto 목록)로 새로 만들고,
+ * AtomicReference 교체 한 번으로 공개한다. 읽기는 락 없이 그 시점의 완성된 스냅샷만 본다.
+ *
+ * 스냅샷은 행 번호 기반 배열이다: 할인율·가격·랭킹 순 정렬 인덱스(int[]), appId 이분 탐색용 정렬 배열,
+ * 플랫폼별 BitSet. 조회는 정렬 배열을 앞에서부터 훑으며 BitSet 으로 거르므로 DB 를 거치지 않는다.
+ */
+@Slf4j
+@Component
+public class DealsIndex {
+
+    public enum Sort {
+        /** 할인 중인 게임만, 할인율 높은 순 (같으면 랭킹 순) */
+        DISCOUNT,
+        /** 최종 가격 낮은 순 (같으면 랭킹 순) */
+        PRICE,
+        /** 인기순 */
+        RANKING
+    }
+
+    private final LatestPriceRepository latestPriceRepo;
+    private final CrawlCheckpoints checkpoints;
+    private final AtomicReference<Map<String, Snapshot>> snapshots = new AtomicReference<>(Map.of());
+
+    public DealsIndex(LatestPriceRepository latestPriceRepo, CrawlCheckpoints checkpoints) {
+        this.latestPriceRepo = latestPriceRepo;
+        this.checkpoints = checkpoints;
+    }
+
+    /** 기동 직후 마지막 크롤링 결과(latest_price)로 채워 둔다. 다음 크롤링 전까지 빈 응답을 주지 않도록 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        latestPriceRepo.findServiceNames().forEach(this::loadFromProjection);
+    }
+
+    /** 크롤링 결과로 다시 만든다. 플랫폼·보강한 한국어 이름은 latest_price 에서 한 번에 읽는다 */
+    public void rebuild(String serviceName, List<PriceDto> dtos) {
+        List<LatestPrice> rows = latestRows(dtos);
+        publish(serviceName, withKoreanNames(serviceName, dtos, rows), platformsOf(rows));
+    }
+
+    /** 보강(IGDB 플랫폼, Steam 한국어 이름) 뒤 호출: 가격은 그대로 두고 플랫폼 비트셋과 이름만 다시 만든다 */
+    public void refreshEnrichment() {
+        snapshots.get().forEach((service, old) -> {
+            List<PriceDto> dtos = Arrays.asList(old.rows);
+            List<LatestPrice> rows = latestRows(dtos);
+            Snapshot fresh = Snapshot.build(withKoreanNames(service, dtos, rows), platformsOf(rows));
+            // 그 사이 새 크롤링 결과가 공개됐으면 그쪽이 더 최신이므로 덮어쓰지 않는다
+            snapshots.updateAndGet(current -> current.get(service) == old ? with(current, service, fresh) : current);
+        });
+    }
+
+    /** 새 스냅샷을 만들어 교체한다 */
+    public void publish(String serviceName, List<PriceDto> dtos, Map<Integer, List<String>> platformsByAppId) {
+        Snapshot snapshot = Snapshot.build(dtos, platformsByAppId);
+        snapshots.updateAndGet(current -> with(current, serviceName, snapshot));
+    }
+
+    private static Map<String, Snapshot> with(Map<String, Snapshot> current, String serviceName, Snapshot snapshot) {
+        Map<String, Snapshot> next = new HashMap<>(current);
+        next.put(serviceName, snapshot);
+        return Map.copyOf(next);
+    }
+
+    /**
+     * @param platform null 이면 전체
+     */
+    public List<PriceDto> query(String serviceName, Sort sort, String platform, int limit) {
+        Snapshot snapshot = snapshots.get().get(serviceName);
+        if (snapshot == null || limit <= 0) return List.of();
+        return snapshot.query(sort, platform, limit);
+    }
+
+    public Optional<PriceDto> find(String serviceName, int appId) {
+        Snapshot snapshot = snapshots.get().get(serviceName);
+        return snapshot == null ? Optional.empty() : Optional.ofNullable(snapshot.find(appId));
+    }
+
+    /** 스토어별 인덱스 행 수 */
+    public Map<String, Integer> sizes() {
+        Map<String, Integer> sizes = new TreeMap<>();
+        snapshots.get().forEach((service, snapshot) -> sizes.put(service, snapshot.rows.length));
+        return sizes;
+    }
+
+    private void loadFromProjection(String serviceName) {
+        // latest_price 에는 순위권 밖으로 나간 게임도 남아 있으므로 마지막 크롤링에서 본 행만 쓴다
+        LocalDateTime cutoff = checkpoints.seenCutoff(serviceName);
+        if (cutoff == null) {
+            // 아직 크롤링한 적 없는 스토어
+            publish(serviceName, List.of(), Map.of());
+            log.info("DealsIndex 초기화: store={}, rows=0", serviceName);
+            return;
+        }
+        List<LatestPrice> rows = latestPriceRepo.findWithPlatformsByServiceName(serviceName);
+        List<PriceDto> dtos = new ArrayList<>();
+        Map<Integer, List<String>> platforms = new HashMap<>();
+        for (LatestPrice lp : rows) {
+            if (lp.getLastSeenAt().isBefore(cutoff)) continue;
+            dtos.add(new PriceDto(lp.getAppId(), lp.getEnglishName(), lp.getKoreanName(), lp.getInitialPrice(),
+                    lp.getFinalPrice(), lp.getDiscountPercent(), lp.getRanking()));
+            platforms.put(lp.getAppId(), List.copyOf(lp.getPlatforms()));
+        }
+        publish(serviceName, dtos, platforms);
+        log.info("DealsIndex 초기화: store={}, rows={}", serviceName, dtos.size());
+    }
+
+    /** dtos 게임의 모든 스토어 latest_price 행 (플랫폼 포함) */
+    private List<LatestPrice> latestRows(List<PriceDto> dtos) {
+        Set<Integer> appIds = new HashSet<>();
+        dtos.forEach(dto -> appIds.add(dto.appId()));
+        if (appIds.isEmpty()) return List.of();
+        return latestPriceRepo.findWithPlatformsByAppIdIn(appIds);
+    }
+
+    private static Map<Integer, List<String>> platformsOf(List<LatestPrice> rows) {
+        Map<Integer, List<String>> platforms = new HashMap<>();
+        rows.forEach(lp -> platforms.merge(lp.getAppId(), List.copyOf(lp.getPlatforms()),
+                (a, b) -> a.isEmpty() ? b : a));
+        return platforms;
+    }
+
+    /**
+     * Steam 검색 페이지는 영어 제목만 주므로, 보강 경로가 latest_price 에 저장한 한국어 이름으로 바꾼다.
+     * 다른 스토어는 크롤링한 제목이 그대로 이름이다.
+     */
+    private static List<PriceDto> withKoreanNames(String serviceName, List<PriceDto> dtos, List<LatestPrice> rows) {
+        if (!GamePriceIngestService.CATALOG_SERVICE.equals(serviceName)) return dtos;
+        Map<Integer, String> names = new HashMap<>();
+        rows.forEach(lp -> {
+            if (serviceName.equals(lp.getServiceName())) names.put(lp.getAppId(), lp.getKoreanName());
+        });
+        List<PriceDto> renamed = new ArrayList<>(dtos.size());
+        for (PriceDto dto : dtos) {
+            String name = names.get(dto.appId());
+            renamed.add(name == null || name.equals(dto.koreanName()) ? dto
+                    : new PriceDto(dto.appId(), dto.englishName(), name, dto.initialPrice(), dto.finalPrice(),
+                    dto.discountPercent(), dto.ranking()));
+        }
+        return renamed;
+    }
+
+    /**
+     * 불변 스냅샷. 만든 뒤에는 배열을 바꾸지 않으므로 여러 스레드가 그대로 읽어도 된다.
+     */
+    static final class Snapshot {
+
+        private final PriceDto[] rows;
+        private final int[] byDiscount;
+        private final int[] byPrice;
+        private final int[] byRanking;
+        /** 할인 중인 행 수 (byDiscount 앞쪽) */
+        private final int discounted;
+        private final int[] sortedAppIds;
+        private final int[] rowOfSortedAppId;
+        private final Map<String, BitSet> platformRows;
+
+        private Snapshot(PriceDto[] rows, int[] byDiscount, int[] byPrice, int[] byRanking, int discounted,
+                         int[] sortedAppIds, int[] rowOfSortedAppId, Map<String, BitSet> platformRows) {
+            this.rows = rows;
+            this.byDiscount = byDiscount;
+            this.byPrice = byPrice;
+            this.byRanking = byRanking;
+            this.discounted = discounted;
+            this.sortedAppIds = sortedAppIds;
+            this.rowOfSortedAppId = rowOfSortedAppId;
+            this.platformRows = platformRows;
+        }
+
+        static Snapshot build(List<PriceDto> dtos, Map<Integer, List<String>> platformsByAppId) {
+            // 같은 appId 가 두 번 오면 먼저 온(랭킹이 높은) 행만 남긴다
+            Map<Integer, PriceDto> unique = new LinkedHashMap<>();
+            dtos.forEach(dto -> unique.putIfAbsent(dto.appId(), dto));
+            PriceDto[] rows = unique.values().toArray(PriceDto[]::new);
+            int n = rows.length;
+
+            int[] byDiscount = sortedRows(n, Comparator
+                    .comparingInt((Integer r) -> -rows[r].discountPercent())
+                    .thenComparingInt(r -> rows[r].ranking()));
+            int[] byPrice = sortedRows(n, Comparator
+                    .comparingInt((Integer r) -> rows[r].finalPrice())
+                    .thenComparingInt(r -> rows[r].ranking()));
+            int[] byRanking = sortedRows(n, Comparator.comparingInt((Integer r) -> rows[r].ranking()));
+            int discounted = 0;
+            while (discounted < n && rows[byDiscount[discounted]].discountPercent() > 0) discounted++;
+
+            int[] rowOfSortedAppId = sortedRows(n, Comparator.comparingInt((Integer r) -> rows[r].appId()));
+            int[] sortedAppIds = new int[n];
+            for (int i = 0; i < n; i++) sortedAppIds[i] = rows[rowOfSortedAppId[i]].appId();
+
+            Map<String, BitSet> platformRows = new HashMap<>();
+            for (int r = 0; r < n; r++) {
+                for (String platform : platformsByAppId.getOrDefault(rows[r].appId(), List.of())) {
+                    platformRows.computeIfAbsent(platform, p -> new BitSet(n)).set(r);
+                }
+            }
+            return new Snapshot(rows, byDiscount, byPrice, byRanking, discounted,
+                    sortedAppIds, rowOfSortedAppId, Map.copyOf(platformRows));
+        }
+
+        List<PriceDto> query(Sort sort, String platform, int limit) {
+            BitSet filter = null;
+            if (platform != null) {
+                filter = platformRows.get(platform);
+                if (filter == null) return List.of();
+            }
+            int[] order = switch (sort) {
+                case DISCOUNT -> byDiscount;
+                case PRICE -> byPrice;
+                case RANKING -> byRanking;
+            };
+            int end = sort == Sort.DISCOUNT ? discounted : order.length;
+
+            List<PriceDto> result = new ArrayList<>(Math.min(limit, end));
+            for (int i = 0; i < end && result.size() < limit; i++) {
+                int row = order[i];
+                if (filter == null || filter.get(row)) result.add(rows[row]);
+            }
+            return result;
+        }
+
+        PriceDto find(int appId) {
+            int i = Arrays.binarySearch(sortedAppIds, appId);
+            return i < 0 ? null : rows[rowOfSortedAppId[i]];
+        }
+
+        private static int[] sortedRows(int n, Comparator<Integer> order) {
+            return IntStream.range(0, n).boxed().sorted(order).mapToInt(Integer::intValue).toArray();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.model.Game;
+import com.example.gamesales.repository.GameRepository;
+import com.example.gamesales.repository.LatestPriceRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 외부 API(IGDB 등)로 보강한 게임 정보를 청크 단위로 한 트랜잭션에 저장한다.
+ */
+@Service
+public class GameEnrichmentWriter {
+
+    private final GameRepository gameRepo;
+    private final LatestPriceRepository latestPriceRepo;
+
+    public GameEnrichmentWriter(GameRepository gameRepo, LatestPriceRepository latestPriceRepo) {
+        this.gameRepo = gameRepo;
+        this.latestPriceRepo = latestPriceRepo;
+    }
+
+    /**
+     * appId별 지원 플랫폼을 저장한다. 게임 조회는 IN 쿼리 한 번, 바뀐 게임만 갱신한다.
+     * 바뀐 게임은 latest_price projection 의 플랫폼도 함께 바꾼다. 빈 목록으로는 덮어쓰지 않는다
+     * (IGDB 가 플랫폼을 주지 않았거나 이름을 찾지 못한 경우라 저장된 값이 더 낫다).
+     *
+     * @return 플랫폼 목록이 바뀐 게임 수
+     */
+    @Transactional
+    public int updatePlatforms(Map<Integer, List<String>> platformsByAppId) {
+        if (platformsByAppId.isEmpty()) return 0;
+
+        Set<Integer> changed = new HashSet<>();
+        for (Game game : gameRepo.findWithPlatformsByAppIdIn(platformsByAppId.keySet())) {
+            List<String> names = platformsByAppId.get(game.getAppId());
+            if (names == null || names.isEmpty() || names.equals(game.getSupportedPlatforms())) continue;
+            game.setSupportedPlatforms(names);
+            changed.add(game.getAppId());
+        }
+        if (!changed.isEmpty()) {
+            latestPriceRepo.findWithPlatformsByAppIdIn(changed)
+                    .forEach(lp -> lp.setPlatforms(platformsByAppId.get(lp.getAppId())));
+        }
+        return changed.size();
+    }
+
+    /**
+     * appdetails 로 확인한 한국어 이름을 저장한다. 확인한 게임은 이름이 없어도 확인 시각을 남겨 다음 주기까지 건너뛴다.
+     * 이름이 바뀐 게임은 Steam latest_price 행의 이름도 함께 바꾼다.
+     *
+     * @param namesByAppId 확인한 appId → 한국어 이름 (이름이 없으면 빈 문자열)
+     * @return 이름이 바뀐 게임 수
+     */
+    @Transactional
+    public int updateKoreanNames(Map<Integer, String> namesByAppId, LocalDateTime fetchedAt) {
+        if (namesByAppId.isEmpty()) return 0;
+
+        Map<Integer, String> changed = new HashMap<>();
+        for (Game game : gameRepo.findAllByAppIdIn(namesByAppId.keySet())) {
+            String name = namesByAppId.get(game.getAppId());
+            if (name != null && !name.isBlank() && !name.equals(game.getKoreanName())) {
+                changed.put(game.getAppId(), name);
+            }
+            game.updateDetails(name, fetchedAt);
+        }
+        if (!changed.isEmpty()) {
+            latestPriceRepo.findAllByServiceNameAndAppIdIn(GamePriceIngestService.CATALOG_SERVICE, changed.keySet())
+                    .forEach(lp -> lp.updateKoreanName(changed.get(lp.getAppId())));
+        }
+        return changed.size();
+    }
+}
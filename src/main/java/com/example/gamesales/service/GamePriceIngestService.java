@@ -0,0 +1,245 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.dto.PriceChange;
+import com.example.gamesales.dto.PriceChangeEvent;
+import com.example.gamesales.dto.PriceDto;
+import com.example.gamesales.model.Game;
+import com.example.gamesales.model.GamePrice;
+import com.example.gamesales.model.LatestPrice;
+import com.example.gamesales.repository.GamePriceRepository;
+import com.example.gamesales.repository.GameRepository;
+import com.example.gamesales.repository.LatestPriceRepository;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 크롤링 결과를 한 번에 저장하는 벌크 적재 경로.
+ * appId는 IN 쿼리 한 번으로 조회하고, 신규 Game과 GamePrice는 JDBC 배치로 insert 한다.
+ *
+ * 델타 모드(crawler.ingest.delta)에서는 가격이 바뀐 게임만 새 GamePrice 행을 만들고,
+ * 그대로인 게임은 마지막 행의 lastSeenAt 만 update 한 문장으로 옮긴다. 이력 테이블은 크롤링 횟수가 아니라
+ * 가격 변경 횟수만큼 늘어난다.
+ *
+ * 같은 트랜잭션에서 읽기 API 용 latest_price projection 도 갱신하고, projection 에서 가격이 바뀐(또는 처음 본) 게임만
+ * {@link PriceChangeEvent} 로 내보낸다. 가격 알림은 커밋된 뒤 이 이벤트로만 평가된다({@link PriceAlertEngine}).
+ *
+ * 게임 목록(appId)과 게임 랭킹은 Steam 크롤링이 기준이다. 다른 스토어 가격은 이미 있는 게임에만 붙는다.
+ */
+@Slf4j
+@Service
+public class GamePriceIngestService {
+
+    /** 게임을 새로 만들고 랭킹을 매기는 스토어 */
+    public static final String CATALOG_SERVICE = "Steam";
+
+    private final GameRepository gameRepo;
+    private final GamePriceRepository priceRepo;
+    private final LatestPriceRepository latestPriceRepo;
+    private final LastKnownPrices lastKnownPrices;
+    private final CrawlerConfig.Ingest config;
+    private final ApplicationEventPublisher events;
+
+    public GamePriceIngestService(GameRepository gameRepo,
+                                  GamePriceRepository priceRepo,
+                                  LatestPriceRepository latestPriceRepo,
+                                  LastKnownPrices lastKnownPrices,
+                                  CrawlerConfig crawlerConfig,
+                                  ApplicationEventPublisher events) {
+        this.gameRepo = gameRepo;
+        this.priceRepo = priceRepo;
+        this.latestPriceRepo = latestPriceRepo;
+        this.lastKnownPrices = lastKnownPrices;
+        this.config = crawlerConfig.getIngest();
+        this.events = events;
+    }
+
+    /**
+     * 크롤링 한 번을 한 번에 저장한다. latest_price 의 lastSeenAt 은 지금 시각.
+     *
+     * @return 새로 저장한 가격 행 수
+     */
+    @Transactional
+    public int ingest(String serviceName, List<PriceDto> dtos) {
+        return ingest(serviceName, dtos, LocalDateTime.now());
+    }
+
+    /**
+     * @param seenAt latest_price 의 lastSeenAt. 크롤링 하나를 여러 배치(이어 받은 시도 포함)로 나눠 저장할 때는
+     *               실행 전체에 같은 값을 넘겨야 "마지막 크롤링에서 본 행"을 이 값 하나로 고를 수 있다
+     * @return 새로 저장한 가격 행 수
+     */
+    @Transactional
+    public int ingest(String serviceName, List<PriceDto> dtos, LocalDateTime seenAt) {
+        if (dtos == null || dtos.isEmpty()) return 0;
+
+        // 1) 이미 있는 게임을 IN 쿼리 한 번으로 조회
+        Set<Integer> appIds = new HashSet<>();
+        dtos.forEach(dto -> appIds.add(dto.appId()));
+        Map<Integer, Game> gamesByAppId = new HashMap<>();
+        gameRepo.findAllByAppIdIn(appIds).forEach(g -> gamesByAppId.put(g.getAppId(), g));
+
+        boolean catalog = CATALOG_SERVICE.equals(serviceName);
+        if (!catalog) {
+            dtos = dtos.stream().filter(dto -> gamesByAppId.containsKey(dto.appId())).toList();
+            if (dtos.isEmpty()) return 0;
+        }
+
+        // 2) 기존 게임은 랭킹만 갱신(dirty checking → 배치 update), 없는 게임은 모아서 배치 insert
+        List<Game> newGames = new ArrayList<>();
+        if (catalog) {
+            for (PriceDto dto : dtos) {
+                Game game = gamesByAppId.get(dto.appId());
+                if (game == null) {
+                    game = Game.builder()
+                            .appId(dto.appId())
+                            .englishName(dto.englishName())
+                            .koreanName(dto.koreanName())
+                            .normalizedKey(normalizeKey(dto.englishName(), dto.appId()))
+                            .ranking(dto.ranking())
+                            .build();
+                    gamesByAppId.put(dto.appId(), game);
+                    newGames.add(game);
+                } else if (!Objects.equals(game.getRanking(), dto.ranking())) {
+                    game.updateRanking(dto.ranking());
+                }
+            }
+        }
+        gameRepo.saveAll(newGames);
+
+        // 3) 가격 이력: 바뀐 가격만 배치 insert, 그대로인 가격은 lastSeenAt 만 갱신
+        LocalDateTime fetchedAt = LocalDateTime.now();
+        List<GamePrice> prices = new ArrayList<>(dtos.size());
+        List<Long> unchanged = new ArrayList<>();
+        for (PriceDto dto : dtos) {
+            LastKnownPrices.Price last = config.isDelta() ? lastKnownPrices.get(serviceName, dto.appId()) : null;
+            if (last != null && last.sameAs(dto.initialPrice(), dto.finalPrice(), dto.discountPercent())) {
+                unchanged.add(last.priceId());
+                continue;
+            }
+            prices.add(GamePrice.builder()
+                    .game(gamesByAppId.get(dto.appId()))
+                    .serviceName(serviceName)
+                    .initialPrice(dto.initialPrice())
+                    .finalPrice(dto.finalPrice())
+                    .discountPercent(dto.discountPercent())
+                    .fetchedAt(fetchedAt)
+                    .lastSeenAt(fetchedAt)
+                    .build());
+        }
+        priceRepo.saveAll(prices);
+        if (!unchanged.isEmpty()) {
+            priceRepo.touchLastSeen(unchanged, fetchedAt);
+        }
+
+        if (config.isDelta()) {
+            prices.forEach(p -> lastKnownPrices.put(serviceName, p.getGame().getAppId(),
+                    new LastKnownPrices.Price(p.getId(), p.getInitialPrice(), p.getFinalPrice(), p.getDiscountPercent())));
+            resetOnRollback(serviceName);
+        }
+
+        // 4) 읽기 API 용 projection, 바뀐 가격은 알림 평가로
+        List<PriceChange> changes = updateLatestPrices(serviceName, dtos, gamesByAppId, newGames, fetchedAt, seenAt);
+        if (!changes.isEmpty()) {
+            events.publishEvent(new PriceChangeEvent(serviceName, changes));
+        }
+
+        log.debug("가격 적재: store={}, rows={}, changed={}, unchanged={}",
+                serviceName, dtos.size(), prices.size(), unchanged.size());
+        return prices.size();
+    }
+
+    /**
+     * latest_price 를 이번 크롤링 결과로 맞춘다. 조회는 IN 쿼리 한 번, 새 행은 배치 insert,
+     * 가격·랭킹이 바뀐 행만 dirty checking 으로 update, lastSeenAt 은 update 한 문장으로 옮긴다.
+     *
+     * @return 가격이 바뀌었거나 처음 본 게임
+     */
+    private List<PriceChange> updateLatestPrices(String serviceName, List<PriceDto> dtos, Map<Integer, Game> gamesByAppId,
+                                    List<Game> newGames, LocalDateTime fetchedAt, LocalDateTime seenAt) {
+        Map<Integer, LatestPrice> latestByAppId = new HashMap<>();
+        latestPriceRepo.findAllByServiceNameAndAppIdIn(serviceName, gamesByAppId.keySet())
+                .forEach(lp -> latestByAppId.put(lp.getAppId(), lp));
+
+        List<LatestPrice> created = new ArrayList<>();
+        List<PriceChange> changes = new ArrayList<>();
+        for (PriceDto dto : dtos) {
+            LatestPrice latest = latestByAppId.get(dto.appId());
+            if (latest == null) {
+                latest = LatestPrice.builder()
+                        .serviceName(serviceName)
+                        .appId(dto.appId())
+                        .englishName(dto.englishName())
+                        .koreanName(dto.koreanName())
+                        .ranking(dto.ranking())
+                        .initialPrice(dto.initialPrice())
+                        .finalPrice(dto.finalPrice())
+                        .discountPercent(dto.discountPercent())
+                        .priceSince(fetchedAt)
+                        .lastSeenAt(seenAt)
+                        .build();
+                latestByAppId.put(dto.appId(), latest);
+                created.add(latest);
+                changes.add(new PriceChange(serviceName, dto.appId(), dto.englishName(), null, null,
+                        dto.initialPrice(), dto.finalPrice(), dto.discountPercent(), fetchedAt));
+                continue;
+            }
+            if (!Objects.equals(latest.getRanking(), dto.ranking())) {
+                latest.updateRanking(dto.ranking());
+            }
+            if (latest.getInitialPrice() != dto.initialPrice()
+                    || latest.getFinalPrice() != dto.finalPrice()
+                    || latest.getDiscountPercent() != dto.discountPercent()) {
+                changes.add(new PriceChange(serviceName, dto.appId(), dto.englishName(),
+                        latest.getFinalPrice(), latest.getDiscountPercent(),
+                        dto.initialPrice(), dto.finalPrice(), dto.discountPercent(), fetchedAt));
+                latest.updatePrice(dto.initialPrice(), dto.finalPrice(), dto.discountPercent(), fetchedAt);
+            }
+        }
+        latestPriceRepo.saveAll(created);
+
+        // 이미 있던 게임이 이 스토어 projection 에 처음 들어오면 보강된 플랫폼을 복사
+        Set<Integer> needPlatforms = new HashSet<>();
+        created.forEach(lp -> needPlatforms.add(lp.getAppId()));
+        newGames.forEach(g -> needPlatforms.remove(g.getAppId()));
+        if (!needPlatforms.isEmpty()) {
+            gameRepo.findWithPlatformsByAppIdIn(needPlatforms)
+                    .forEach(g -> latestByAppId.get(g.getAppId()).setPlatforms(g.getSupportedPlatforms()));
+        }
+
+        // dirty 변경이 먼저 flush 된 뒤 실행되므로 덮어쓰이지 않는다
+        latestPriceRepo.touchLastSeen(serviceName, latestByAppId.keySet(), seenAt);
+        return changes;
+    }
+
+    /** 트랜잭션이 롤백되면 메모리의 마지막 가격도 DB 와 어긋나므로 비워서 다시 채우게 한다 */
+    private void resetOnRollback(String serviceName) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    lastKnownPrices.reset(serviceName);
+                }
+            }
+        });
+    }
+
+    public static String normalizeKey(String input, int appId) {
+        String slug = Optional.ofNullable(input)
+                .map(s -> s.toLowerCase()
+                        .replaceAll("[^a-z0-9\\s]", "")
+                        .trim()
+                        .replaceAll("\\s+", "-"))
+                .filter(s -> !s.isBlank())
+                .orElse("game");
+        return slug + "-" + appId;
+    }
+}
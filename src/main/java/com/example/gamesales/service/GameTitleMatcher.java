@@ -0,0 +1,227 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.repository.GameRepository;
+import com.example.gamesales.util.TitleNormalizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 다른 스토어 상품 제목 → Steam appId. 게임 목록(appId)은 Steam 크롤링이 기준이므로
+ * PSN·eShop·DirectG 가격은 제목이 가장 비슷한 Steam 게임에 붙인다.
+ *
+ * 제목은 {@link TitleNormalizer} 로 정규화한 뒤(영문·한글 이름 둘 다) 메모리 trigram 역색인에 넣는다.
+ * 조회는 정규화 제목이 같으면 해시 한 번, 아니면 질의 trigram 의 posting 만 훑어 겹치는 수를 세므로
+ * 전체 게임과 문자열을 비교하지 않는다. 유사도(Jaccard)가 crawler.matching.threshold 이상인 최고점 게임을 돌려준다.
+ * 숫자·로마 숫자 단어(속편 번호)가 다르면 유사도와 상관없이 다른 게임으로 본다 ("Hades" ≠ "Hades II").
+ *
+ * 색인은 크롤링마다 {@link #refresh()} 로 새로 만들어 통째로 교체하므로 조회에 락이 없다.
+ */
+@Slf4j
+@Component
+public class GameTitleMatcher {
+
+    private final GameRepository gameRepo;
+    private final double threshold;
+    private volatile TitleIndex index = TitleIndex.build(List.of());
+
+    public GameTitleMatcher(GameRepository gameRepo, CrawlerConfig crawlerConfig) {
+        this.gameRepo = gameRepo;
+        this.threshold = crawlerConfig.getMatching().getThreshold();
+    }
+
+    /** 게임 목록을 다시 읽어 색인을 교체한다 */
+    public void refresh() {
+        long begin = System.nanoTime();
+        List<TitleIndex.Entry> entries = new ArrayList<>();
+        gameRepo.findAllTitles().forEach(t -> {
+            if (t.getAppId() == null) return;
+            entries.add(new TitleIndex.Entry(t.getAppId(), t.getEnglishName()));
+            entries.add(new TitleIndex.Entry(t.getAppId(), t.getKoreanName()));
+        });
+        index = TitleIndex.build(entries);
+        log.info("제목 색인: titles={}, elapsedMs={}", index.size(), (System.nanoTime() - begin) / 1_000_000);
+    }
+
+    /** @return 가장 비슷한 게임의 appId, 기준 유사도 미만이면 null */
+    public Integer match(String title) {
+        return best(title).map(Match::appId).orElse(null);
+    }
+
+    public Optional<Match> best(String title) {
+        return Optional.ofNullable(index.best(TitleNormalizer.normalize(title), threshold));
+    }
+
+    /**
+     * 여러 제목을 한 번에 매칭한다(전체 카탈로그 대조용). 같은 색인 스냅샷 하나로 처리한다.
+     *
+     * @return 매칭된 제목만 담은 맵
+     */
+    public Map<String, Match> matchAll(Collection<String> titles) {
+        TitleIndex snapshot = index;
+        Map<String, Match> matches = new HashMap<>();
+        for (String title : titles) {
+            Match match = snapshot.best(TitleNormalizer.normalize(title), threshold);
+            if (match != null) matches.put(title, match);
+        }
+        return matches;
+    }
+
+    /**
+     * @param title 매칭된 게임 제목(정규화 전)
+     * @param score 1 이면 정규화 제목이 같음
+     */
+    public record Match(int appId, String title, double score) {
+    }
+
+    /**
+     * 불변 trigram 역색인. 만든 뒤에는 바꾸지 않으므로 여러 스레드가 그대로 읽어도 된다.
+     */
+    static final class TitleIndex {
+
+        record Entry(int appId, String title) {
+        }
+
+        /** 조회마다 게임 수만큼 배열을 새로 만들지 않도록 스레드별로 재사용 */
+        private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+        private final int[] appIds;
+        private final String[] titles;
+        private final int[] gramCounts;
+        private final String[] numbers;
+        private final Map<String, Integer> exact;
+        private final Map<Long, int[]> postings;
+
+        private TitleIndex(int[] appIds, String[] titles, int[] gramCounts, String[] numbers,
+                           Map<String, Integer> exact, Map<Long, int[]> postings) {
+            this.appIds = appIds;
+            this.titles = titles;
+            this.gramCounts = gramCounts;
+            this.numbers = numbers;
+            this.exact = exact;
+            this.postings = postings;
+        }
+
+        /** 같은 정규화 제목이 여럿이면 먼저 온 게임이 exact 매칭을 가진다 */
+        static TitleIndex build(List<Entry> entries) {
+            List<Entry> rows = new ArrayList<>();
+            List<String> keys = new ArrayList<>();
+            Set<String> seen = new HashSet<>();
+            for (Entry entry : entries) {
+                String key = TitleNormalizer.normalize(entry.title());
+                if (key.isEmpty() || !seen.add(entry.appId() + "|" + key)) continue;
+                rows.add(entry);
+                keys.add(key);
+            }
+
+            int n = rows.size();
+            int[] appIds = new int[n];
+            String[] titles = new String[n];
+            int[] gramCounts = new int[n];
+            String[] numbers = new String[n];
+            Map<String, Integer> exact = new HashMap<>();
+            Map<Long, List<Integer>> lists = new HashMap<>();
+            for (int row = 0; row < n; row++) {
+                String key = keys.get(row);
+                appIds[row] = rows.get(row).appId();
+                titles[row] = rows.get(row).title();
+                numbers[row] = numbersOf(key);
+                exact.putIfAbsent(key, row);
+                long[] grams = trigrams(key);
+                gramCounts[row] = grams.length;
+                for (long gram : grams) {
+                    lists.computeIfAbsent(gram, g -> new ArrayList<>()).add(row);
+                }
+            }
+            Map<Long, int[]> postings = new HashMap<>(lists.size() * 2);
+            lists.forEach((gram, list) -> postings.put(gram, list.stream().mapToInt(Integer::intValue).toArray()));
+            return new TitleIndex(appIds, titles, gramCounts, numbers, Map.copyOf(exact), postings);
+        }
+
+        int size() {
+            return appIds.length;
+        }
+
+        Match best(String key, double threshold) {
+            if (key.isEmpty()) return null;
+            Integer exactRow = exact.get(key);
+            if (exactRow != null) return new Match(appIds[exactRow], titles[exactRow], 1.0);
+
+            long[] grams = trigrams(key);
+            String queryNumbers = numbersOf(key);
+            Scratch scratch = SCRATCH.get().ensure(appIds.length);
+            int[] counts = scratch.counts;
+            int touched = 0;
+            for (long gram : grams) {
+                int[] rows = postings.get(gram);
+                if (rows == null) continue;
+                for (int row : rows) {
+                    if (counts[row]++ == 0) touched = scratch.touch(touched, row);
+                }
+            }
+
+            int bestRow = -1;
+            double bestScore = threshold;
+            for (int i = 0; i < touched; i++) {
+                int row = scratch.touched[i];
+                int shared = counts[row];
+                counts[row] = 0;
+                double score = (double) shared / (grams.length + gramCounts[row] - shared);
+                if (!numbers[row].equals(queryNumbers)) continue;
+                // 같은 점수면 먼저 색인된(랭킹이 높은) 행
+                if (score > bestScore || (score == bestScore && (bestRow < 0 || row < bestRow))) {
+                    bestRow = row;
+                    bestScore = score;
+                }
+            }
+            return bestRow < 0 ? null : new Match(appIds[bestRow], titles[bestRow], bestScore);
+        }
+
+        /** 앞뒤에 공백을 붙인 정규화 제목의 trigram (중복 제거, 정렬). 문자 3개를 long 하나로 묶는다 */
+        static long[] trigrams(String key) {
+            String padded = " " + key + " ";
+            long[] grams = new long[Math.max(0, padded.length() - 2)];
+            for (int i = 0; i < grams.length; i++) {
+                grams[i] = ((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2);
+            }
+            return Arrays.stream(grams).sorted().distinct().toArray();
+        }
+
+        /** 속편 번호로 볼 단어(숫자, ii~x)를 이어 붙인 서명. 없으면 빈 문자열 */
+        static String numbersOf(String key) {
+            StringBuilder sb = new StringBuilder();
+            for (String word : key.split(" ")) {
+                if (isNumber(word)) sb.append(word).append(' ');
+            }
+            return sb.toString();
+        }
+
+        private static boolean isNumber(String word) {
+            if (word.isEmpty()) return false;
+            if (word.chars().allMatch(Character::isDigit)) return true;
+            return switch (word) {
+                case "ii", "iii", "iv", "v", "vi", "vii", "viii", "ix", "x" -> true;
+                default -> false;
+            };
+        }
+    }
+
+    /** 스레드별 작업 배열. counts 는 조회가 끝나면 건드린 칸만 0 으로 되돌린다 */
+    private static final class Scratch {
+        private int[] counts = new int[0];
+        private int[] touched = new int[64];
+
+        Scratch ensure(int size) {
+            if (counts.length < size) counts = new int[size];
+            return this;
+        }
+
+        int touch(int touchedCount, int row) {
+            if (touchedCount == touched.length) touched = Arrays.copyOf(touched, touchedCount * 2);
+            touched[touchedCount] = row;
+            return touchedCount + 1;
+        }
+    }
+}
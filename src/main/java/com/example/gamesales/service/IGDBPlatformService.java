@@ -1,75 +1,101 @@
 package com.example.gamesales.service;
 
 import com.example.gamesales.config.IgdbProperties;
-import com.example.gamesales.repository.GameRepository;
+import com.example.gamesales.util.CrawlExecution;
+import com.example.gamesales.util.CrawlerMetrics;
+import com.example.gamesales.util.RateLimiter;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+@Slf4j
 @Service
 public class IGDBPlatformService {
 
     private final WebClient igdbClient;
-    private final GameRepository gameRepo;
+    private final GameEnrichmentWriter enrichmentWriter;
     private final ObjectMapper objectMapper;
+    private final IgdbCache cache;
+    private final CrawlExecution execution;
+    private final IgdbProperties.Enrichment enrichment;
+
+    /** IGDB 한 쿼리당 최대 결과 수 */
+    private static final int IGDB_PAGE_LIMIT = 500;
+
+    public IGDBPlatformService(IgdbProperties props,
+                               GameEnrichmentWriter enrichmentWriter,
+                               ObjectMapper objectMapper,
+                               RateLimiter rateLimiter,
+                               TwitchTokenManager tokenManager,
+                               IgdbCache cache,
+                               CrawlExecution execution) {
+        this(props, enrichmentWriter, objectMapper, rateLimiter, tokenManager, cache, execution, WebClient.builder());
+    }
 
     @Autowired
     public IGDBPlatformService(IgdbProperties props,
-                               GameRepository gameRepo,
-                               ObjectMapper objectMapper) {
-        this.gameRepo = gameRepo;
+                               GameEnrichmentWriter enrichmentWriter,
+                               ObjectMapper objectMapper,
+                               RateLimiter rateLimiter,
+                               TwitchTokenManager tokenManager,
+                               IgdbCache cache,
+                               CrawlExecution execution,
+                               WebClient.Builder webClientBuilder) {
+        this.enrichmentWriter = enrichmentWriter;
         this.objectMapper = objectMapper;
+        this.cache = cache;
+        this.execution = execution;
+        this.enrichment = props.getEnrichment();
 
-        // 1) Twitch로부터 App Access Token 발급받기
-        WebClient authClient = WebClient.create();
-        String tokenResponse = authClient.post()
-                .uri(uriBuilder -> uriBuilder
-                        .scheme("https")
-                        .host("id.twitch.tv")
-                        .path("/oauth2/token")
-                        .queryParam("client_id", props.getId())
-                        .queryParam("client_secret", props.getSecret())
-                        .queryParam("grant_type", "client_credentials")
-                        .build())
-                .retrieve()
-                .bodyToMono(JsonNode.class)
-                .block()
-                .get("access_token").asText();
-
-        // 2) IGDB API 호출용 WebClient 구성
-        this.igdbClient = WebClient.builder()
+        // IGDB API 호출용 WebClient 구성. 토큰은 첫 요청 때 TwitchTokenManager 가 발급받는다.
+        // 주입받은 builder 의 재시도·회로 차단 필터가 가장 바깥 → 토큰 → 요청 제한 순서로 감싼다
+        this.igdbClient = webClientBuilder.clone()
                 .baseUrl(props.getBaseUrl())
                 .defaultHeader("Client-ID", props.getId())
-                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + tokenResponse)
                 .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .filter(tokenManager.filter())
+                .filter(rateLimiter.filter())
                 .build();
     }
 
     /**
-     * IGDB API POST 요청을 처리하고 JSON 응답을 반환하는 공통 헬퍼
+     * IGDB API POST 요청을 처리하고 JSON 응답을 반환하는 공통 헬퍼.
+     * 잘못된 쿼리(4xx)면 null, 재시도를 다 쓴 5xx·타임아웃·회로 차단은 예외로 올려 작업 실패로 남긴다.
      */
     private JsonNode preparePost(String endpoint, String query) {
-        try {
-            return igdbClient.post()
-                    .uri(endpoint)
-                    .bodyValue(query)
-                    .retrieve()
-                    .bodyToMono(JsonNode.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            System.err.printf("⚠️ IGDB %s 실패 (%d): %s%n",
-                    endpoint, e.getRawStatusCode(), e.getMessage());
-            return null;
-        }
+        return post(endpoint, query).block();
+    }
+
+    /**
+     * 논블로킹 버전. 4xx 응답이면 로그만 남기고 빈 Mono.
+     * 일시적인 오류는 WebClient 의 재시도 필터가 이미 다시 보냈으므로 여기까지 온 5xx 는 그대로 실패시킨다.
+     */
+    private Mono<JsonNode> post(String endpoint, String query) {
+        Mono<JsonNode> call = igdbClient.post()
+                .uri(endpoint)
+                .bodyValue(query)
+                .retrieve()
+                .bodyToMono(JsonNode.class);
+        return CrawlerMetrics.timeIgdb(endpoint, call)
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    if (e.getStatusCode().is5xxServerError() || e.getStatusCode().value() == 429) return Mono.error(e);
+                    log.warn("IGDB 요청 실패: endpoint={}, status={}, error={}",
+                            endpoint, e.getStatusCode().value(), e.getMessage());
+                    return Mono.empty();
+                });
     }
 
 
@@ -83,140 +109,222 @@ public class IGDBPlatformService {
 
     /**
      * 게임 이름으로 지원 플랫폼 조회 (특수문자 제거 및 재시도 포함)
+     * 후보 제목(원본 → ™·® 제거 → ™ 추가) 중 캐시에 없는 것만 캐시의 로딩 경로로 넘겨 /multiquery 한 번으로 함께 검색하고
+     * (같은 제목을 동시에 찾는 호출은 그 검색을 기다린다), 후보 순서대로 처음 찾은 게임의 플랫폼을 반환한다.
      */
     public List<String> getSupportedPlatformsByGameName(String title) {
-        // 1) 원본 제목
-        List<String> platforms = fetchPlatforms(title);
-        if (!platforms.isEmpty()) return platforms;
+        if (title == null || title.isBlank()) return Collections.emptyList();
 
-        // 2) ™·® 제거
+        // 1) 원본 제목, 2) ™·® 제거, 3) 제목 뒤에 ™ 추가
         String cleaned = title.replaceAll("[™®]", "").trim();
-        if (!cleaned.equals(title)) {
-            platforms = fetchPlatforms(cleaned);
-            if (!platforms.isEmpty()) return platforms;
+        List<String> candidates = new ArrayList<>(new LinkedHashSet<>(List.of(title, cleaned, cleaned + "™")));
+
+        Map<String, IgdbCache.IgdbGame> found = new HashMap<>();
+        List<String> uncached = new ArrayList<>();
+        for (String candidate : candidates) {
+            IgdbCache.IgdbGame cached = cache.cached(candidate);
+            if (cached == null) {
+                uncached.add(candidate);
+                continue;
+            }
+            found.put(candidate, cached);
+            if (isMatch(cached)) break;   // 뒤 후보는 볼 필요 없음
+        }
+        if (!uncached.isEmpty()) {
+            found.putAll(cache.games(uncached, this::searchGames));
         }
 
-        // 3) 제목 뒤에 ™ 추가
-        platforms = fetchPlatforms(cleaned + "™");
-        return platforms;
+        return candidates.stream()
+                .map(found::get)
+                .filter(IGDBPlatformService::isMatch)
+                .findFirst()
+                .map(game -> platformNames(game.platformIds()))
+                .orElse(Collections.emptyList());
     }
 
     /**
-     * 실제 API 호출 및 JSON 파싱 로직
+     * 여러 제목을 /multiquery 한 번으로 검색한다 ({@link IgdbCache#games} 의 loader).
+     * 결과가 없는 제목은 NO_MATCH, IGDB 오류면 빈 맵(캐시하지 않는다).
      */
-    private List<String> fetchPlatforms(String title) {
-        if (title == null || title.isBlank()) return Collections.emptyList();
+    private Map<String, IgdbCache.IgdbGame> searchGames(List<String> titles) {
+        StringBuilder q = new StringBuilder();
+        for (int i = 0; i < titles.size(); i++) {
+            q.append(String.format(
+                    "query games \"%d\" {\n" +
+                            "fields id,platforms;\n" +
+                            "search \"%s\";\n" +
+                            "limit 1;\n" +
+                            "};\n", i, escape(titles.get(i))));
+        }
+        JsonNode resp = preparePost("/multiquery", q.toString());
+        if (resp == null) return Map.of();
 
-        // 1) 게임 검색
-        String gamesQ = String.format(
-                "fields id,platforms;\n" +
-                        "search \"%s\";\n" +
-                        "limit 1;", title);
-        JsonNode gamesResp = preparePost("/games", gamesQ);
-        if (gamesResp == null) return Collections.emptyList();
-
-        // IGDB v4는 결과가 최상위 배열로 오므로, 배열 또는 data 속성 중 선택
-        List<JsonNode> gameArray;
-        if (gamesResp.isArray()) {
-            gameArray = StreamSupport.stream(gamesResp.spliterator(), false)
-                    .collect(Collectors.toList());
-        } else {
-            JsonNode dataNode = gamesResp.get("data");
-            if (dataNode == null || !dataNode.isArray()) return Collections.emptyList();
-            gameArray = StreamSupport.stream(dataNode.spliterator(), false)
-                    .collect(Collectors.toList());
+        Map<String, IgdbCache.IgdbGame> games = new HashMap<>();
+        for (JsonNode named : asList(resp)) {
+            int i = named.path("name").asInt(-1);
+            if (i < 0 || i >= titles.size()) continue;
+
+            List<JsonNode> result = asList(named.path("result"));
+            IgdbCache.IgdbGame game = result.isEmpty() ? IgdbCache.NO_MATCH : toGame(result.get(0));
+            games.put(titles.get(i), game);
         }
-        if (gameArray.isEmpty()) return Collections.emptyList();
+        return games;
+    }
 
-        // 2) 플랫폼 ID 추출
-        JsonNode platformsNode = gameArray.get(0).get("platforms");
-        if (platformsNode == null || !platformsNode.isArray()) return Collections.emptyList();
-        List<Integer> platformIds = StreamSupport.stream(platformsNode.spliterator(), false)
-                .map(JsonNode::asInt)
-                .collect(Collectors.toList());
+    private static IgdbCache.IgdbGame toGame(JsonNode gameNode) {
+        JsonNode platformsNode = gameNode.get("platforms");
+        List<Integer> platformIds = platformsNode == null || !platformsNode.isArray()
+                ? List.of()
+                : StreamSupport.stream(platformsNode.spliterator(), false)
+                        .map(JsonNode::asInt)
+                        .toList();
+        return new IgdbCache.IgdbGame(gameNode.path("id").asInt(), platformIds);
+    }
+
+    private static boolean isMatch(IgdbCache.IgdbGame game) {
+        return game != null && game != IgdbCache.NO_MATCH;
+    }
+
+    /** APIcalypse 문자열 리터럴 안의 따옴표·역슬래시 이스케이프 */
+    private static String escape(String title) {
+        return title.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /**
+     * 플랫폼 ID 목록을 이름으로 변환. 카탈로그에 없는 ID는 건너뛴다.
+     */
+    private List<String> platformNames(List<Integer> platformIds) {
         if (platformIds.isEmpty()) return Collections.emptyList();
+        Map<Integer, String> names = cache.platformNames(this::loadPlatformCatalog);
+        return platformIds.stream()
+                .map(names::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 
-        // 3) 플랫폼 이름 조회
-        String platsQ = String.format(
-                "fields name; where id = (%s);",
-                platformIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
-        JsonNode platsResp = preparePost("/platforms", platsQ);
-        if (platsResp == null) return Collections.emptyList();
-
-        List<JsonNode> platArray;
-        if (platsResp.isArray()) {
-            platArray = StreamSupport.stream(platsResp.spliterator(), false)
-                    .collect(Collectors.toList());
-        } else {
-            JsonNode dataNode = platsResp.get("data");
-            if (dataNode == null || !dataNode.isArray()) return Collections.emptyList();
-            platArray = StreamSupport.stream(dataNode.spliterator(), false)
-                    .collect(Collectors.toList());
+    /**
+     * /platforms 전체(수백 건)를 페이지 단위로 읽는다. 실패하면 null
+     */
+    private Map<Integer, String> loadPlatformCatalog() {
+        Map<Integer, String> names = new HashMap<>();
+        for (int offset = 0; ; offset += IGDB_PAGE_LIMIT) {
+            JsonNode resp;
+            try {
+                resp = preparePost("/platforms",
+                        "fields id,name; sort id asc; limit " + IGDB_PAGE_LIMIT + "; offset " + offset + ";");
+            } catch (RuntimeException e) {
+                // 캐시는 null 이면 이전 카탈로그를 계속 쓴다
+                log.warn("IGDB 플랫폼 카탈로그 조회 실패: error={}", e.toString());
+                return null;
+            }
+            if (resp == null) return null;
+
+            List<JsonNode> page = asList(resp);
+            page.forEach(n -> names.put(n.get("id").asInt(), n.get("name").asText()));
+            if (page.size() < IGDB_PAGE_LIMIT) return names;
         }
-        if (platArray.isEmpty()) return Collections.emptyList();
+    }
 
-        // 4) 이름 리스트 반환
-        return platArray.stream()
-                .map(n -> n.get("name").asText())
+    /**
+     * IGDB v4는 결과가 최상위 배열로 오므로, 배열 또는 data 속성 중 선택
+     */
+    private static List<JsonNode> asList(JsonNode resp) {
+        JsonNode arr = resp.isArray() ? resp : resp.get("data");
+        if (arr == null || !arr.isArray()) return Collections.emptyList();
+        return StreamSupport.stream(arr.spliterator(), false)
                 .collect(Collectors.toList());
     }
 
-    public void updatePlatformsForSteamGames(List<Integer> steamAppIds) {
-        if (steamAppIds.isEmpty()) return;
+    /**
+     * Steam appId 목록의 지원 플랫폼을 IGDB 에서 찾아 저장한다.
+     * appId를 chunkSize 단위로 나눠 청크마다 external_games 한 번으로 플랫폼까지 조회하고(이름은 카탈로그),
+     * 여러 청크를 concurrency 개까지 동시에 진행한다. 요청 속도는 RateLimiter 가 맞춘다.
+     * DB 저장은 청크마다 한 번의 트랜잭션으로 묶는다.
+     * 재시도를 다 쓰고도 실패한 청크는 건너뛰고 세어 두며, 모든 청크가 실패하면 예외로 작업 실패를 남긴다.
+     * 플랫폼 카탈로그를 읽지 못하면(IGDB 오류로 빈 카탈로그) 이름을 붙일 수 없으므로 아무것도 저장하지 않고 실패한다.
+     *
+     * @return 플랫폼 목록이 바뀐 게임 수
+     */
+    public int updatePlatformsForSteamGames(List<Integer> steamAppIds) {
+        if (steamAppIds.isEmpty()) return 0;
+
+        Map<Integer, String> platNames = cache.platformNames(this::loadPlatformCatalog);
+        if (platNames.isEmpty()) {
+            throw new IllegalStateException("IGDB platform catalog unavailable");
+        }
+        List<List<Integer>> chunks = partition(new ArrayList<>(new LinkedHashSet<>(steamAppIds)),
+                Math.min(enrichment.getChunkSize(), IGDB_PAGE_LIMIT));
+
+        long begin = System.nanoTime();
+        AtomicInteger failedChunks = new AtomicInteger();
+        Integer updated = Flux.fromIterable(chunks)
+                .flatMap(chunk -> resolvePlatforms(chunk, platNames)
+                                .publishOn(execution.scheduler())
+                                .map(platforms -> execution.jdbc(() -> enrichmentWriter.updatePlatforms(platforms)))
+                                .onErrorResume(e -> {
+                                    failedChunks.incrementAndGet();
+                                    log.warn("IGDB 청크 실패: appIds={}, error={}", chunk.size(), e.toString());
+                                    return Mono.empty();
+                                }),
+                        Math.max(1, enrichment.getConcurrency()))
+                .reduce(0, Integer::sum)
+                .block();
 
-        // 1) external_games 조회
+        long elapsedMs = Math.max(1, (System.nanoTime() - begin) / 1_000_000);
+        log.info("IGDB 플랫폼 갱신: appIds={}, chunks={}, failedChunks={}, updatedGames={}, elapsedMs={}, appIdsPerSec={}",
+                steamAppIds.size(), chunks.size(), failedChunks.get(), updated, elapsedMs,
+                steamAppIds.size() * 1_000L / elapsedMs);
+        if (failedChunks.get() == chunks.size()) {
+            throw new IllegalStateException("IGDB enrichment failed for all " + chunks.size() + " chunks");
+        }
+        return updated == null ? 0 : updated;
+    }
+
+    /**
+     * 청크 하나: external_games 에서 game.platforms 를 펼쳐(expand) 받아 한 번의 요청으로
+     * Steam uid → 플랫폼 ID 를 얻고, 카탈로그로 이름을 붙인다.
+     */
+    private Mono<Map<Integer, List<String>>> resolvePlatforms(List<Integer> chunk, Map<Integer, String> platNames) {
+        // category 1 = Steam, uid는 문자열
         String extQ = String.format(
-                "fields game,uid; where category = 1 & uid = (%s);",
-                steamAppIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
-        JsonNode extResp = preparePost("/external_games", extQ);
-        List<JsonNode> extData = Optional.ofNullable(extResp)
-                .map(r -> r.findValues("data")).orElse(Collections.emptyList());
-        Map<Integer,Integer> steamToIgdb = new HashMap<>();
-        extData.forEach(arr -> arr.forEach(node ->
-                steamToIgdb.put(node.get("uid").asInt(), node.get("game").asInt())
-        ));
-        if (steamToIgdb.isEmpty()) return;
-
-        // 2) games → platforms ID
-        String igdbIds = steamToIgdb.values().stream()
-                .map(String::valueOf).collect(Collectors.joining(","));
-        String gamesQ = "fields id,platforms; where id = (" + igdbIds + ");";
-        JsonNode gamesResp = preparePost("/games", gamesQ);
-        List<JsonNode> gamesData = Optional.ofNullable(gamesResp)
-                .map(r -> r.findValues("data")).orElse(Collections.emptyList());
-        Map<Integer,List<Integer>> gameToPlats = new HashMap<>();
-        gamesData.forEach(arr -> arr.forEach(node -> {
-            int id = node.get("id").asInt();
-            List<Integer> plats = new ArrayList<>();
-            node.withArray("platforms").forEach(p -> plats.add(p.asInt()));
-            gameToPlats.put(id, plats);
-        }));
-
-        // 3) platforms 조회
-        Set<Integer> allPlatIds = gameToPlats.values().stream()
-                .flatMap(Collection::stream).collect(Collectors.toSet());
-        if (allPlatIds.isEmpty()) return;
-        String platIds = allPlatIds.stream().map(String::valueOf).collect(Collectors.joining(","));
-        String platsQ = "fields id,name; where id = (" + platIds + ");";
-        JsonNode platsResp = preparePost("/platforms", platsQ);
-        List<JsonNode> platsData = Optional.ofNullable(platsResp)
-                .map(r -> r.findValues("data")).orElse(Collections.emptyList());
-        Map<Integer,String> platNames = platsData.stream()
-                .collect(Collectors.toMap(
-                        p -> p.get("id").asInt(),
-                        p -> p.get("name").asText()
-                ));
-
-        // 4) DB 업데이트
-        steamToIgdb.forEach((steamId, igdbId) -> {
-            List<String> names = gameToPlats.getOrDefault(igdbId, List.of())
-                    .stream().map(platNames::get).toList();
-            gameRepo.findByAppId(steamId).ifPresent(game -> {
-                game.setSupportedPlatforms(names);
-                gameRepo.save(game);
-                System.out.printf("✅ %s (SteamID=%d) supports: %s%n",
-                        game.getEnglishName(), steamId, String.join(", ", names));
-            });
-        });
+                "fields uid,game.platforms; where category = 1 & uid = (%s); limit %d;",
+                chunk.stream().map(id -> "\"" + id + "\"").collect(Collectors.joining(",")),
+                IGDB_PAGE_LIMIT);
+
+        return post("/external_games", extQ).map(extResp -> platformsByAppId(extResp, platNames));
+    }
+
+    /**
+     * external_games 응답 → Steam appId 별 플랫폼 이름. 카탈로그에 없는 플랫폼 ID 가 하나라도 있으면(카탈로그가 오래됨)
+     * 그 appId 는 빼서 저장된 플랫폼을 일부만 남은 목록으로 덮어쓰지 않는다.
+     */
+    static Map<Integer, List<String>> platformsByAppId(JsonNode extResp, Map<Integer, String> platNames) {
+        Map<Integer, List<String>> platformsByAppId = new HashMap<>();
+        for (JsonNode node : asList(extResp)) {
+            List<String> names = new ArrayList<>();
+            boolean complete = true;
+            for (JsonNode p : node.path("game").path("platforms")) {
+                String name = platNames.get(p.asInt());
+                if (name == null) {
+                    complete = false;
+                    break;
+                }
+                names.add(name);
+            }
+            if (complete) {
+                platformsByAppId.put(node.get("uid").asInt(), names);
+            } else {
+                log.debug("IGDB 플랫폼 이름 없음, 건너뜀: uid={}", node.path("uid").asText());
+            }
+        }
+        return platformsByAppId;
+    }
+
+    private static <T> List<List<T>> partition(List<T> list, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += size) {
+            chunks.add(list.subList(i, Math.min(list.size(), i + size)));
+        }
+        return chunks;
     }
 }
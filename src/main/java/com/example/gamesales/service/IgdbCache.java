@@ -0,0 +1,239 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.config.IgdbProperties;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * IGDB 조회 결과 로컬 캐시.
+ * - 플랫폼 id→이름 카탈로그: 한 번 전체를 읽고 platformTtl 마다 다시 읽는다.
+ *   읽기에 실패하면 platformRetryBackoff 동안은 다시 시도하지 않는다 (IGDB 장애 중 호출마다 재조회하지 않도록).
+ * - 제목→IGDB 게임: 크기 제한 캐시. 검색 결과가 없던 제목은 negativeTtl 동안 {@link #NO_MATCH} 로 기억한다.
+ *   조회 중인 제목은 캐시에 future 로 먼저 들어가므로, 같은 제목을 동시에 찾는 호출은 IGDB 를 다시 부르지 않고 기다린다.
+ *
+ * {@link #bindMeters} 로 제목 캐시는 CaffeineCacheMetrics(cache=igdb.titles: cache.gets hit/miss, cache.evictions, cache.size),
+ * 나머지는 crawler.igdb.negative.hits / crawler.igdb.catalog.loads / crawler.igdb.catalog.failures / crawler.igdb.platforms 로 나간다.
+ */
+@Component
+public class IgdbCache {
+
+    /** 검색 결과가 없던 제목 (negative cache 값) */
+    public static final IgdbGame NO_MATCH = new IgdbGame(-1, List.of());
+
+    private final long platformTtlNanos;
+    private final long platformRetryBackoffNanos;
+    private final AsyncCache<String, IgdbGame> titles;
+
+    private volatile PlatformCatalog platformCatalog;
+    private final AtomicBoolean refreshingCatalog = new AtomicBoolean();
+    /** 이 시각(nanoTime) 전에는 카탈로그를 다시 읽지 않는다 */
+    private volatile long catalogRetryAt;
+    private final LongAdder catalogLoads = new LongAdder();
+    private final LongAdder catalogFailures = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+
+    public IgdbCache(IgdbProperties props) {
+        IgdbProperties.Cache cache = props.getCache();
+        this.platformTtlNanos = cache.getPlatformTtl().toNanos();
+        this.platformRetryBackoffNanos = cache.getPlatformRetryBackoff().toNanos();
+        this.catalogRetryAt = System.nanoTime();
+        long titleTtlNanos = cache.getTitleTtl().toNanos();
+        long negativeTtlNanos = cache.getNegativeTtl().toNanos();
+
+        this.titles = Caffeine.newBuilder()
+                .maximumSize(cache.getTitleMaxSize())
+                .expireAfter(new Expiry<String, IgdbGame>() {
+                    @Override
+                    public long expireAfterCreate(String key, IgdbGame value, long currentTime) {
+                        return value == NO_MATCH ? negativeTtlNanos : titleTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, IgdbGame value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, IgdbGame value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * 여러 제목으로 IGDB 게임을 찾는다. 캐시에 없는 제목만 모아 loader 를 한 번 호출하고(호출한 스레드에서),
+     * 다른 호출이 이미 조회 중인 제목은 그 결과를 기다린다. loader 결과에 없는 제목(IGDB 오류)은 캐시하지 않는다.
+     *
+     * @param loader 캐시에 없는 제목 → 제목별 게임. 검색 결과가 없는 제목은 {@link #NO_MATCH}
+     * @return 제목 → 게임. 오류로 찾지 못한 제목은 빠진다
+     */
+    public Map<String, IgdbGame> games(List<String> titles, Function<List<String>, Map<String, IgdbGame>> loader) {
+        Map<String, String> byKey = new LinkedHashMap<>();
+        titles.forEach(title -> byKey.putIfAbsent(normalizeTitle(title), title));
+
+        Set<String> loaded = new HashSet<>();
+        Map<String, IgdbGame> byNormalized;
+        try {
+            byNormalized = this.titles.getAll(byKey.keySet(), (missing, executor) -> {
+                loaded.addAll(missing);
+                Map<String, IgdbGame> found = new HashMap<>();
+                loader.apply(missing.stream().map(byKey::get).toList())
+                        .forEach((title, game) -> found.put(normalizeTitle(title), game));
+                return CompletableFuture.completedFuture(found);
+            }).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+
+        Map<String, IgdbGame> games = new HashMap<>();
+        byNormalized.forEach((key, game) -> {
+            if (game == NO_MATCH && !loaded.contains(key)) {
+                negativeHits.increment();
+            }
+        });
+        for (String title : titles) {
+            IgdbGame game = byNormalized.get(normalizeTitle(title));
+            if (game != null) games.put(title, game);
+        }
+        return games;
+    }
+
+    /**
+     * 캐시에 있는 값만 조회한다.
+     *
+     * @return 게임, 검색 결과가 없던 제목이면 {@link #NO_MATCH}, 캐시에 없으면 null
+     */
+    public IgdbGame cached(String title) {
+        IgdbGame game = titles.synchronous().getIfPresent(normalizeTitle(title));
+        if (game == NO_MATCH) {
+            negativeHits.increment();
+        }
+        return game;
+    }
+
+    /**
+     * 플랫폼 id→이름 카탈로그. 처음 호출 때 loader 로 읽고, TTL 이 지나면 한 스레드만 다시 읽는 동안
+     * 나머지는 이전 카탈로그를 그대로 쓴다. loader 가 null 을 돌려주면(IGDB 오류) 이전 카탈로그를 유지하고,
+     * platformRetryBackoff 가 지나기 전에는 다시 읽지 않는다.
+     *
+     * @return 카탈로그. 한 번도 읽지 못했으면(또는 invalidateAll 직후 실패하면) 빈 맵
+     */
+    public Map<Integer, String> platformNames(Supplier<Map<Integer, String>> loader) {
+        PlatformCatalog current = platformCatalog;
+        if (current != null && System.nanoTime() - current.loadedAt() < platformTtlNanos) {
+            return current.names();
+        }
+        if (current == null) {
+            synchronized (this) {
+                if (platformCatalog == null && retryAllowed()) {
+                    loadCatalog(loader);
+                }
+                return namesOrEmpty(platformCatalog);
+            }
+        }
+        if (retryAllowed() && refreshingCatalog.compareAndSet(false, true)) {
+            try {
+                loadCatalog(loader);
+            } finally {
+                refreshingCatalog.set(false);
+            }
+        }
+        // invalidateAll 이 동시에 카탈로그를 비웠을 수 있다
+        return namesOrEmpty(platformCatalog);
+    }
+
+    public void invalidateAll() {
+        titles.synchronous().invalidateAll();
+        platformCatalog = null;
+        catalogRetryAt = System.nanoTime();
+    }
+
+    /** 제목 캐시와 카탈로그 통계를 registry 에 등록한다 */
+    public void bindMeters(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, titles.synchronous(), "igdb.titles");
+        FunctionCounter.builder("crawler.igdb.negative.hits", negativeHits, LongAdder::sum).register(registry);
+        FunctionCounter.builder("crawler.igdb.catalog.loads", catalogLoads, LongAdder::sum).register(registry);
+        FunctionCounter.builder("crawler.igdb.catalog.failures", catalogFailures, LongAdder::sum).register(registry);
+        Gauge.builder("crawler.igdb.platforms", this, cache -> namesOrEmpty(cache.platformCatalog).size())
+                .register(registry);
+    }
+
+    public Stats stats() {
+        CacheStats titleStats = titles.synchronous().stats();
+        PlatformCatalog catalog = platformCatalog;
+        return new Stats(
+                titleStats.hitCount(),
+                titleStats.missCount(),
+                negativeHits.sum(),
+                titleStats.evictionCount(),
+                titles.synchronous().estimatedSize(),
+                catalogLoads.sum(),
+                catalogFailures.sum(),
+                namesOrEmpty(catalog).size());
+    }
+
+    private boolean retryAllowed() {
+        return System.nanoTime() - catalogRetryAt >= 0;
+    }
+
+    private void loadCatalog(Supplier<Map<Integer, String>> loader) {
+        boolean loaded = false;
+        try {
+            Map<Integer, String> names = loader.get();
+            if (names == null || names.isEmpty()) return;
+            platformCatalog = new PlatformCatalog(Map.copyOf(names), System.nanoTime());
+            catalogLoads.increment();
+            loaded = true;
+        } finally {
+            if (!loaded) {
+                catalogFailures.increment();
+                catalogRetryAt = System.nanoTime() + platformRetryBackoffNanos;
+            }
+        }
+    }
+
+    private static Map<Integer, String> namesOrEmpty(PlatformCatalog catalog) {
+        return catalog == null ? Map.of() : catalog.names();
+    }
+
+    private static String normalizeTitle(String title) {
+        return title.strip().toLowerCase();
+    }
+
+    public record IgdbGame(int id, List<Integer> platformIds) {
+    }
+
+    /**
+     * titleHits 에는 negativeHits 도 포함된다. catalogLoads 는 플랫폼 카탈로그를 IGDB 에서 읽은 횟수,
+     * catalogFailures 는 읽기에 실패한 횟수.
+     */
+    public record Stats(long titleHits, long titleMisses, long negativeHits, long titleEvictions,
+                        long titleSize, long catalogLoads, long catalogFailures, int platformCount) {
+    }
+
+    private record PlatformCatalog(Map<Integer, String> names, long loadedAt) {
+    }
+}
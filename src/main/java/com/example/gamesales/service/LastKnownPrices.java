@@ -0,0 +1,64 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.repository.GamePriceRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (스토어, appId) 별 마지막으로 저장한 가격. 델타 적재에서 "가격이 바뀌었는지"를 DB 조회 없이 판단한다.
+ *
+ * 스토어마다 처음 쓸 때 DB 의 최신 가격 행으로 한 번 채우고, 이후에는 적재 경로가 직접 갱신한다.
+ * 적재 트랜잭션이 롤백되면 {@link #reset(String)} 으로 비워서 다음 적재 때 DB 에서 다시 채운다.
+ */
+@Component
+public class LastKnownPrices {
+
+    private final GamePriceRepository priceRepo;
+    private final Map<Key, Price> prices = new ConcurrentHashMap<>();
+    private final Set<String> seeded = ConcurrentHashMap.newKeySet();
+
+    public LastKnownPrices(GamePriceRepository priceRepo) {
+        this.priceRepo = priceRepo;
+    }
+
+    /** 마지막 가격. 처음 보는 게임이면 null */
+    public Price get(String serviceName, int appId) {
+        seedIfNeeded(serviceName);
+        return prices.get(new Key(serviceName, appId));
+    }
+
+    public void put(String serviceName, int appId, Price price) {
+        prices.put(new Key(serviceName, appId), price);
+    }
+
+    public void reset(String serviceName) {
+        seeded.remove(serviceName);
+        prices.keySet().removeIf(key -> key.serviceName().equals(serviceName));
+    }
+
+    private void seedIfNeeded(String serviceName) {
+        if (seeded.contains(serviceName)) return;
+        synchronized (this) {
+            if (seeded.contains(serviceName)) return;
+            priceRepo.findLatestByServiceName(serviceName).forEach(p -> prices.put(
+                    new Key(serviceName, p.getAppId()),
+                    new Price(p.getId(), p.getInitialPrice(), p.getFinalPrice(), p.getDiscountPercent())));
+            seeded.add(serviceName);
+        }
+    }
+
+    private record Key(String serviceName, int appId) {
+    }
+
+    /** priceId 는 이 가격을 담은 game_prices 행 (lastSeenAt 갱신 대상) */
+    public record Price(long priceId, int initialPrice, int finalPrice, int discountPercent) {
+        public boolean sameAs(int initialPrice, int finalPrice, int discountPercent) {
+            return this.initialPrice == initialPrice
+                    && this.finalPrice == finalPrice
+                    && this.discountPercent == discountPercent;
+        }
+    }
+}
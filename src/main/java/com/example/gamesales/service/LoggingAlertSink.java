@@ -0,0 +1,21 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.dto.PriceAlert;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/** 기본 전달 방식: 알림을 로그로 남긴다 */
+@Slf4j
+@Component
+public class LoggingAlertSink implements AlertSink {
+
+    @Override
+    public void deliver(List<PriceAlert> alerts) {
+        alerts.forEach(a -> log.info("가격 알림: watchId={}, subscriber={}, store={}, appId={}, title={}, "
+                        + "finalPrice={}, discountPercent={}, targetPrice={}, targetDiscountPercent={}",
+                a.watchId(), a.subscriber(), a.serviceName(), a.appId(), a.title(),
+                a.finalPrice(), a.discountPercent(), a.targetPrice(), a.targetDiscountPercent()));
+    }
+}
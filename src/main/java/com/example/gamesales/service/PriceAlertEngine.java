@@ -0,0 +1,250 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.dto.PriceAlert;
+import com.example.gamesales.dto.PriceChange;
+import com.example.gamesales.dto.PriceChangeEvent;
+import com.example.gamesales.dto.WatchRequest;
+import com.example.gamesales.model.PriceWatch;
+import com.example.gamesales.repository.PriceWatchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가격 알림 엔진. 크롤링이 끝날 때마다 모든 구독 × 모든 게임을 훑지 않고, 적재에서 가격이 바뀐 게임만 평가한다.
+ *
+ * 구독은 (스토어, appId) 별로 메모리에 색인한다. 게임 하나의 구독은 목표 가격·목표 할인율 순으로 정렬된
+ * int[] 두 개(와 같은 순서의 구독 배열)이고, 가격이 P₀ → P 로 내리면 목표 가격이 [P, P₀) 인 구독,
+ * 할인율이 D₀ → D 로 오르면 목표 할인율이 (D₀, D] 인 구독만 이분 탐색으로 찾는다.
+ * 목표를 "넘어서는" 변경에만 알리므로 이미 목표 아래인 가격이 그대로 유지되면 다시 알리지 않는다.
+ * 평가 비용은 바뀐 게임 수 × log(게임당 구독 수) + 알림 수다.
+ *
+ * 게임별 항목은 불변 객체이고 추가·삭제 때 그 게임 항목만 새로 만들어 교체하므로, 평가는 락 없이 읽는다.
+ */
+@Slf4j
+@Service
+public class PriceAlertEngine {
+
+    private final PriceWatchRepository watchRepo;
+    private final List<AlertSink> sinks;
+    private final ConcurrentHashMap<GameKey, GameWatches> index = new ConcurrentHashMap<>();
+
+    private final LongAdder evaluatedChanges = new LongAdder();
+    private final LongAdder alerts = new LongAdder();
+
+    public PriceAlertEngine(PriceWatchRepository watchRepo, List<AlertSink> sinks) {
+        this.watchRepo = watchRepo;
+        this.sinks = List.copyOf(sinks);
+    }
+
+    /** 기동 직후 저장된 구독을 색인한다 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<PriceWatch> watches = watchRepo.findAll();
+        watches.forEach(this::index);
+        log.info("가격 알림 색인: watches={}, games={}", watches.size(), index.size());
+    }
+
+    public PriceWatch addWatch(WatchRequest request) {
+        PriceWatch watch = watchRepo.save(PriceWatch.builder()
+                .subscriber(request.subscriber())
+                .serviceName(request.serviceName() == null || request.serviceName().isBlank()
+                        ? GamePriceIngestService.CATALOG_SERVICE
+                        : request.serviceName())
+                .appId(request.appId())
+                .targetPrice(request.targetPrice())
+                .targetDiscountPercent(request.targetDiscountPercent())
+                .createdAt(LocalDateTime.now())
+                .build());
+        index(watch);
+        return watch;
+    }
+
+    /**
+     * @return 없는 구독이면 false
+     */
+    public boolean removeWatch(long watchId) {
+        Optional<PriceWatch> watch = watchRepo.findById(watchId);
+        if (watch.isEmpty()) return false;
+        watchRepo.delete(watch.get());
+        index.computeIfPresent(GameKey.of(watch.get()), (key, current) -> current.without(watchId));
+        return true;
+    }
+
+    public List<PriceWatch> watches(String subscriber) {
+        return watchRepo.findBySubscriberOrderByIdAsc(subscriber);
+    }
+
+    /** 적재가 커밋된 뒤에만 평가한다. 롤백된 가격으로는 알리지 않는다 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPriceChanges(PriceChangeEvent event) {
+        List<PriceAlert> matched = evaluate(event.changes());
+        if (matched.isEmpty()) return;
+        for (AlertSink sink : sinks) {
+            try {
+                sink.deliver(matched);
+            } catch (RuntimeException e) {
+                // 한 전달 방식의 실패가 다른 전달 방식이나 적재 흐름을 막지 않게 한다
+                log.warn("가격 알림 전달 실패: sink={}, alerts={}, error={}",
+                        sink.getClass().getSimpleName(), matched.size(), e.toString());
+            }
+        }
+    }
+
+    /** 바뀐 가격마다 목표를 넘어선 구독을 찾는다. 한 구독은 한 변경에서 한 번만 알린다 */
+    List<PriceAlert> evaluate(List<PriceChange> changes) {
+        List<PriceAlert> matched = new ArrayList<>();
+        for (PriceChange change : changes) {
+            GameWatches watches = index.get(new GameKey(change.serviceName(), change.appId()));
+            if (watches != null) watches.collect(change, matched);
+        }
+        evaluatedChanges.add(changes.size());
+        alerts.add(matched.size());
+        return matched;
+    }
+
+    void index(PriceWatch watch) {
+        Watch w = new Watch(watch.getId(), watch.getSubscriber(), watch.getTargetPrice(), watch.getTargetDiscountPercent());
+        index.merge(GameKey.of(watch), GameWatches.of(List.of(w)), (current, added) -> current.with(w));
+    }
+
+    public Stats stats() {
+        int watches = index.values().stream().mapToInt(GameWatches::size).sum();
+        return new Stats(watches, index.size(), evaluatedChanges.sum(), alerts.sum());
+    }
+
+    /**
+     * @param games            구독이 하나 이상 있는 (스토어, 게임) 수
+     * @param evaluatedChanges 지금까지 평가한 가격 변경 수 (구독 수와 무관)
+     */
+    public record Stats(int watches, int games, long evaluatedChanges, long alerts) {
+    }
+
+    private record GameKey(String serviceName, int appId) {
+        static GameKey of(PriceWatch watch) {
+            return new GameKey(watch.getServiceName(), watch.getAppId());
+        }
+    }
+
+    private record Watch(long id, String subscriber, Integer targetPrice, Integer targetDiscountPercent) {
+    }
+
+    /**
+     * 게임 하나의 구독. 목표 가격 오름차순 배열과 목표 할인율 오름차순 배열(같은 인덱스의 구독 배열과 짝).
+     * 목표가 없는 쪽 배열에는 들어가지 않는다.
+     */
+    private static final class GameWatches {
+
+        private final Watch[] all;
+        private final int[] priceTargets;
+        private final Watch[] byPrice;
+        private final int[] discountTargets;
+        private final Watch[] byDiscount;
+
+        private GameWatches(Watch[] all, int[] priceTargets, Watch[] byPrice, int[] discountTargets, Watch[] byDiscount) {
+            this.all = all;
+            this.priceTargets = priceTargets;
+            this.byPrice = byPrice;
+            this.discountTargets = discountTargets;
+            this.byDiscount = byDiscount;
+        }
+
+        static GameWatches of(List<Watch> watches) {
+            Watch[] byPrice = watches.stream()
+                    .filter(w -> w.targetPrice() != null)
+                    .sorted(Comparator.comparingInt(Watch::targetPrice))
+                    .toArray(Watch[]::new);
+            Watch[] byDiscount = watches.stream()
+                    .filter(w -> w.targetDiscountPercent() != null)
+                    .sorted(Comparator.comparingInt(Watch::targetDiscountPercent))
+                    .toArray(Watch[]::new);
+            int[] priceTargets = Arrays.stream(byPrice).mapToInt(Watch::targetPrice).toArray();
+            int[] discountTargets = Arrays.stream(byDiscount).mapToInt(Watch::targetDiscountPercent).toArray();
+            return new GameWatches(watches.toArray(Watch[]::new), priceTargets, byPrice, discountTargets, byDiscount);
+        }
+
+        GameWatches with(Watch watch) {
+            List<Watch> watches = new ArrayList<>(Arrays.asList(all));
+            watches.removeIf(w -> w.id() == watch.id());
+            watches.add(watch);
+            return of(watches);
+        }
+
+        /** 마지막 구독이 빠지면 null (ConcurrentHashMap 에서 항목 제거) */
+        GameWatches without(long watchId) {
+            List<Watch> watches = new ArrayList<>(Arrays.asList(all));
+            watches.removeIf(w -> w.id() == watchId);
+            return watches.isEmpty() ? null : of(watches);
+        }
+
+        int size() {
+            return all.length;
+        }
+
+        void collect(PriceChange change, List<PriceAlert> out) {
+            Set<Long> seen = null;
+
+            // 가격이 P₀ → P 로 내렸으면 P ≤ target < P₀ (처음 본 가격이면 P ≤ target)
+            int price = change.finalPrice();
+            int oldPrice = change.firstSeen() ? Integer.MAX_VALUE : change.oldFinalPrice();
+            if (price < oldPrice) {
+                int from = lowerBound(priceTargets, price);
+                int to = oldPrice == Integer.MAX_VALUE ? priceTargets.length : lowerBound(priceTargets, oldPrice);
+                for (int i = from; i < to; i++) {
+                    if (seen == null) seen = new HashSet<>();
+                    seen.add(byPrice[i].id());
+                    out.add(alert(byPrice[i], change));
+                }
+            }
+
+            // 할인율이 D₀ → D 로 올랐으면 D₀ < target ≤ D (처음 본 가격이면 target ≤ D)
+            int discount = change.discountPercent();
+            int oldDiscount = change.firstSeen() ? 0 : change.oldDiscountPercent();
+            if (discount > oldDiscount) {
+                int from = upperBound(discountTargets, oldDiscount);
+                int to = upperBound(discountTargets, discount);
+                for (int i = from; i < to; i++) {
+                    if (seen != null && seen.contains(byDiscount[i].id())) continue;
+                    out.add(alert(byDiscount[i], change));
+                }
+            }
+        }
+
+        private static PriceAlert alert(Watch watch, PriceChange change) {
+            return new PriceAlert(watch.id(), watch.subscriber(), change.serviceName(), change.appId(), change.title(),
+                    change.initialPrice(), change.finalPrice(), change.discountPercent(),
+                    watch.targetPrice(), watch.targetDiscountPercent(), change.changedAt());
+        }
+
+        /** key 이상인 첫 위치 */
+        private static int lowerBound(int[] sorted, int key) {
+            int lo = 0;
+            int hi = sorted.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (sorted[mid] < key) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+
+        /** key 보다 큰 첫 위치 */
+        private static int upperBound(int[] sorted, int key) {
+            int lo = 0;
+            int hi = sorted.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (sorted[mid] <= key) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+    }
+}
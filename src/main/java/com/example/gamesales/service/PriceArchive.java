@@ -0,0 +1,287 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.repository.GamePriceRepository.PricePointRow;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * 오래된 가격 이력의 게임별 컬럼 파일 (crawler.archive.dir/{appId}.gpa).
+ *
+ * game_prices 한 행은 스토어 이름 문자열·LocalDateTime 두 개·인덱스 항목까지 수십 바이트지만, 거의 읽지 않는 이력은
+ * 게임 하나 단위로만 읽으므로 게임마다 파일 하나에 컬럼별로 붙여 담는다.
+ * - 스토어 이름: 파일 앞 사전의 번호
+ * - id·fetchedAt·가격: 시간순으로 정렬해 직전 행과의 차이를 zigzag varint (대부분 1~3바이트)
+ * - lastSeenAt: fetchedAt 부터 지난 초 + 1 (varint), 0 이면 null
+ * 시각은 초 단위로 저장한다(소수 초는 버린다).
+ *
+ * 읽기는 파일을 메모리 매핑하고 컬럼마다 커서를 두어 행 단위로 푼다. 쓰기는 기존 행과 합쳐(같은 id 는 한 번) 임시 파일에 쓴 뒤
+ * 원자적으로 바꾸므로 읽는 쪽은 이전 파일이나 새 파일 중 하나만 본다.
+ */
+@Component
+public class PriceArchive {
+
+    /** "GPA1" */
+    private static final int MAGIC = 0x47504131;
+
+    private static final int SERVICE = 0;
+    private static final int ID = 1;
+    private static final int FETCHED_AT = 2;
+    private static final int SEEN_FOR = 3;
+    private static final int INITIAL_PRICE = 4;
+    private static final int FINAL_PRICE = 5;
+    private static final int DISCOUNT = 6;
+    private static final int COLUMNS = 7;
+
+    private final Path dir;
+
+    public PriceArchive(CrawlerConfig crawlerConfig) {
+        this.dir = Path.of(crawlerConfig.getArchive().getDir());
+    }
+
+    /**
+     * 게임 하나의 스토어 이력, 시간순 (fetchedAt, id).
+     *
+     * @return 아카이브가 없으면 빈 목록
+     */
+    public List<PricePointRow> read(int appId, String serviceName) {
+        Path file = file(appId);
+        if (!Files.exists(file)) return List.of();
+        return read(file, serviceName);
+    }
+
+    /**
+     * 행을 게임 아카이브에 더한다. 이미 있는 id 는 건너뛴다 (이전 실행이 파일만 쓰고 행 삭제는 롤백된 경우).
+     *
+     * @return 새로 더한 행 수
+     */
+    public synchronized int append(int appId, List<? extends PricePointRow> rows) {
+        if (rows.isEmpty()) return 0;
+        Path file = file(appId);
+        List<PricePointRow> merged = new ArrayList<>();
+        Set<Long> ids = new HashSet<>();
+        if (Files.exists(file)) {
+            for (PricePointRow row : read(file, null)) {
+                merged.add(row);
+                ids.add(row.getId());
+            }
+        }
+        int added = 0;
+        for (PricePointRow row : rows) {
+            if (!ids.add(row.getId())) continue;
+            merged.add(row);
+            added++;
+        }
+        if (added == 0) return 0;
+
+        try {
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, appId + "-", ".tmp");
+            Files.write(tmp, encode(merged));
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("price archive write failed: " + file, e);
+        }
+        return added;
+    }
+
+    private Path file(int appId) {
+        return dir.resolve(appId + ".gpa");
+    }
+
+    private static List<PricePointRow> read(Path file, String serviceName) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // 매핑은 채널을 닫은 뒤에도 유효하다
+            return decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), serviceName);
+        } catch (IOException e) {
+            throw new UncheckedIOException("price archive read failed: " + file, e);
+        }
+    }
+
+    static byte[] encode(List<? extends PricePointRow> rows) {
+        List<PricePointRow> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparingLong((PricePointRow row) -> seconds(row.getFetchedAt()))
+                .thenComparingLong(PricePointRow::getId));
+
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        ByteArrayOutputStream[] columns = new ByteArrayOutputStream[COLUMNS];
+        for (int c = 0; c < COLUMNS; c++) columns[c] = new ByteArrayOutputStream();
+
+        long prevId = 0;
+        long prevFetched = 0;
+        long prevInitial = 0;
+        long prevFinal = 0;
+        for (PricePointRow row : sorted) {
+            Integer service = dictionary.get(row.getServiceName());
+            if (service == null) {
+                service = dictionary.size();
+                dictionary.put(row.getServiceName(), service);
+            }
+            long fetched = seconds(row.getFetchedAt());
+            writeVarint(columns[SERVICE], service);
+            writeVarint(columns[ID], zigzag(row.getId() - prevId));
+            writeVarint(columns[FETCHED_AT], zigzag(fetched - prevFetched));
+            writeVarint(columns[SEEN_FOR], row.getLastSeenAt() == null
+                    ? 0 : Math.max(0, seconds(row.getLastSeenAt()) - fetched) + 1);
+            writeVarint(columns[INITIAL_PRICE], zigzag(row.getInitialPrice() - prevInitial));
+            writeVarint(columns[FINAL_PRICE], zigzag(row.getFinalPrice() - prevFinal));
+            writeVarint(columns[DISCOUNT], zigzag(row.getDiscountPercent()));
+            prevId = row.getId();
+            prevFetched = fetched;
+            prevInitial = row.getInitialPrice();
+            prevFinal = row.getFinalPrice();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(ByteBuffer.allocate(4).putInt(MAGIC).array());
+        writeVarint(out, sorted.size());
+        writeVarint(out, dictionary.size());
+        for (String name : dictionary.keySet()) {
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            writeVarint(out, bytes.length);
+            out.writeBytes(bytes);
+        }
+        // 컬럼마다 길이를 앞에 둔다: 읽는 쪽은 컬럼 시작 위치를 바로 찾는다
+        for (ByteArrayOutputStream column : columns) {
+            writeVarint(out, column.size());
+            out.writeBytes(column.toByteArray());
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @param serviceName null 이면 모든 스토어
+     */
+    static List<PricePointRow> decode(ByteBuffer buffer, String serviceName) {
+        ByteBuffer in = buffer.duplicate();
+        if (in.remaining() < 4 || in.getInt() != MAGIC) {
+            throw new IllegalStateException("not a price archive");
+        }
+        int rows = (int) readVarint(in);
+        String[] dictionary = new String[(int) readVarint(in)];
+        int wanted = -1;
+        for (int i = 0; i < dictionary.length; i++) {
+            byte[] bytes = new byte[(int) readVarint(in)];
+            in.get(bytes);
+            dictionary[i] = new String(bytes, StandardCharsets.UTF_8);
+            if (dictionary[i].equals(serviceName)) wanted = i;
+        }
+        if (serviceName != null && wanted < 0) return List.of();
+
+        ByteBuffer[] columns = new ByteBuffer[COLUMNS];
+        for (int c = 0; c < COLUMNS; c++) {
+            int length = (int) readVarint(in);
+            columns[c] = in.slice(in.position(), length);
+            in.position(in.position() + length);
+        }
+
+        List<PricePointRow> out = new ArrayList<>();
+        long id = 0;
+        long fetched = 0;
+        long initialPrice = 0;
+        long finalPrice = 0;
+        for (int i = 0; i < rows; i++) {
+            // 차이 인코딩이라 건너뛸 행도 모든 컬럼을 읽어야 한다
+            int service = (int) readVarint(columns[SERVICE]);
+            id += unzigzag(readVarint(columns[ID]));
+            fetched += unzigzag(readVarint(columns[FETCHED_AT]));
+            long seenFor = readVarint(columns[SEEN_FOR]);
+            initialPrice += unzigzag(readVarint(columns[INITIAL_PRICE]));
+            finalPrice += unzigzag(readVarint(columns[FINAL_PRICE]));
+            long discount = unzigzag(readVarint(columns[DISCOUNT]));
+            if (wanted >= 0 && service != wanted) continue;
+            out.add(new ArchivedRow(id, dictionary[service], (int) initialPrice, (int) finalPrice, (int) discount,
+                    dateTime(fetched), seenFor == 0 ? null : dateTime(fetched + seenFor - 1)));
+        }
+        return out;
+    }
+
+    private static long seconds(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime dateTime(long seconds) {
+        return LocalDateTime.ofEpochSecond(seconds, 0, ZoneOffset.UTC);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    private record ArchivedRow(Long id, String serviceName, Integer initialPrice, Integer finalPrice,
+                               Integer discountPercent, LocalDateTime fetchedAt, LocalDateTime lastSeenAt)
+            implements PricePointRow {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getServiceName() {
+            return serviceName;
+        }
+
+        @Override
+        public Integer getInitialPrice() {
+            return initialPrice;
+        }
+
+        @Override
+        public Integer getFinalPrice() {
+            return finalPrice;
+        }
+
+        @Override
+        public Integer getDiscountPercent() {
+            return discountPercent;
+        }
+
+        @Override
+        public LocalDateTime getFetchedAt() {
+            return fetchedAt;
+        }
+
+        @Override
+        public LocalDateTime getLastSeenAt() {
+            return lastSeenAt;
+        }
+    }
+}
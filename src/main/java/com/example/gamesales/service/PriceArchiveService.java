@@ -0,0 +1,58 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.repository.GamePriceRepository;
+import com.example.gamesales.repository.GamePriceRepository.ArchiveCandidate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 가격 이력 아카이브 작업. 마지막 확인 시각이 crawler.archive.older-than 보다 오래된 game_prices 행을
+ * 게임별 아카이브 파일({@link PriceArchive})로 옮긴다. 이력 조회 API 는 두 곳을 이어서 읽는다.
+ */
+@Slf4j
+@Service
+public class PriceArchiveService {
+
+    private final GamePriceRepository priceRepo;
+    private final PriceArchiveWriter writer;
+    private final Duration olderThan;
+
+    public PriceArchiveService(GamePriceRepository priceRepo, PriceArchiveWriter writer, CrawlerConfig crawlerConfig) {
+        this.priceRepo = priceRepo;
+        this.writer = writer;
+        this.olderThan = crawlerConfig.getArchive().getOlderThan();
+    }
+
+    /**
+     * @return 옮긴 행 수
+     */
+    public int archiveOldPrices() {
+        return archiveOlderThan(LocalDateTime.now().minus(olderThan));
+    }
+
+    /**
+     * 게임 하나가 실패해도(파일 손상 등) 나머지 게임은 옮긴다. 실패한 게임의 행은 테이블에 그대로 남는다.
+     *
+     * @return 옮긴 행 수
+     */
+    public int archiveOlderThan(LocalDateTime cutoff) {
+        List<ArchiveCandidate> games = priceRepo.findArchiveCandidates(cutoff);
+        int moved = 0;
+        int failed = 0;
+        for (ArchiveCandidate game : games) {
+            try {
+                moved += writer.archiveGame(game.getGameId(), game.getAppId(), cutoff);
+            } catch (RuntimeException e) {
+                failed++;
+                log.warn("가격 이력 아카이브 실패: appId={}, error={}", game.getAppId(), e.toString());
+            }
+        }
+        log.info("가격 이력 아카이브: cutoff={}, games={}, rows={}, failed={}", cutoff, games.size(), moved, failed);
+        return moved;
+    }
+}
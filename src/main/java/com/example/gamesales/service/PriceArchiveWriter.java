@@ -0,0 +1,46 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.repository.GamePriceRepository;
+import com.example.gamesales.repository.GamePriceRepository.PricePointRow;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게임 하나의 오래된 가격 이력을 아카이브 파일로 옮기고 game_prices 에서 지운다. 게임마다 트랜잭션 하나.
+ */
+@Service
+public class PriceArchiveWriter {
+
+    /** delete ... where id in (...) 한 문장의 최대 id 수 */
+    private static final int DELETE_CHUNK = 1_000;
+
+    private final GamePriceRepository priceRepo;
+    private final PriceArchive archive;
+
+    public PriceArchiveWriter(GamePriceRepository priceRepo, PriceArchive archive) {
+        this.priceRepo = priceRepo;
+        this.archive = archive;
+    }
+
+    /**
+     * 파일을 먼저 쓰고 행을 지운다. 삭제가 롤백되면 같은 행이 파일과 테이블에 함께 남는데, 다음 실행이 id 로 걸러
+     * 다시 지우고, 읽는 쪽({@link PriceHistoryService})은 테이블에 남은 가장 오래된 행보다 오래된 아카이브 행만 쓴다.
+     *
+     * @return 옮긴 행 수
+     */
+    @Transactional
+    public int archiveGame(long gameId, int appId, LocalDateTime cutoff) {
+        List<PricePointRow> rows = priceRepo.findArchivable(gameId, cutoff);
+        if (rows.isEmpty()) return 0;
+
+        archive.append(appId, rows);
+        List<Long> ids = rows.stream().map(PricePointRow::getId).toList();
+        for (int from = 0; from < ids.size(); from += DELETE_CHUNK) {
+            priceRepo.deleteByIds(ids.subList(from, Math.min(ids.size(), from + DELETE_CHUNK)));
+        }
+        return rows.size();
+    }
+}
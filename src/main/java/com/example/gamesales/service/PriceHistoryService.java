@@ -0,0 +1,203 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.dto.DailyPrice;
+import com.example.gamesales.dto.PriceHistoryPage;
+import com.example.gamesales.dto.PricePointResponse;
+import com.example.gamesales.repository.GamePriceRepository;
+import com.example.gamesales.repository.GamePriceRepository.PricePointRow;
+import com.example.gamesales.repository.GameRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 게임 하나의 가격 이력 조회.
+ * - 페이지: 최근 순, (fetchedAt, id) 키셋 커서로 이어간다. 몇 번째 페이지든 인덱스 탐색 한 번.
+ * - 일별: [from, to] 구간을 시간순으로 흘려 읽으며 하루 단위 min/max/last 로 줄인다. 메모리는 결과 크기만큼만 쓴다.
+ *
+ * 델타 적재 이후 한 행은 fetchedAt 부터 lastSeenAt 까지 유지된 가격이므로, 변경이 없던 날도 직전 가격으로 채운다.
+ *
+ * 오래된 이력은 아카이브 파일({@link PriceArchive})로 옮겨진다. 게임·스토어마다 아카이브는 테이블 이력보다 앞선 구간이므로,
+ * 테이블 이력이 요청 범위를 다 채우지 못할 때만 아카이브를 읽어 뒤에(페이지) 또는 앞에(일별) 잇는다.
+ */
+@Service
+public class PriceHistoryService {
+
+    /** 페이지당 최대 건수 */
+    public static final int MAX_PAGE_SIZE = 500;
+    /** 일별 조회 최대 기간 (약 10년) */
+    public static final int MAX_DAYS = 3660;
+
+    private final GamePriceRepository priceRepo;
+    private final GameRepository gameRepo;
+    private final PriceArchive archive;
+
+    public PriceHistoryService(GamePriceRepository priceRepo, GameRepository gameRepo, PriceArchive archive) {
+        this.priceRepo = priceRepo;
+        this.gameRepo = gameRepo;
+        this.archive = archive;
+    }
+
+    /**
+     * 최근 순 이력 한 페이지.
+     *
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지면 null
+     * @return 모르는 appId 면 empty
+     * @throws IllegalArgumentException 잘못된 커서
+     */
+    @Transactional
+    public Optional<PriceHistoryPage> page(int appId, String serviceName, String cursor, int limit) {
+        Optional<Long> gameId = gameRepo.findIdByAppId(appId);
+        if (gameId.isEmpty()) return Optional.empty();
+
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        // 한 건 더 읽어서 다음 페이지가 있는지 본다
+        PageRequest pageRequest = PageRequest.of(0, size + 1);
+        List<PricePointRow> rows = new ArrayList<>();
+        Cursor after = null;
+        if (cursor == null || cursor.isBlank()) {
+            rows.addAll(priceRepo.findHistory(gameId.get(), serviceName, pageRequest));
+        } else {
+            after = Cursor.decode(cursor);
+            rows.addAll(priceRepo.findHistoryBefore(gameId.get(), serviceName, after.fetchedAt(), after.id(), pageRequest));
+        }
+        if (rows.size() <= size) {
+            // 테이블 이력이 끝났으면 아카이브에서 이어 읽는다
+            List<PricePointRow> archived = archived(gameId.get(), appId, serviceName);
+            for (int i = archived.size() - 1; i >= 0 && rows.size() <= size; i--) {
+                if (after == null || after.isNewerThan(archived.get(i))) rows.add(archived.get(i));
+            }
+        }
+
+        boolean hasMore = rows.size() > size;
+        List<PricePointRow> pageRows = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            PricePointRow last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new Cursor(last.getFetchedAt(), last.getId()).encode();
+        }
+        return Optional.of(new PriceHistoryPage(pageRows.stream().map(PricePointResponse::from).toList(), nextCursor));
+    }
+
+    /**
+     * from~to(포함) 일별 가격. 가격을 알 수 없는 날(추적 전·순위권 밖)은 빠진다.
+     *
+     * @return 모르는 appId 면 empty
+     * @throws IllegalArgumentException from 이 to 보다 늦거나 기간이 {@link #MAX_DAYS} 를 넘을 때
+     */
+    @Transactional
+    public Optional<List<DailyPrice>> daily(int appId, String serviceName, LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new IllegalArgumentException("invalid range: " + from + " ~ " + to);
+        }
+        Optional<Long> gameId = gameRepo.findIdByAppId(appId);
+        if (gameId.isEmpty()) return Optional.empty();
+
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+        // 구간 시작 시점에 유효했던 가격 (구간 첫날을 채우는 데 필요)
+        PricePointRow carried = priceRepo.findHistoryFetchedBefore(gameId.get(), serviceName, start, PageRequest.of(0, 1))
+                .stream().findFirst().orElse(null);
+
+        // 테이블에 구간 시작 전 행이 있으면 아카이브(그보다 더 오래된 이력)는 볼 필요가 없다
+        List<PricePointRow> archivedInRange = new ArrayList<>();
+        if (carried == null) {
+            for (PricePointRow row : archived(gameId.get(), appId, serviceName)) {
+                if (row.getFetchedAt().isBefore(start)) carried = row;
+                else if (row.getFetchedAt().isBefore(end)) archivedInRange.add(row);
+            }
+        }
+
+        try (Stream<PricePointRow> rows = priceRepo.streamRange(gameId.get(), serviceName, start, end)) {
+            return Optional.of(downsample(from, to, carried,
+                    Stream.concat(archivedInRange.stream(), rows).iterator()));
+        }
+    }
+
+    /**
+     * 아카이브 이력, 시간순. 테이블에 남은 가장 오래된 행 이후의 아카이브 행(파일만 쓰고 삭제가 롤백돼 양쪽에 있는 행)은 뺀다.
+     */
+    private List<PricePointRow> archived(long gameId, int appId, String serviceName) {
+        List<PricePointRow> archived = archive.read(appId, serviceName);
+        if (archived.isEmpty()) return archived;
+        Optional<PricePointRow> oldestLive = priceRepo.findOldest(gameId, serviceName, PageRequest.of(0, 1))
+                .stream().findFirst();
+        if (oldestLive.isEmpty()) return archived;
+        long oldestId = oldestLive.get().getId();
+        return archived.stream().filter(row -> row.getId() < oldestId).toList();
+    }
+
+    /**
+     * 시간순 행을 하루 단위로 줄인다. 하루의 min/max 에는 그날 시작 시점에 유효하던 가격도 포함한다.
+     */
+    static List<DailyPrice> downsample(LocalDate from, LocalDate to, PricePointRow carried, Iterator<PricePointRow> rows) {
+        List<DailyPrice> days = new ArrayList<>();
+        PricePointRow current = carried;
+        PricePointRow next = rows.hasNext() ? rows.next() : null;
+
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            LocalDateTime dayEnd = day.plusDays(1).atStartOfDay();
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            boolean known = false;
+
+            if (current != null && !seenUntil(current).toLocalDate().isBefore(day)) {
+                min = max = current.getFinalPrice();
+                known = true;
+            }
+            while (next != null && next.getFetchedAt().isBefore(dayEnd)) {
+                current = next;
+                min = Math.min(min, current.getFinalPrice());
+                max = Math.max(max, current.getFinalPrice());
+                known = true;
+                next = rows.hasNext() ? rows.next() : null;
+            }
+            if (known) {
+                days.add(new DailyPrice(day, min, max, current.getFinalPrice(), current.getDiscountPercent()));
+            }
+        }
+        return days;
+    }
+
+    /** 가격을 마지막으로 확인한 시각. 델타 적재 이전 행은 수집 시각 */
+    private static LocalDateTime seenUntil(PricePointRow row) {
+        return row.getLastSeenAt() != null ? row.getLastSeenAt() : row.getFetchedAt();
+    }
+
+    /** 키셋 커서: 마지막으로 돌려준 행의 (fetchedAt, id). 밖에서는 불투명한 문자열로 다룬다 */
+    record Cursor(LocalDateTime fetchedAt, long id) {
+
+        /** row 가 이 커서 다음(더 오래된) 행인지 */
+        boolean isNewerThan(PricePointRow row) {
+            int byTime = fetchedAt.compareTo(row.getFetchedAt());
+            return byTime > 0 || (byTime == 0 && id > row.getId());
+        }
+
+        String encode() {
+            String raw = fetchedAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int bar = raw.indexOf('|');
+                return new Cursor(LocalDateTime.parse(raw.substring(0, bar)), Long.parseLong(raw.substring(bar + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("invalid cursor: " + cursor, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.crawler.SteamAppDetailsClient;
+import com.example.gamesales.repository.GameRepository;
+import com.example.gamesales.util.CrawlExecution;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Steam appdetails 로 게임의 한국어 이름을 보강한다. 검색 페이지는 영어 제목만 주므로, 이름을 확인한 지
+ * crawler.steam-details.name-refresh-after 가 지난 게임만 상세를 요청한다 (대부분의 게임은 주기마다 건너뛴다).
+ */
+@Slf4j
+@Service
+public class SteamDetailsService {
+
+    /** 이 개수만큼 모아 트랜잭션 하나로 저장한다 */
+    private static final int WRITE_CHUNK = 100;
+
+    private final SteamAppDetailsClient appDetails;
+    private final GameRepository gameRepo;
+    private final GameEnrichmentWriter enrichmentWriter;
+    private final CrawlExecution execution;
+    private final CrawlerConfig.SteamDetails config;
+
+    public SteamDetailsService(SteamAppDetailsClient appDetails,
+                               GameRepository gameRepo,
+                               GameEnrichmentWriter enrichmentWriter,
+                               CrawlExecution execution,
+                               CrawlerConfig crawlerConfig) {
+        this.appDetails = appDetails;
+        this.gameRepo = gameRepo;
+        this.enrichmentWriter = enrichmentWriter;
+        this.execution = execution;
+        this.config = crawlerConfig.getSteamDetails();
+    }
+
+    /**
+     * 확인할 때가 된 게임의 상세를 concurrency 개까지 동시에 요청한다. 요청 속도는 Steam WebClient 의 요청 제한이 맞춘다.
+     * 상세가 없는 게임(판매 중지·지역 제한)도 확인 시각은 남긴다. 실패한 요청은 건너뛰고 세어 두며(다음 주기에 다시 묻는다),
+     * 모두 실패하면 예외로 작업 실패를 남긴다.
+     *
+     * @return 한국어 이름이 바뀐 게임 수
+     */
+    public int refreshKoreanNames() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Integer> due = gameRepo.findAppIdsWithDetailsBefore(now.minus(config.getNameRefreshAfter()));
+        if (due.isEmpty()) return 0;
+
+        AtomicInteger failed = new AtomicInteger();
+        Integer updated = Flux.fromIterable(due)
+                .flatMap(appId -> appDetails.details(appId)
+                                .map(data -> data.name() == null ? "" : data.name())
+                                .defaultIfEmpty("")
+                                .map(name -> Map.entry(appId, name))
+                                .onErrorResume(e -> {
+                                    failed.incrementAndGet();
+                                    log.warn("Steam appdetails 상세 요청 실패: appId={}, error={}", appId, e.toString());
+                                    return Mono.empty();
+                                }),
+                        Math.max(1, config.getConcurrency()))
+                .buffer(WRITE_CHUNK)
+                .publishOn(execution.scheduler())
+                .map(chunk -> {
+                    Map<Integer, String> names = new LinkedHashMap<>();
+                    chunk.forEach(entry -> names.put(entry.getKey(), entry.getValue()));
+                    return execution.jdbc(() -> enrichmentWriter.updateKoreanNames(names, now));
+                })
+                .reduce(0, Integer::sum)
+                .block();
+
+        log.info("Steam 한국어 이름 보강: appIds={}, failed={}, updatedGames={}", due.size(), failed.get(), updated);
+        if (failed.get() == due.size()) {
+            throw new IllegalStateException("Steam appdetails failed for all " + due.size() + " games");
+        }
+        return updated == null ? 0 : updated;
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.dto.PriceDto;
+import com.example.gamesales.dto.StorePage;
+import com.example.gamesales.dto.StorePrice;
+import com.example.gamesales.model.CrawlCheckpoint;
+import lombok.extern.slf4j.Slf4j;
+import com.example.gamesales.util.CrawlExecution;
+import com.example.gamesales.util.CrawlerMetrics;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 모든 스토어 크롤러가 함께 쓰는 저장 싱크.
+ *
+ * 스토어가 섞인 페이지 흐름을 상품 batchSize 건(또는 maxDelay)마다 끊어 한 배치로 저장한다. 배치 저장은
+ * concatMap 으로 한 번에 하나씩, {@link CrawlExecution} 의 블로킹 스케줄러(boundedElastic 또는 가상 스레드)에서 돌기 때문에
+ * 크롤링(네트워크)은 저장을 기다리지 않고 계속 진행되고, DB 에는 스토어 수와 상관없이 적재 트랜잭션 하나씩만 들어간다.
+ *
+ * 배치에 페이지의 마지막 상품이 들어 있으면 그 페이지의 체크포인트를 배치와 같은 트랜잭션에 남긴다
+ * ({@link CrawlCheckpoints}). 실행을 이어 받으면 이미 저장된 페이지의 appId·건수를 체크포인트에서 다시 채우므로
+ * 중복 제거와 결과 집계는 처음부터 돌린 것과 같다.
+ *
+ * appId 가 없는 상품은 {@link GameTitleMatcher} 로 Steam 게임을 찾고, 못 찾으면 건너뛰고 센다.
+ * 흐름이 끝나면 스토어별 전체 결과로 {@link DealsIndex} 를 교체한다.
+ */
+@Slf4j
+@Component
+public class StorePriceSink {
+
+    private final GamePriceIngestService ingestService;
+    private final GameTitleMatcher titleMatcher;
+    private final DealsIndex dealsIndex;
+    private final CrawlCheckpoints checkpoints;
+    private final CrawlExecution execution;
+    private final CrawlerConfig.Sink config;
+
+    public StorePriceSink(GamePriceIngestService ingestService,
+                          GameTitleMatcher titleMatcher,
+                          DealsIndex dealsIndex,
+                          CrawlCheckpoints checkpoints,
+                          CrawlExecution execution,
+                          CrawlerConfig crawlerConfig) {
+        this.ingestService = ingestService;
+        this.titleMatcher = titleMatcher;
+        this.dealsIndex = dealsIndex;
+        this.checkpoints = checkpoints;
+        this.execution = execution;
+        this.config = crawlerConfig.getSink();
+    }
+
+    /**
+     * @param resume 이번 실행과 이미 저장된 페이지
+     * @return 흐름이 끝나면 스토어별 결과(이어 받았으면 이전 시도분 포함)로 완료
+     */
+    public Mono<Map<String, StoreResult>> write(CrawlCheckpoints.Resume resume, Flux<StorePage> pages) {
+        return Mono.defer(() -> {
+            Run run = new Run(resume.runId(), resume.startedAt());
+            resume.completed().forEach((service, done) -> run.state(service).restore(done));
+            return pages
+                    .concatMapIterable(Row::of)
+                    .bufferTimeout(Math.max(1, config.getBatchSize()), config.getMaxDelay())
+                    .concatMap(batch -> Mono.fromRunnable(() -> flush(batch, run))
+                            .subscribeOn(execution.scheduler()))
+                    .then(Mono.fromCallable(() -> execution.jdbc(() -> finish(run))));
+        });
+    }
+
+    /** 배치 하나를 스토어별로 나눠 적재하고, 이 배치로 끝난 페이지를 체크포인트로 남긴다 */
+    private void flush(List<Row> batch, Run run) {
+        Map<String, List<PriceDto>> byService = new LinkedHashMap<>();
+        List<CrawlCheckpoint> finished = new ArrayList<>();
+        for (Row row : batch) {
+            StorePrice price = row.price();
+            Integer appId = price.appId() != null ? price.appId() : titleMatcher.match(price.title());
+            StoreState state = run.state(price.serviceName());
+            PageState page = state.pages.computeIfAbsent(row.page(), p -> new PageState());
+            state.crawled++;
+            page.crawled++;
+            if (appId == null) {
+                state.unmatched++;
+                page.unmatched++;
+                CrawlerMetrics.rowSkipped(price.serviceName(), CrawlerMetrics.SkipReason.UNMATCHED);
+            } else if (!state.appIds.add(appId)) {
+                CrawlerMetrics.rowSkipped(price.serviceName(), CrawlerMetrics.SkipReason.DUPLICATE);
+            } else {
+                // 같은 게임의 에디션·플랫폼별 상품이 여럿이면 랭킹이 높은(먼저 온) 상품만 남긴다
+                PriceDto dto = new PriceDto(appId, price.title(), price.title(),
+                        price.initialPrice(), price.finalPrice(), price.discountPercent(), price.ranking());
+                byService.computeIfAbsent(price.serviceName(), s -> new ArrayList<>()).add(dto);
+                state.dtos.add(dto);
+                page.appIds.add(appId);
+            }
+            if (row.last()) {
+                state.pages.remove(row.page());
+                finished.add(CrawlCheckpoint.builder()
+                        .runId(run.runId)
+                        .serviceName(price.serviceName())
+                        .page(row.page())
+                        .crawled(page.crawled)
+                        .unmatched(page.unmatched)
+                        .appIds(CrawlCheckpoint.joinAppIds(page.appIds))
+                        .completedAt(LocalDateTime.now())
+                        .build());
+            }
+        }
+        execution.jdbc(() -> CrawlerMetrics.timeFlush(() -> checkpoints.commit(finished, () ->
+                byService.forEach((service, dtos) -> run.state(service).saved += ingestService.ingest(service, dtos, run.seenAt)))));
+        byService.forEach((service, dtos) -> CrawlerMetrics.rowsAccepted(service, dtos.size()));
+    }
+
+    private Map<String, StoreResult> finish(Run run) {
+        Map<String, StoreResult> results = new TreeMap<>();
+        run.states.forEach((service, state) -> {
+            List<PriceDto> all = state.dtos;
+            if (!state.restoredAppIds.isEmpty()) {
+                // 이전 시도에서 저장한 페이지는 latest_price 에서 읽어 와 실행 전체 결과로 인덱스를 만든다
+                all = new ArrayList<>(checkpoints.savedPrices(service, state.restoredAppIds));
+                all.addAll(state.dtos);
+                all.sort(Comparator.comparingInt(PriceDto::ranking));
+            }
+            if (!all.isEmpty()) dealsIndex.rebuild(service, all);
+            int matched = state.restoredAppIds.size() + state.dtos.size();
+            results.put(service, new StoreResult(state.crawled, matched, state.unmatched, state.saved));
+            log.info("스토어 적재 완료: store={}, crawled={}, matched={}, unmatched={}, savedRows={}",
+                    service, state.crawled, matched, state.unmatched, state.saved);
+        });
+        return results;
+    }
+
+    /**
+     * @param crawled   크롤러가 내보낸 상품 수
+     * @param matched   게임을 찾아 적재한 상품 수 (중복 제외)
+     * @param unmatched 게임을 찾지 못해 건너뛴 상품 수
+     * @param saved     이번 시도에서 새로 저장한 가격 행 수 (델타 적재면 바뀐 가격만)
+     */
+    public record StoreResult(int crawled, int matched, int unmatched, int saved) {
+    }
+
+    /** 상품 하나와 그 상품이 속한 페이지. last 면 페이지의 마지막 상품 */
+    private record Row(int page, StorePrice price, boolean last) {
+
+        static List<Row> of(StorePage page) {
+            List<StorePrice> prices = page.prices();
+            List<Row> rows = new ArrayList<>(prices.size());
+            for (int i = 0; i < prices.size(); i++) {
+                rows.add(new Row(page.page(), prices.get(i), i == prices.size() - 1));
+            }
+            return rows;
+        }
+    }
+
+    /** 한 번의 write 상태. 배치 저장은 concatMap 으로 직렬화되므로 동기화가 필요 없다 */
+    private static final class Run {
+        private final long runId;
+        /** 배치마다 다른 시각이 아니라 실행 시작 시각 하나를 latest_price.lastSeenAt 으로 남긴다 */
+        private final LocalDateTime seenAt;
+        private final Map<String, StoreState> states = new LinkedHashMap<>();
+
+        Run(long runId, LocalDateTime seenAt) {
+            this.runId = runId;
+            this.seenAt = seenAt;
+        }
+
+        StoreState state(String serviceName) {
+            return states.computeIfAbsent(serviceName, s -> new StoreState());
+        }
+    }
+
+    private static final class StoreState {
+        private final Set<Integer> appIds = new HashSet<>();
+        private final List<PriceDto> dtos = new ArrayList<>();
+        /** 이전 시도에서 저장한 페이지의 appId */
+        private final List<Integer> restoredAppIds = new ArrayList<>();
+        /** 아직 마지막 상품이 오지 않은 페이지 */
+        private final Map<Integer, PageState> pages = new HashMap<>();
+        private int crawled;
+        private int unmatched;
+        private int saved;
+
+        void restore(List<CrawlCheckpoint> done) {
+            for (CrawlCheckpoint cp : done) {
+                crawled += cp.getCrawled();
+                unmatched += cp.getUnmatched();
+                for (Integer appId : cp.appIdList()) {
+                    if (appIds.add(appId)) restoredAppIds.add(appId);
+                }
+            }
+        }
+    }
+
+    private static final class PageState {
+        private final List<Integer> appIds = new ArrayList<>();
+        private int crawled;
+        private int unmatched;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.config.IgdbProperties;
+import com.example.gamesales.util.CrawlerMetrics;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * IGDB 호출용 Twitch App Access Token 관리자.
+ *
+ * 토큰은 처음 쓸 때 발급받고(기동 시 네트워크 호출 없음), 만료 refreshBefore 전부터는 새로 발급받는다.
+ * 현재 토큰은 AtomicReference 하나로 공유해 읽기에 락이 없고, 발급 요청은 동시에 하나만 나간다(single-flight).
+ * IGDB 가 401 을 주면 토큰을 한 번 새로 받아 같은 요청을 한 번만 다시 보낸다.
+ */
+@Slf4j
+@Component
+public class TwitchTokenManager {
+
+    private final WebClient authClient;
+    private final IgdbProperties props;
+    private final long refreshBeforeNanos;
+
+    private final AtomicReference<Token> current = new AtomicReference<>();
+    private final AtomicReference<Mono<Token>> inflight = new AtomicReference<>();
+
+    public TwitchTokenManager(IgdbProperties props) {
+        this(props, WebClient.builder());
+    }
+
+    /** 스프링이 주입하는 builder 에는 공유 커넥션 풀·타임아웃·재시도가 붙어 있다 */
+    @Autowired
+    public TwitchTokenManager(IgdbProperties props, WebClient.Builder webClientBuilder) {
+        this.props = props;
+        this.refreshBeforeNanos = props.getTokenRefreshBefore().toNanos();
+        this.authClient = webClientBuilder.clone().build();
+    }
+
+    /**
+     * IGDB WebClient 에 붙이는 필터. Authorization 헤더를 채우고, 401 이면 토큰을 새로 받아 한 번 재시도한다.
+     * RateLimiter 필터보다 먼저(바깥에) 등록해야 재시도 요청도 요청 제한을 거친다.
+     */
+    public ExchangeFilterFunction filter() {
+        return (request, next) -> token().flatMap(token -> next.exchange(authorized(request, token))
+                .flatMap(response -> {
+                    if (response.statusCode().value() != HttpStatus.UNAUTHORIZED.value()) {
+                        return Mono.just(response);
+                    }
+                    log.warn("IGDB 401 → Twitch 토큰 재발급 후 재시도: path={}", request.url().getPath());
+                    return response.releaseBody()
+                            .then(refresh(token))
+                            .flatMap(fresh -> next.exchange(authorized(request, fresh)));
+                }));
+    }
+
+    /** 유효한 토큰. 없거나 곧 만료되면 발급을 기다린다 */
+    public Mono<Token> token() {
+        return Mono.defer(() -> {
+            Token token = current.get();
+            return usable(token) ? Mono.just(token) : refresh(token);
+        });
+    }
+
+    /**
+     * stale 토큰을 새 토큰으로 바꾼다. 다른 요청이 이미 바꿨으면 그 토큰을, 발급 중이면 그 결과를 공유한다.
+     */
+    Mono<Token> refresh(Token stale) {
+        while (true) {
+            Token now = current.get();
+            if (now != stale && usable(now)) return Mono.just(now);
+
+            Mono<Token> running = inflight.get();
+            if (running != null) return running;
+
+            AtomicReference<Mono<Token>> self = new AtomicReference<>();
+            Mono<Token> fetch = fetchToken()
+                    // 결과를 구독자에게 넘기기 전에 inflight 를 비워야 다음 요청이 끝난 발급을 재사용하지 않는다
+                    .doOnNext(token -> {
+                        current.set(token);
+                        inflight.compareAndSet(self.get(), null);
+                    })
+                    .doOnError(e -> inflight.compareAndSet(self.get(), null))
+                    .cache();
+            self.set(fetch);
+            if (inflight.compareAndSet(null, fetch)) return fetch;
+        }
+    }
+
+    private Mono<Token> fetchToken() {
+        Mono<JsonNode> call = authClient.post()
+                .uri(UriComponentsBuilder.fromUriString(props.getTokenUrl())
+                        .queryParam("client_id", props.getId())
+                        .queryParam("client_secret", props.getSecret())
+                        .queryParam("grant_type", "client_credentials")
+                        .build()
+                        .toUri())
+                .retrieve()
+                .bodyToMono(JsonNode.class);
+        return CrawlerMetrics.timeIgdb("/oauth2/token", call)
+                .map(resp -> {
+                    Duration ttl = Duration.ofSeconds(resp.path("expires_in").asLong());
+                    log.info("Twitch 토큰 발급: expiresInDays={}", ttl.toDays());
+                    return new Token(resp.get("access_token").asText(), System.nanoTime() + ttl.toNanos());
+                });
+    }
+
+    private boolean usable(Token token) {
+        return token != null && token.expiresAt() - System.nanoTime() > refreshBeforeNanos;
+    }
+
+    private ClientRequest authorized(ClientRequest request, Token token) {
+        return ClientRequest.from(request)
+                .headers(h -> h.setBearerAuth(token.value()))
+                .build();
+    }
+
+    /** expiresAt 은 System.nanoTime 기준 */
+    public record Token(String value, long expiresAt) {
+    }
+}
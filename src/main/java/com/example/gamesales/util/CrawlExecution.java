@@ -0,0 +1,127 @@
+package com.example.gamesales.util;
+
+import com.example.gamesales.config.CrawlerConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 크롤링의 블로킹 작업(스토어 크롤링 구독, 싱크 배치 적재, IGDB 청크 저장, 스케줄 작업)을 어느 스레드에서 돌릴지 정한다.
+ *
+ * 기본(플랫폼 스레드) 모드는 기존과 같다: Reactor boundedElastic 과 작업마다 플랫폼 스레드 하나.
+ * crawler.execution.virtual-threads 를 켜면 작업마다 가상 스레드를 쓴다. 가상 스레드는 수천 개도 싸지만
+ * 그만큼 JDBC 커넥션을 동시에 잡으려 들기 때문에, JDBC 를 쓰는 구간은 {@link #jdbc(Supplier)} 의
+ * 세마포어(jdbcPermits)로 감싸 커넥션 풀 앞에서 줄을 세운다. 허가를 기다리는 동안 가상 스레드는 캐리어를 놓는다.
+ */
+@Slf4j
+@Component
+public class CrawlExecution {
+
+    private final boolean virtualThreads;
+    private final Scheduler scheduler;
+    /** 플랫폼 스레드 모드면 null (boundedElastic 스레드 수가 이미 제한돼 있다) */
+    private final Semaphore jdbcPermits;
+    private final int permits;
+    private final long acquireTimeoutNanos;
+
+    public CrawlExecution(CrawlerConfig crawlerConfig) {
+        CrawlerConfig.Execution config = crawlerConfig.getExecution();
+        this.virtualThreads = config.isVirtualThreads();
+        this.permits = Math.max(1, config.getJdbcPermits());
+        this.acquireTimeoutNanos = config.getJdbcAcquireTimeout().toNanos();
+        if (virtualThreads) {
+            this.scheduler = Schedulers.fromExecutorService(
+                    Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("crawl-vt-", 0).factory()),
+                    "crawl-virtual");
+            this.jdbcPermits = new Semaphore(permits, true);
+            log.info("가상 스레드 실행 모드: jdbcPermits={}", permits);
+        } else {
+            this.scheduler = Schedulers.boundedElastic();
+            this.jdbcPermits = null;
+        }
+    }
+
+    public boolean virtualThreads() {
+        return virtualThreads;
+    }
+
+    /** 블로킹 작업을 올릴 Reactor 스케줄러 */
+    public Scheduler scheduler() {
+        return scheduler;
+    }
+
+    /** 스케줄 작업 전용 스레드. 가상 스레드 모드면 가상 스레드(항상 데몬) */
+    public ThreadFactory jobThreadFactory(String name) {
+        if (virtualThreads) return Thread.ofVirtual().name(name).factory();
+        return r -> {
+            Thread t = new Thread(r, name);
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    /**
+     * JDBC 를 쓰는 구간. 가상 스레드 모드면 허가를 얻은 뒤에 실행하고, jdbcAcquireTimeout 안에 못 얻으면
+     * {@link JdbcPermitTimeoutException}.
+     */
+    public <T> T jdbc(Supplier<T> work) {
+        if (jdbcPermits == null) return work.get();
+        acquire();
+        try {
+            return work.get();
+        } finally {
+            jdbcPermits.release();
+        }
+    }
+
+    public void jdbc(Runnable work) {
+        jdbc(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /** 모드와 JDBC 허가 사용 현황 스냅샷 */
+    public Stats stats() {
+        if (jdbcPermits == null) return new Stats(false, 0, 0, 0);
+        return new Stats(true, permits, permits - jdbcPermits.availablePermits(), jdbcPermits.getQueueLength());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 공유 boundedElastic 은 Reactor 가 관리한다
+        if (virtualThreads) scheduler.dispose();
+    }
+
+    private void acquire() {
+        try {
+            if (!jdbcPermits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new JdbcPermitTimeoutException(permits);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for JDBC permit", e);
+        }
+    }
+
+    /**
+     * @param inUse   지금 JDBC 허가를 쥔 작업 수
+     * @param waiting 허가를 기다리는 스레드 수 (근사치)
+     */
+    public record Stats(boolean virtualThreads, int jdbcPermits, int inUse, int waiting) {
+    }
+
+    public static class JdbcPermitTimeoutException extends RuntimeException {
+        public JdbcPermitTimeoutException(int permits) {
+            super("timed out waiting for one of " + permits + " JDBC permits");
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.gamesales.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 크롤링·보강 경로의 Micrometer 계측. /actuator/prometheus 로 나간다.
+ *
+ * 파서·크롤러는 테스트·벤치마크에서 new 로 만들어 쓰므로 빈 주입 대신 전역 레지스트리(Metrics.globalRegistry)에 기록한다.
+ * Spring Boot 가 자기 레지스트리(Prometheus)를 전역 레지스트리에 붙이므로 애플리케이션에서는 그대로 노출되고,
+ * 레지스트리가 없는 단위 테스트에서는 아무것도 하지 않는다.
+ *
+ * <ul>
+ *   <li>crawler.page.fetch (store, outcome): 목록 페이지 하나 요청~본문 수신</li>
+ *   <li>crawler.page.parse (store): 페이지 하나 파싱</li>
+ *   <li>crawler.rows.accepted (store) / crawler.rows.skipped (store, reason): 적재한 상품, 이유별로 버린 상품</li>
+ *   <li>crawler.sink.flush: 배치 하나 적재(+체크포인트) 트랜잭션</li>
+ *   <li>igdb.request (endpoint, outcome): IGDB·Twitch 호출 하나 (재시도 포함)</li>
+ * </ul>
+ */
+public final class CrawlerMetrics {
+
+    public static final String PAGE_FETCH = "crawler.page.fetch";
+    public static final String PAGE_PARSE = "crawler.page.parse";
+    public static final String ROWS_ACCEPTED = "crawler.rows.accepted";
+    public static final String ROWS_SKIPPED = "crawler.rows.skipped";
+    public static final String SINK_FLUSH = "crawler.sink.flush";
+    public static final String IGDB_REQUEST = "igdb.request";
+
+    /** 상품을 적재하지 않은 이유 */
+    public enum SkipReason {
+        /** 링크에서 appId 를 읽지 못함 */
+        BAD_APP_ID,
+        /** 가격(할인) 블록이 없음: 출시 예정·가격 미정 */
+        NO_DISCOUNT_BLOCK,
+        /** 할인 블록은 있는데 최종 가격 요소가 없음 (마크업 변경 의심) */
+        NO_PRICE,
+        /** 무료 */
+        FREE,
+        /** 다른 스토어 상품의 게임을 찾지 못함 */
+        UNMATCHED,
+        /** 같은 게임의 다른 상품이 먼저 적재됨 */
+        DUPLICATE;
+
+        final String tag = name().toLowerCase(Locale.ROOT);
+    }
+
+    private CrawlerMetrics() {
+    }
+
+    /** 구독부터 완료까지를 crawler.page.fetch 로 잰다 */
+    public static <T> Mono<T> timePageFetch(String store, Mono<T> fetch) {
+        return timed(fetch, PAGE_FETCH, "store", store);
+    }
+
+    /** 스트리밍 파싱처럼 받으면서 내보내는 경우: 구독부터 마지막 행까지 (파싱 시간 포함) */
+    public static <T> Flux<T> timePageFetch(String store, Flux<T> fetch) {
+        return Flux.defer(() -> {
+            long begin = System.nanoTime();
+            return fetch
+                    .doOnComplete(() -> record(PAGE_FETCH, "store", store, "success", begin))
+                    .doOnError(e -> record(PAGE_FETCH, "store", store, "error", begin));
+        });
+    }
+
+    public static <T> T timeParse(String store, Supplier<T> parse) {
+        return timer(PAGE_PARSE, "store", store).record(parse);
+    }
+
+    public static void timeFlush(Runnable flush) {
+        timer(SINK_FLUSH).record(flush);
+    }
+
+    /** IGDB 호출 하나. endpoint 는 "/games" 처럼 경로만 (쿼리·ID 를 넣으면 시계열이 늘어난다) */
+    public static <T> Mono<T> timeIgdb(String endpoint, Mono<T> call) {
+        return timed(call, IGDB_REQUEST, "endpoint", endpoint);
+    }
+
+    public static void rowsAccepted(String store, int rows) {
+        if (rows > 0) registry().counter(ROWS_ACCEPTED, "store", store).increment(rows);
+    }
+
+    public static void rowSkipped(String store, SkipReason reason) {
+        registry().counter(ROWS_SKIPPED, "store", store, "reason", reason.tag).increment();
+    }
+
+    /** 값(또는 빈 완료)이면 outcome=success, 오류면 error. 취소는 기록하지 않는다 */
+    private static <T> Mono<T> timed(Mono<T> source, String name, String key, String value) {
+        return Mono.defer(() -> {
+            long begin = System.nanoTime();
+            return source
+                    .doOnSuccess(v -> record(name, key, value, "success", begin))
+                    .doOnError(e -> record(name, key, value, "error", begin));
+        });
+    }
+
+    private static void record(String name, String key, String value, String outcome, long begin) {
+        timer(name, key, value, "outcome", outcome).record(System.nanoTime() - begin, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer timer(String name, String... tags) {
+        return Timer.builder(name).tags(tags).publishPercentileHistogram().register(registry());
+    }
+
+    private static MeterRegistry registry() {
+        return Metrics.globalRegistry;
+    }
+}
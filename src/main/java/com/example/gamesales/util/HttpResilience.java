@@ -0,0 +1,368 @@
+package com.example.gamesales.util;
+
+import com.example.gamesales.config.CrawlerConfig;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ConnectTimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 모든 외부 WebClient 가 함께 쓰는 HTTP 복원력 계층 (crawler.http).
+ *
+ * - 커넥션: 크기가 정해진 Reactor Netty 풀 하나를 공유하고 keep-alive 로 재사용하며, 응답은 gzip 으로 받는다.
+ *   연결·읽기 타임아웃이 있어 응답 없는 소켓이 크롤링을 붙잡지 않는다.
+ * - 재시도: 5xx·429·연결 오류·타임아웃이면 지터를 준 지수 백오프로 다시 보낸다. Retry-After 가 있으면 그 시간을 따른다.
+ *   크롤러의 요청은 모두 조회(GET, IGDB 는 조회용 POST)라 다시 보내도 안전하다.
+ * - 회로 차단기: 호스트별 연속 실패가 쌓이면 openDuration 동안 요청을 보내지 않고 바로 {@link CircuitOpenException}.
+ *   시간이 지나면 요청 하나만 보내 보고, 성공하면 다시 연다.
+ *
+ * {@link #filter()} 는 RateLimiter 필터보다 먼저(바깥에) 등록한다. 그래야 재시도 요청도 요청 제한을 거친다.
+ *
+ * 호스트별 통계는 {@link #bindMeters} 로 Micrometer 에 나간다 (tag host):
+ * <ul>
+ *   <li>crawler.http.requests / retries / failures / exhausted / short.circuited / timeouts: 누적 횟수</li>
+ *   <li>crawler.http.circuit.opened: 차단기가 열린 횟수</li>
+ *   <li>crawler.http.circuit.state: 0 닫힘, 1 열림, 2 회복 확인 중</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class HttpResilience {
+
+    private final CrawlerConfig.Http config;
+    private final ConcurrentMap<String, Host> hosts = new ConcurrentHashMap<>();
+    private volatile ClientHttpConnector connector;
+    /** bindMeters 뒤에 처음 요청하는 호스트도 여기에 계측을 붙인다 */
+    private volatile MeterRegistry registry;
+
+    public HttpResilience(CrawlerConfig crawlerConfig) {
+        this.config = crawlerConfig.getHttp();
+    }
+
+    /** 공유 커넥터와 복원력 필터를 builder 에 붙인다 */
+    public WebClient.Builder customize(WebClient.Builder builder) {
+        return builder.clientConnector(connector()).filter(filter());
+    }
+
+    /** 크기가 정해진 커넥션 풀 + 타임아웃. 처음 쓸 때 한 번 만든다 */
+    public ClientHttpConnector connector() {
+        ClientHttpConnector c = connector;
+        if (c != null) return c;
+        synchronized (this) {
+            if (connector == null) {
+                ConnectionProvider pool = ConnectionProvider.builder("crawler")
+                        .maxConnections(config.getMaxConnections())
+                        .pendingAcquireTimeout(config.getPendingAcquireTimeout())
+                        .maxIdleTime(config.getMaxIdleTime())
+                        .maxLifeTime(config.getMaxLifeTime())
+                        .evictInBackground(Duration.ofSeconds(30))
+                        .build();
+                HttpClient httpClient = HttpClient.create(pool)
+                        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) config.getConnectTimeout().toMillis())
+                        .keepAlive(true)
+                        // Accept-Encoding: gzip. 검색 페이지 HTML 은 압축하면 1/5 이하
+                        .compress(true)
+                        // 응답이 끝날 때까지 데이터 사이 간격이 이보다 길면 ReadTimeoutException
+                        .responseTimeout(config.getReadTimeout());
+                connector = new ReactorClientHttpConnector(httpClient);
+            }
+            return connector;
+        }
+    }
+
+    /** 회로 차단 + 재시도 필터 */
+    public ExchangeFilterFunction filter() {
+        CrawlerConfig.Retry retry = config.getRetry();
+        int maxAttempts = Math.max(1, retry.getMaxAttempts());
+
+        return (request, next) -> Mono.defer(() -> {
+            Host host = hostFor(request.url().getHost());
+            AtomicInteger attempts = new AtomicInteger();
+
+            return Mono.defer(() -> {
+                        int attempt = attempts.incrementAndGet();
+                        if (!host.allowRequest()) {
+                            host.shortCircuited.increment();
+                            return Mono.<ClientResponse>error(new CircuitOpenException(host.name));
+                        }
+                        host.requests.increment();
+                        return next.exchange(request)
+                                .doOnError(HttpResilience::isTransient, e -> {
+                                    if (isTimeout(e)) host.timeouts.increment();
+                                    host.onFailure();
+                                })
+                                .flatMap(response -> classify(host, response, attempt, maxAttempts));
+                    })
+                    .retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+                        Throwable e = signal.failure();
+                        boolean retryable = e instanceof RetryableResponse || isTransient(e);
+                        if (!retryable || signal.totalRetries() + 1 >= maxAttempts) {
+                            if (isTransient(e)) host.exhausted.increment();
+                            return Mono.error(e);
+                        }
+                        Duration delay = e instanceof RetryableResponse r && r.retryAfter != null
+                                ? r.retryAfter
+                                : backoff(signal.totalRetries());
+                        host.retries.increment();
+                        log.warn("재시도: host={}, attempt={}/{}, delayMs={}, error={}", host.name,
+                                signal.totalRetries() + 2, maxAttempts, delay.toMillis(), e.toString());
+                        return Mono.delay(delay);
+                    })));
+        });
+    }
+
+    /**
+     * 응답 상태로 재시도 여부를 정한다. 재시도하면 본문을 버리고 {@link RetryableResponse} 로 신호를 보내고,
+     * 마지막 시도이거나 Retry-After 가 너무 길면 응답을 그대로 넘겨 호출한 쪽이 오류 상태를 보게 한다.
+     */
+    private Mono<ClientResponse> classify(Host host, ClientResponse response, int attempt, int maxAttempts) {
+        int status = response.statusCode().value();
+        boolean serverError = status >= 500;
+        boolean throttled = status == 429;
+        if (!serverError && !throttled) {
+            host.onSuccess();
+            return Mono.just(response);
+        }
+        // 429 는 호스트가 살아 있다는 뜻이므로 차단기 실패로 세지 않는다
+        if (serverError) host.onFailure();
+
+        Duration retryAfter = retryAfter(response.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        boolean tooLong = retryAfter != null && retryAfter.compareTo(config.getRetry().getMaxRetryAfter()) > 0;
+        if (attempt >= maxAttempts || tooLong) {
+            host.exhausted.increment();
+            return Mono.just(response);
+        }
+        return response.releaseBody().then(Mono.error(new RetryableResponse(status, retryAfter)));
+    }
+
+    /** initialBackoff * 2^retry 를 maxBackoff 로 자르고 jitter 비율만큼 무작위로 깎는다 */
+    Duration backoff(long retry) {
+        CrawlerConfig.Retry r = config.getRetry();
+        long base = r.getInitialBackoff().toMillis() << Math.min(retry, 20);
+        long capped = Math.min(base, r.getMaxBackoff().toMillis());
+        double jitter = Math.max(0, Math.min(1, r.getJitter()));
+        long millis = (long) (capped * (1 - jitter * ThreadLocalRandom.current().nextDouble()));
+        return Duration.ofMillis(Math.max(0, millis));
+    }
+
+    /** Retry-After: 초 또는 HTTP 날짜. 없거나 읽을 수 없으면 null */
+    static Duration retryAfter(String value) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException ignored) {
+            // HTTP 날짜 형식
+        }
+        try {
+            Duration d = Duration.between(ZonedDateTime.now(),
+                    ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+            return d.isNegative() ? Duration.ZERO : d;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /** 다시 보내면 성공할 수 있는 전송 오류: 연결 실패·끊김·타임아웃 */
+    private static boolean isTransient(Throwable e) {
+        return e instanceof WebClientRequestException
+                || e instanceof IOException
+                || e instanceof TimeoutException;
+    }
+
+    /** 연결·응답 타임아웃 (WebClient 가 감싼 원인까지 본다) */
+    private static boolean isTimeout(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof TimeoutException || t instanceof io.netty.handler.timeout.TimeoutException
+                    || t instanceof ConnectTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** 이미 요청한 호스트와 이후에 처음 요청하는 호스트의 통계를 registry 에 등록한다 */
+    public void bindMeters(MeterRegistry registry) {
+        this.registry = registry;
+        hosts.values().forEach(host -> host.register(registry));
+    }
+
+    /** 호스트별 누적 통계 스냅샷 */
+    public Map<String, Stats> stats() {
+        Map<String, Stats> snapshot = new TreeMap<>();
+        hosts.forEach((name, host) -> snapshot.put(name, host.stats()));
+        return snapshot;
+    }
+
+    private Host hostFor(String host) {
+        return hosts.computeIfAbsent(host == null ? "" : host, h -> {
+            Host created = new Host(h, Math.max(1, config.getCircuitBreaker().getFailureThreshold()),
+                    config.getCircuitBreaker().getOpenDuration().toNanos());
+            MeterRegistry r = registry;
+            if (r != null) created.register(r);
+            return created;
+        });
+    }
+
+    public enum State {CLOSED, OPEN, HALF_OPEN}
+
+    /**
+     * @param requests       실제로 보낸 요청 수 (재시도 포함)
+     * @param retries        재시도 수
+     * @param failures       차단기에 기록된 실패 수 (5xx·전송 오류)
+     * @param exhausted      재시도를 다 쓰고도 실패한 요청 수
+     * @param shortCircuited 차단 중이라 보내지 않은 요청 수
+     * @param opened         차단기가 열린 횟수
+     * @param timeouts       연결·응답 타임아웃 수 (failures 에도 들어간다)
+     */
+    public record Stats(long requests, long retries, long failures, long exhausted,
+                        long shortCircuited, long opened, long timeouts, State state) {
+    }
+
+    /** 차단 중인 호스트로는 요청을 보내지 않는다 */
+    public static class CircuitOpenException extends RuntimeException {
+        public CircuitOpenException(String host) {
+            super("circuit open for " + host);
+        }
+    }
+
+    /** 재시도할 응답 상태. 필터 안에서만 쓰고 밖으로 나가지 않는다 */
+    private static final class RetryableResponse extends RuntimeException {
+        private final Duration retryAfter;
+
+        RetryableResponse(int status, Duration retryAfter) {
+            super("HTTP " + status, null, false, false);
+            this.retryAfter = retryAfter;
+        }
+    }
+
+    /**
+     * 호스트 하나의 회로 차단기 + 통계. 상태 전이는 드물고 짧아서 synchronized 로 충분하다.
+     */
+    private static final class Host {
+        private final String name;
+        private final int failureThreshold;
+        private final long openNanos;
+
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openedAt;
+        private boolean probing;
+
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder exhausted = new LongAdder();
+        private final LongAdder shortCircuited = new LongAdder();
+        private final LongAdder opened = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+
+        Host(String name, int failureThreshold, long openNanos) {
+            this.name = name;
+            this.failureThreshold = failureThreshold;
+            this.openNanos = openNanos;
+        }
+
+        /** 닫혀 있으면 통과. 열린 지 openDuration 이 지났으면 회복 확인용 요청 하나만 통과 */
+        synchronized boolean allowRequest() {
+            switch (state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (System.nanoTime() - openedAt < openNanos) return false;
+                    state = State.HALF_OPEN;
+                    return startProbe();
+                default:
+                    // HALF_OPEN: 확인 요청이 끝날 때까지 나머지는 막는다. 확인 요청이 취소돼 결과가 안 오면
+                    // openDuration 뒤에 다시 하나를 보낸다
+                    if (probing && System.nanoTime() - openedAt < openNanos) return false;
+                    return startProbe();
+            }
+        }
+
+        private boolean startProbe() {
+            probing = true;
+            openedAt = System.nanoTime();
+            return true;
+        }
+
+        synchronized void onSuccess() {
+            consecutiveFailures = 0;
+            probing = false;
+            if (state != State.CLOSED) {
+                log.info("회로 닫힘 (복구): host={}", name);
+                state = State.CLOSED;
+            }
+        }
+
+        synchronized void onFailure() {
+            failures.increment();
+            consecutiveFailures++;
+            probing = false;
+            if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+                state = State.OPEN;
+                openedAt = System.nanoTime();
+                opened.increment();
+                log.warn("회로 열림: host={}, consecutiveFailures={}", name, consecutiveFailures);
+            }
+        }
+
+        synchronized Stats stats() {
+            return new Stats(requests.sum(), retries.sum(), failures.sum(), exhausted.sum(),
+                    shortCircuited.sum(), opened.sum(), timeouts.sum(), state);
+        }
+
+        synchronized State state() {
+            return state;
+        }
+
+        void register(MeterRegistry registry) {
+            Tags tags = Tags.of("host", name);
+            count(registry, "crawler.http.requests", tags, requests);
+            count(registry, "crawler.http.retries", tags, retries);
+            count(registry, "crawler.http.failures", tags, failures);
+            count(registry, "crawler.http.exhausted", tags, exhausted);
+            count(registry, "crawler.http.short.circuited", tags, shortCircuited);
+            count(registry, "crawler.http.circuit.opened", tags, opened);
+            count(registry, "crawler.http.timeouts", tags, timeouts);
+            Gauge.builder("crawler.http.circuit.state", this, host -> switch (host.state()) {
+                        case CLOSED -> 0;
+                        case OPEN -> 1;
+                        case HALF_OPEN -> 2;
+                    })
+                    .tags(tags)
+                    .register(registry);
+        }
+
+        private static void count(MeterRegistry registry, String name, Tags tags, LongAdder adder) {
+            FunctionCounter.builder(name, adder, LongAdder::sum).tags(tags).register(registry);
+        }
+    }
+}
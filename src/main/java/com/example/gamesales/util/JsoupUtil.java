@@ -1,4 +1,82 @@
 package com.example.gamesales.util;
 
-public class JsoupUtil {
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+
+public final class JsoupUtil {
+
+    private JsoupUtil() {
+    }
+
+    /**
+     * 요소 안 텍스트에서 숫자만 이어 붙여 정수로 반환한다 ("₩ 64,800" → 64800, "-40%" → 40).
+     * text()/replaceAll 과 달리 텍스트 노드를 직접 훑으므로 중간 문자열을 만들지 않는다.
+     * 숫자가 없으면 0, int 범위를 넘으면 Integer.MAX_VALUE.
+     */
+    public static int digitsOf(Element el) {
+        if (el == null) return 0;
+        return (int) accumulateDigits(el, 0L);
+    }
+
+    /** 문자열 버전. 숫자가 없으면 0 */
+    public static int digitsOf(CharSequence s) {
+        if (s == null) return 0;
+        return (int) accumulateDigits(s, 0L);
+    }
+
+    /** from(포함) ~ to(제외) 구간만 스캔 */
+    public static int digitsOf(CharSequence s, int from, int to) {
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                value = Math.min(value * 10 + (c - '0'), Integer.MAX_VALUE);
+            }
+        }
+        return (int) value;
+    }
+
+    /**
+     * 디코딩 전 HTML 텍스트 구간 스캔. "&amp;#8361;" 같은 문자 참조 안의 숫자는 건너뛴다.
+     */
+    public static int digitsOfHtml(CharSequence s, int from, int to) {
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c == '&') {
+                int semi = i + 1;
+                while (semi < to && semi - i <= 10 && s.charAt(semi) != ';') semi++;
+                if (semi < to && s.charAt(semi) == ';') {
+                    i = semi;
+                    continue;
+                }
+            }
+            if (c >= '0' && c <= '9') {
+                value = Math.min(value * 10 + (c - '0'), Integer.MAX_VALUE);
+            }
+        }
+        return (int) value;
+    }
+
+    private static long accumulateDigits(Node node, long value) {
+        for (Node child : node.childNodes()) {
+            if (child instanceof TextNode text) {
+                value = accumulateDigits(text.getWholeText(), value);
+            } else if (child instanceof Element) {
+                value = accumulateDigits(child, value);
+            }
+        }
+        return value;
+    }
+
+    private static long accumulateDigits(CharSequence s, long value) {
+        for (int i = 0, n = s.length(); i < n; i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                value = Math.min(value * 10 + (c - '0'), Integer.MAX_VALUE);
+            }
+        }
+        return value;
+    }
 }
@@ -1,4 +1,165 @@
 package com.example.gamesales.util;
 
+import com.example.gamesales.config.CrawlerConfig;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 호스트별 토큰 버킷 요청 제한기. 모든 외부 WebClient 에 {@link #filter()} 로 붙인다.
+ *
+ * 버킷 상태는 "다음 토큰이 생기는 이론적 시각" 하나(AtomicLong)로 표현하고 CAS 로 예약하므로 락이 없다.
+ * 토큰이 없으면 스레드를 막지 않고 Mono.delay 로 기다렸다가 요청을 보낸다.
+ *
+ * 호스트별 통계는 {@link #bindMeters} 로 Micrometer 에 나간다 (tag host):
+ * <ul>
+ *   <li>crawler.ratelimit.permits: 얻은 토큰 수 / crawler.ratelimit.rejected: maxWait 초과로 거절한 요청 수</li>
+ *   <li>crawler.ratelimit.wait: 토큰을 기다린 시간 합 (FunctionTimer, count 는 permits) / crawler.ratelimit.wait.max: 가장 긴 대기(초)</li>
+ * </ul>
+ */
+@Component
 public class RateLimiter {
+
+    private final Map<String, CrawlerConfig.Limit> limits;
+    private final long maxWaitNanos;
+    private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    /** bindMeters 뒤에 처음 요청하는 호스트도 여기에 계측을 붙인다 */
+    private volatile MeterRegistry registry;
+
+    public RateLimiter(CrawlerConfig crawlerConfig) {
+        CrawlerConfig.RateLimit rateLimit = crawlerConfig.getRateLimit();
+        this.limits = Map.copyOf(rateLimit.getHosts());
+        this.maxWaitNanos = rateLimit.getMaxWait().toNanos();
+    }
+
+    /** 요청 호스트의 토큰을 얻은 뒤에 요청을 보내는 WebClient 필터 */
+    public ExchangeFilterFunction filter() {
+        return (request, next) -> acquire(request.url().getHost())
+                .then(Mono.defer(() -> next.exchange(request)));
+    }
+
+    /**
+     * 토큰 하나를 예약하고 그 시각까지 기다린다. 제한이 없는 호스트는 바로 완료.
+     * maxWait 보다 오래 기다려야 하면 {@link RateLimitExceededException}.
+     */
+    public Mono<Void> acquire(String host) {
+        return Mono.defer(() -> {
+            Bucket bucket = bucketFor(host);
+            if (bucket == null) return Mono.empty();
+
+            long waitNanos = bucket.reserve(System.nanoTime(), maxWaitNanos);
+            if (waitNanos < 0) return Mono.error(new RateLimitExceededException(host));
+            return waitNanos == 0 ? Mono.empty() : Mono.delay(Duration.ofNanos(waitNanos)).then();
+        });
+    }
+
+    /** 이미 요청한 호스트와 이후에 처음 요청하는 호스트의 통계를 registry 에 등록한다 */
+    public void bindMeters(MeterRegistry registry) {
+        this.registry = registry;
+        buckets.forEach((host, bucket) -> bucket.register(registry, host));
+    }
+
+    /** 호스트별 누적 통계 스냅샷 */
+    public Map<String, Stats> stats() {
+        Map<String, Stats> snapshot = new TreeMap<>();
+        buckets.forEach((host, bucket) -> snapshot.put(host, bucket.stats()));
+        return snapshot;
+    }
+
+    private Bucket bucketFor(String host) {
+        if (host == null) return null;
+        Bucket bucket = buckets.get(host);
+        if (bucket != null) return bucket;
+
+        CrawlerConfig.Limit limit = limits.get(host);
+        if (limit == null || limit.getPermitsPerSecond() <= 0) return null;
+        return buckets.computeIfAbsent(host, h -> {
+            Bucket created = new Bucket(limit.getPermitsPerSecond(), limit.getBurst());
+            MeterRegistry r = registry;
+            if (r != null) created.register(r, h);
+            return created;
+        });
+    }
+
+    public record Stats(long acquired, long rejected, long totalWaitNanos, long maxWaitNanos) {
+    }
+
+    public static class RateLimitExceededException extends RuntimeException {
+        public RateLimitExceededException(String host) {
+            super("rate limit wait exceeded for " + host);
+        }
+    }
+
+    /**
+     * GCRA 방식 토큰 버킷: tat(이론적 도착 시각)가 now + burst 구간 안이면 바로 통과,
+     * 넘으면 그만큼 기다린다.
+     */
+    static final class Bucket {
+        private final long intervalNanos;
+        private final long burstNanos;
+        private final AtomicLong tat;
+
+        private final LongAdder acquired = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+
+        Bucket(double permitsPerSecond, int burst) {
+            this.intervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+            this.burstNanos = intervalNanos * Math.max(1, burst);
+            this.tat = new AtomicLong(System.nanoTime());
+        }
+
+        /** 대기해야 할 나노초를 반환. maxWait 초과면 예약하지 않고 -1 */
+        long reserve(long now, long maxWait) {
+            while (true) {
+                long current = tat.get();
+                long next = Math.max(current, now) + intervalNanos;
+                long wait = next - burstNanos - now;
+                if (wait > maxWait) {
+                    rejected.increment();
+                    return -1;
+                }
+                if (tat.compareAndSet(current, next)) {
+                    acquired.increment();
+                    if (wait <= 0) return 0;
+                    totalWaitNanos.add(wait);
+                    maxWaitNanos.accumulateAndGet(wait, Math::max);
+                    return wait;
+                }
+            }
+        }
+
+        Stats stats() {
+            return new Stats(acquired.sum(), rejected.sum(), totalWaitNanos.sum(), maxWaitNanos.get());
+        }
+
+        void register(MeterRegistry registry, String host) {
+            Tags tags = Tags.of("host", host);
+            FunctionCounter.builder("crawler.ratelimit.permits", acquired, LongAdder::sum).tags(tags).register(registry);
+            FunctionCounter.builder("crawler.ratelimit.rejected", rejected, LongAdder::sum).tags(tags).register(registry);
+            FunctionTimer.builder("crawler.ratelimit.wait", this,
+                            bucket -> bucket.acquired.sum(), bucket -> bucket.totalWaitNanos.sum(), TimeUnit.NANOSECONDS)
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("crawler.ratelimit.wait.max", maxWaitNanos, max -> max.get() / 1e9)
+                    .tags(tags)
+                    .baseUnit("seconds")
+                    .register(registry);
+        }
+    }
 }
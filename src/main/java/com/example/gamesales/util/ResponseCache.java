@@ -0,0 +1,234 @@
+package com.example.gamesales.util;
+
+import com.example.gamesales.config.CrawlerConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 크롤러 GET 응답의 디스크 캐시 (crawler.response-cache).
+ *
+ * URL 마다 본문(gzip)과 검증자(ETag·Last-Modified)·내용 해시(SHA-256)를 디스크에 두고, 다음 요청에
+ * If-None-Match / If-Modified-Since 를 붙인다. 서버가 304 를 주면 디스크의 본문으로 200 응답을 만들어 넘기므로
+ * 호출하는 쪽은 차이를 모른다. 응답에는 {@link #CONTENT_HASH} 헤더를 붙여, 검증자를 주지 않는 페이지라도
+ * 호출하는 쪽이 내용이 그대로인지 보고 다시 파싱하지 않을 수 있게 한다.
+ *
+ * 필터는 가장 안쪽(요청 제한 필터 뒤)에 붙인다. 재시도 때마다 조건부 요청이 나간다.
+ * 본문 전체를 모아야 하므로, 받으면서 파싱하는 요청은 {@link #BYPASS} 속성을 붙여 캐시를 건너뛴다.
+ */
+@Slf4j
+@Component
+public class ResponseCache {
+
+    /** 응답 본문 SHA-256 (hex) */
+    public static final String CONTENT_HASH = "X-Content-Sha256";
+    /** 이 요청 속성이 있으면 캐시하지 않고 응답을 그대로 넘긴다 (스트리밍 파싱) */
+    public static final String BYPASS = ResponseCache.class.getName() + ".bypass";
+    /** MISS: 새 본문, REVALIDATED: 304 로 디스크 본문 재사용 */
+    public static final String CACHE_STATUS = "X-Cache";
+
+    private static final int MAX_BODY_BYTES = 16 * 1024 * 1024;
+
+    private final boolean enabled;
+    private final Path dir;
+    private final ConcurrentMap<String, Meta> metas = new ConcurrentHashMap<>();
+
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidated = new LongAdder();
+    private final LongAdder bytesFetched = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    public ResponseCache(CrawlerConfig crawlerConfig) {
+        CrawlerConfig.ResponseCache config = crawlerConfig.getResponseCache();
+        this.enabled = config.isEnabled();
+        this.dir = Path.of(config.getDir());
+    }
+
+    public ExchangeFilterFunction filter() {
+        return (request, next) -> {
+            if (!enabled || request.method() != HttpMethod.GET || request.attribute(BYPASS).isPresent()) {
+                return next.exchange(request);
+            }
+
+            String key = sha256Hex(request.url().toString().getBytes(StandardCharsets.UTF_8));
+            return Mono.fromCallable(() -> meta(key))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .map(java.util.Optional::of)
+                    .defaultIfEmpty(java.util.Optional.empty())
+                    .flatMap(cached -> next.exchange(conditional(request, cached.orElse(null)))
+                            .flatMap(response -> handle(key, cached.orElse(null), response)));
+        };
+    }
+
+    private ClientRequest conditional(ClientRequest request, Meta cached) {
+        if (cached == null || (cached.etag() == null && cached.lastModified() == null)) return request;
+        return ClientRequest.from(request)
+                .headers(h -> {
+                    if (cached.etag() != null) h.set(HttpHeaders.IF_NONE_MATCH, cached.etag());
+                    if (cached.lastModified() != null) h.set(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified());
+                })
+                .build();
+    }
+
+    private Mono<ClientResponse> handle(String key, Meta cached, ClientResponse response) {
+        if (response.statusCode().value() == HttpStatus.NOT_MODIFIED.value() && cached != null) {
+            return Mono.fromCallable(() -> readBody(key))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .map(body -> {
+                        revalidated.increment();
+                        bytesSaved.add(body.length);
+                        return replace(response, HttpStatus.OK, cached.contentType(), body, cached.hash(), "REVALIDATED");
+                    });
+        }
+        if (!response.statusCode().is2xxSuccessful()) return Mono.just(response);
+
+        HttpHeaders headers = response.headers().asHttpHeaders();
+        return DataBufferUtils.join(response.body(BodyExtractors.toDataBuffers()), MAX_BODY_BYTES)
+                .map(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    DataBufferUtils.release(buffer);
+                    return bytes;
+                })
+                .defaultIfEmpty(new byte[0])
+                .publishOn(Schedulers.boundedElastic())
+                .map(body -> {
+                    misses.increment();
+                    bytesFetched.add(body.length);
+                    String hash = sha256Hex(body);
+                    Meta meta = new Meta(headers.getETag(), headers.getFirst(HttpHeaders.LAST_MODIFIED),
+                            headers.getFirst(HttpHeaders.CONTENT_TYPE), hash);
+                    store(key, cached, meta, body);
+                    return replace(response, response.statusCode(), meta.contentType(), body, hash, "MISS");
+                });
+    }
+
+    private static ClientResponse replace(ClientResponse response, org.springframework.http.HttpStatusCode status,
+                                          String contentType, byte[] body, String hash, String cacheStatus) {
+        return response.mutate()
+                .statusCode(status)
+                .headers(h -> {
+                    h.remove(HttpHeaders.CONTENT_LENGTH);
+                    h.remove(HttpHeaders.CONTENT_ENCODING);
+                    if (contentType != null) h.set(HttpHeaders.CONTENT_TYPE, contentType);
+                    h.setContentLength(body.length);
+                    h.set(CONTENT_HASH, hash);
+                    h.set(CACHE_STATUS, cacheStatus);
+                })
+                .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)))
+                .build();
+    }
+
+    /** 캐시 항목. 메모리에 없으면 디스크에서 한 번 읽는다. 본문 파일이 없으면 조건부 요청을 보내지 않는다 */
+    private Meta meta(String key) {
+        if (!Files.exists(bodyFile(key))) {
+            metas.remove(key);
+            return null;
+        }
+        Meta meta = metas.get(key);
+        if (meta != null) return meta;
+        Path file = dir.resolve(key + ".properties");
+        if (!Files.exists(file)) return null;
+        try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            Properties p = new Properties();
+            p.load(in);
+            meta = new Meta(p.getProperty("etag"), p.getProperty("lastModified"),
+                    p.getProperty("contentType"), p.getProperty("hash"));
+            metas.put(key, meta);
+            return meta;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /** 본문이 바뀐 경우만 gzip 본문을 다시 쓴다. 임시 파일에 쓰고 옮기므로 읽는 쪽이 반쯤 쓴 파일을 보지 않는다 */
+    private void store(String key, Meta cached, Meta meta, byte[] body) {
+        try {
+            Files.createDirectories(dir);
+            if (cached == null || !cached.hash().equals(meta.hash()) || !Files.exists(bodyFile(key))) {
+                Path tmp = Files.createTempFile(dir, key, ".tmp");
+                try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(tmp))) {
+                    out.write(body);
+                }
+                Files.move(tmp, bodyFile(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            Properties p = new Properties();
+            putIfNotNull(p, "etag", meta.etag());
+            putIfNotNull(p, "lastModified", meta.lastModified());
+            putIfNotNull(p, "contentType", meta.contentType());
+            p.setProperty("hash", meta.hash());
+            Path tmp = Files.createTempFile(dir, key, ".tmp");
+            try (Writer out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                p.store(out, null);
+            }
+            Files.move(tmp, dir.resolve(key + ".properties"),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            metas.put(key, meta);
+        } catch (IOException e) {
+            // 캐시는 최적화일 뿐이므로 저장 실패가 크롤링을 막지 않는다
+            metas.remove(key);
+            log.warn("응답 캐시 저장 실패: key={}, error={}", key, e.toString());
+        }
+    }
+
+    private byte[] readBody(String key) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(bodyFile(key)))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private Path bodyFile(String key) {
+        return dir.resolve(key + ".gz");
+    }
+
+    private static void putIfNotNull(Properties p, String name, String value) {
+        if (value != null) p.setProperty(name, value);
+    }
+
+    static String sha256Hex(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(misses.sum(), revalidated.sum(), bytesFetched.sum(), bytesSaved.sum());
+    }
+
+    /**
+     * @param bytesSaved 304 로 받지 않아도 된 본문 바이트 수
+     */
+    public record Stats(long misses, long revalidated, long bytesFetched, long bytesSaved) {
+    }
+
+    private record Meta(String etag, String lastModified, String contentType, String hash) {
+    }
+}
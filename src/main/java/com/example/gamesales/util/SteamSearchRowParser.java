@@ -0,0 +1,117 @@
+package com.example.gamesales.util;
+
+import com.example.gamesales.dto.PriceDto;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.gamesales.util.CrawlerMetrics.SkipReason.*;
+
+/**
+ * Steam /search/ 결과의 .search_result_row 를 PriceDto 로 변환한다.
+ * 셀렉터는 미리 컴파일해 두고, appId·가격은 정규식 없이 직접 스캔한다.
+ */
+@Slf4j
+@Component
+public class SteamSearchRowParser {
+
+    private static final Evaluator ROW = QueryParser.parse(".search_result_row");
+    private static final Evaluator TITLE = QueryParser.parse(".title");
+    private static final Evaluator DISCOUNT_BLOCK = QueryParser.parse(".search_discount_block");
+    private static final Evaluator FINAL_PRICE = QueryParser.parse(".discount_final_price");
+    private static final Evaluator ORIGINAL_PRICE = QueryParser.parse(".discount_original_price");
+    private static final Evaluator DISCOUNT_PCT = QueryParser.parse(".discount_pct");
+
+    private static final String APP_PATH = "/app/";
+    /** 계측 태그 (crawler.rows.skipped) */
+    static final String STORE = "Steam";
+
+    /**
+     * 검색 결과 한 페이지를 파싱한다. 랭킹은 start + 페이지 내 행 위치(1부터)로 매긴다.
+     */
+    public List<PriceDto> parsePage(String html, int start) {
+        Elements rows = Jsoup.parse(html).select(ROW);
+        List<PriceDto> results = new ArrayList<>(rows.size());
+        for (int pos = 0; pos < rows.size(); pos++) {
+            PriceDto dto = parseRow(rows.get(pos), start + pos + 1);
+            if (dto != null) results.add(dto);
+        }
+        return results;
+    }
+
+    /**
+     * 행 하나를 파싱한다. appId가 없거나 할인 블록이 없거나 무료인 행은 null.
+     */
+    public PriceDto parseRow(Element row, int ranking) {
+        String href = row.attr("href");
+        int appId = appIdOf(href);
+        if (appId < 0) {
+            log.debug("appId 추출 실패: href={}", href);
+            CrawlerMetrics.rowSkipped(STORE, BAD_APP_ID);
+            return null;
+        }
+
+        Element titleEl = row.selectFirst(TITLE);
+        String title = titleEl != null ? titleEl.text() : "";
+
+        Element discountBlock = row.selectFirst(DISCOUNT_BLOCK);
+        if (discountBlock == null) {
+            log.debug("할인 블록 없음, 스킵: appId={}, title={}", appId, title);
+            CrawlerMetrics.rowSkipped(STORE, NO_DISCOUNT_BLOCK);
+            return null;
+        }
+
+        Element finalPriceEl = discountBlock.selectFirst(FINAL_PRICE);
+        if (finalPriceEl == null) {
+            log.warn("최종 가격 요소 없음 (마크업 변경?): appId={}, title={}, html={}", appId, title, row.html());
+            CrawlerMetrics.rowSkipped(STORE, NO_PRICE);
+            return null;
+        }
+
+        int finalPrice = JsoupUtil.digitsOf(finalPriceEl);
+        if (finalPrice == 0) {
+            log.debug("무료, 스킵: appId={}, title={}", appId, title);
+            CrawlerMetrics.rowSkipped(STORE, FREE);
+            return null;
+        }
+
+        int initialPrice = JsoupUtil.digitsOf(discountBlock.selectFirst(ORIGINAL_PRICE));
+        if (initialPrice == 0) initialPrice = finalPrice;
+        int discountPercent = JsoupUtil.digitsOf(discountBlock.selectFirst(DISCOUNT_PCT));
+
+        return new PriceDto(appId, title, title, initialPrice, finalPrice, discountPercent, ranking);
+    }
+
+    /**
+     * ".../app/1627720/Lies_of_P/..." 에서 appId 추출. 형식이 맞지 않으면 -1
+     */
+    static int appIdOf(String href) {
+        return appIdOf(href, 0, href.length());
+    }
+
+    /** from(포함) ~ to(제외) 구간의 href 값에서 appId 추출 */
+    static int appIdOf(String href, int from, int to) {
+        int idx = href.indexOf(APP_PATH, from);
+        if (idx < 0 || idx >= to) return -1;
+
+        int i = idx + APP_PATH.length();
+        int end = Math.min(to, i + 10);
+        long value = 0;
+        int digits = 0;
+        for (; i < end; i++) {
+            char c = href.charAt(i);
+            if (c < '0' || c > '9') break;
+            value = value * 10 + (c - '0');
+            digits++;
+        }
+        if (digits == 0 || value > Integer.MAX_VALUE || i >= to || href.charAt(i) != '/') return -1;
+        return (int) value;
+    }
+}
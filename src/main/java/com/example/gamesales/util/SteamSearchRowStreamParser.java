@@ -0,0 +1,145 @@
+package com.example.gamesales.util;
+
+import com.example.gamesales.dto.PriceDto;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.parser.Parser;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.Collections;
+import java.util.List;
+
+import static com.example.gamesales.util.CrawlerMetrics.SkipReason.*;
+import static com.example.gamesales.util.SteamSearchRowParser.STORE;
+
+/**
+ * Steam /search/ 응답을 DataBuffer 스트림으로 받아, .search_result_row 가 닫힐 때마다 PriceDto 를 내보낸다.
+ * 페이지 전체를 String/DOM 으로 올리지 않으므로 페이지당 힙 사용량이 행 하나 크기로 유지된다.
+ *
+ * 응답은 "&lt;/a&gt;" 단위로 잘라(행은 a 태그라 중첩되지 않음) 행 조각만 직접 스캔한다.
+ * 파싱 결과는 {@link SteamSearchRowParser} 와 같다.
+ */
+@Slf4j
+@Component
+public class SteamSearchRowStreamParser {
+
+    private static final ResolvableType STRING_TYPE = ResolvableType.forClass(String.class);
+    private static final int MAX_CHUNK_BYTES = 1024 * 1024;
+
+    private static final String ROW_CLASS = "search_result_row";
+    private static final String TITLE_CLASS = "class=\"title\"";
+    private static final String DISCOUNT_BLOCK_CLASS = "search_discount_block";
+    private static final String FINAL_PRICE_CLASS = "discount_final_price";
+    private static final String ORIGINAL_PRICE_CLASS = "discount_original_price";
+    private static final String DISCOUNT_PCT_CLASS = "discount_pct";
+    private static final String HREF_ATTR = "href=\"";
+
+    private final StringDecoder rowSplitter;
+
+    public SteamSearchRowStreamParser() {
+        this.rowSplitter = StringDecoder.textPlainOnly(List.of("</a>"), false);
+        this.rowSplitter.setMaxInMemorySize(MAX_CHUNK_BYTES);
+    }
+
+    /**
+     * 응답 본문을 행 단위로 파싱한다. 랭킹은 start + 페이지 내 행 위치(1부터)로 매긴다.
+     */
+    public Flux<PriceDto> parse(Flux<DataBuffer> body, int start) {
+        return Flux.defer(() -> {
+            int[] position = {start};
+            return rowSplitter.decode(body, STRING_TYPE, null, Collections.emptyMap())
+                    .mapNotNull(chunk -> {
+                        int rowStart = rowStartOf(chunk);
+                        if (rowStart < 0) return null;
+                        return parseRow(chunk, rowStart, ++position[0]);
+                    });
+        });
+    }
+
+    /**
+     * "&lt;/a&gt;" 로 끝나는 조각에서 .search_result_row 인 a 태그의 시작 위치. 행이 아니면 -1
+     */
+    static int rowStartOf(String chunk) {
+        int cls = chunk.lastIndexOf(ROW_CLASS);
+        if (cls < 0) return -1;
+
+        int tag = chunk.lastIndexOf("<a", cls);
+        while (tag >= 0 && !Character.isWhitespace(charAt(chunk, tag + 2))) {
+            tag = chunk.lastIndexOf("<a", tag - 1);
+        }
+        if (tag < 0) return -1;
+
+        // 클래스 이름이 a 태그 속성 안에 있어야 행이다 (스크립트·본문 텍스트 제외)
+        int tagEnd = chunk.indexOf('>', tag);
+        return tagEnd > cls ? tag : -1;
+    }
+
+    /**
+     * 행 하나를 파싱한다. appId가 없거나 할인 블록이 없거나 무료인 행은 null.
+     */
+    static PriceDto parseRow(String chunk, int rowStart, int ranking) {
+        int tagEnd = chunk.indexOf('>', rowStart);
+        int href = chunk.indexOf(HREF_ATTR, rowStart);
+        int hrefEnd = href < 0 || href > tagEnd ? -1 : chunk.indexOf('"', href + HREF_ATTR.length());
+        int appId = hrefEnd < 0 ? -1 : SteamSearchRowParser.appIdOf(chunk, href + HREF_ATTR.length(), hrefEnd);
+        if (appId < 0) {
+            log.debug("appId 추출 실패: href={}", hrefEnd < 0 ? "" : chunk.substring(href + HREF_ATTR.length(), hrefEnd));
+            CrawlerMetrics.rowSkipped(STORE, BAD_APP_ID);
+            return null;
+        }
+
+        String title = textOf(chunk, chunk.indexOf(TITLE_CLASS, tagEnd));
+
+        int discountBlock = chunk.indexOf(DISCOUNT_BLOCK_CLASS, tagEnd);
+        if (discountBlock < 0) {
+            log.debug("할인 블록 없음, 스킵: appId={}, title={}", appId, title);
+            CrawlerMetrics.rowSkipped(STORE, NO_DISCOUNT_BLOCK);
+            return null;
+        }
+
+        int finalPriceEl = chunk.indexOf(FINAL_PRICE_CLASS, discountBlock);
+        if (finalPriceEl < 0) {
+            log.warn("최종 가격 요소 없음 (마크업 변경?): appId={}, title={}, html={}", appId, title, chunk.substring(rowStart));
+            CrawlerMetrics.rowSkipped(STORE, NO_PRICE);
+            return null;
+        }
+
+        int finalPrice = digitsOf(chunk, finalPriceEl);
+        if (finalPrice == 0) {
+            log.debug("무료, 스킵: appId={}, title={}", appId, title);
+            CrawlerMetrics.rowSkipped(STORE, FREE);
+            return null;
+        }
+
+        int initialPrice = digitsOf(chunk, chunk.indexOf(ORIGINAL_PRICE_CLASS, discountBlock));
+        if (initialPrice == 0) initialPrice = finalPrice;
+        int discountPercent = digitsOf(chunk, chunk.indexOf(DISCOUNT_PCT_CLASS, discountBlock));
+
+        return new PriceDto(appId, title, title, initialPrice, finalPrice, discountPercent, ranking);
+    }
+
+    /** 클래스 속성 위치(classAt) 다음 태그의 텍스트 내용을 숫자로 스캔. 요소가 없으면 0 */
+    private static int digitsOf(String chunk, int classAt) {
+        if (classAt < 0) return 0;
+        int open = chunk.indexOf('>', classAt);
+        int close = open < 0 ? -1 : chunk.indexOf('<', open);
+        return close < 0 ? 0 : JsoupUtil.digitsOfHtml(chunk, open + 1, close);
+    }
+
+    /** 클래스 속성 위치(classAt) 다음 태그의 텍스트 (엔티티 디코딩, 앞뒤 공백 제거). 요소가 없으면 "" */
+    private static String textOf(String chunk, int classAt) {
+        if (classAt < 0) return "";
+        int open = chunk.indexOf('>', classAt);
+        int close = open < 0 ? -1 : chunk.indexOf('<', open);
+        if (close < 0) return "";
+        String text = chunk.substring(open + 1, close).strip();
+        return text.indexOf('&') >= 0 ? Parser.unescapeEntities(text, false) : text;
+    }
+
+    private static char charAt(String s, int i) {
+        return i < s.length() ? s.charAt(i) : '>';
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.gamesales.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 스토어와 무관한 게임 제목 정규화. 스토어마다 붙이는 상표 기호·괄호 표기·플랫폼·에디션 표기를 걷어내고
+ * 소문자 단어를 공백 하나로 이어 붙인다.
+ * "ELDEN RING™ Deluxe Edition (PS4 & PS5)" → "elden ring", "Hades (한국어판)" → "hades".
+ *
+ * Game.normalizedKey(slug + "-appId")는 Steam appId 를 포함한 식별자라 스토어 간 비교에 쓸 수 없다.
+ */
+public final class TitleNormalizer {
+
+    /** NFKC 가 ™ 를 "TM" 으로 펼치므로 그 전에 지운다 */
+    private static final Pattern MARKS = Pattern.compile("[™®©℠]");
+
+    /** 괄호 안 표기: (PS5), [한국어판], 【DL판】 */
+    private static final Pattern BRACKETED = Pattern.compile("[(\\[【（][^)\\]】）]*[)\\]】）]");
+
+    /** 스토어·에디션마다 달라지는 단어. 제목 본체가 아니므로 비교에서 뺀다 */
+    private static final Set<String> NOISE = Set.of(
+            "ps4", "ps5", "playstation", "nintendo", "switch", "xbox", "pc", "for", "and",
+            "edition", "standard", "deluxe", "digital", "ultimate", "complete", "definitive", "goty",
+            "에디션", "디지털", "디럭스", "스탠다드", "얼티밋", "한국어판", "한국어", "완전판");
+
+    private TitleNormalizer() {
+    }
+
+    /** @return 정규화된 제목. 남는 단어가 없으면 빈 문자열 */
+    public static String normalize(String title) {
+        if (title == null || title.isBlank()) return "";
+        String s = MARKS.matcher(title).replaceAll("");
+        s = Normalizer.normalize(s, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        s = BRACKETED.matcher(s).replaceAll(" ");
+
+        List<String> words = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i <= s.length(); ) {
+            int cp = i < s.length() ? s.codePointAt(i) : ' ';
+            if (Character.isLetterOrDigit(cp)) {
+                word.appendCodePoint(cp);
+            } else if (cp == '\'' || cp == '’') {
+                // 아포스트로피는 단어를 끊지 않는다: "assassin's" → "assassins"
+            } else if (!word.isEmpty()) {
+                String w = word.toString();
+                if (!NOISE.contains(w)) words.add(w);
+                word.setLength(0);
+            }
+            i += i < s.length() ? Character.charCount(cp) : 1;
+        }
+        return String.join(" ", words);
+    }
+}
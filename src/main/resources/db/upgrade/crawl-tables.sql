@@ -0,0 +1,74 @@
+-- 이 버전이 새로 쓰는 테이블·컬럼·인덱스. games-id-sequences.sql 다음에 한 번 실행한다 (PostgreSQL).
+-- ddl-auto(update) 로 스키마를 관리하는 DB 는 Hibernate 가 같은 것을 만들므로 실행하지 않는다.
+-- 시퀀스 증가폭은 각 엔티티의 allocationSize 와 같아야 한다.
+
+-- Steam appdetails 한국어 이름 확인 시각 (null 이면 다음 보강 주기에 확인)
+alter table games add column if not exists details_fetched_at timestamp(6);
+
+-- 델타 적재: 가격이 그대로인 동안 마지막 행의 확인 시각만 옮긴다 (기존 행은 null → fetched_at 으로 본다)
+alter table game_prices add column if not exists last_seen_at timestamp(6);
+create index if not exists idx_game_prices_game_service_fetched on game_prices (game_id, service_name, fetched_at);
+
+-- 읽기 API projection: (스토어, 게임) 마다 현재 가격 한 행. 첫 크롤링이 채운다
+create sequence if not exists latest_price_seq start with 1 increment by 50;
+create table if not exists latest_price (
+    id               bigint       not null primary key,
+    service_name     varchar(255) not null,
+    app_id           integer      not null,
+    english_name     varchar(255) not null,
+    korean_name      varchar(255) not null,
+    ranking          integer      not null,
+    initial_price    integer      not null,
+    final_price      integer      not null,
+    discount_percent integer      not null,
+    price_since      timestamp(6) not null,
+    last_seen_at     timestamp(6) not null,
+    constraint uk_latest_price_service_app unique (service_name, app_id)
+);
+create index if not exists idx_latest_price_discount on latest_price (service_name, discount_percent);
+create index if not exists idx_latest_price_ranking on latest_price (service_name, ranking);
+
+create table if not exists latest_price_platforms (
+    latest_price_id bigint       not null references latest_price (id),
+    platform        varchar(255) not null
+);
+create index if not exists idx_latest_price_platform on latest_price_platforms (platform);
+
+-- 크롤링 실행과 페이지 체크포인트 (이어 받기)
+create sequence if not exists crawl_run_seq start with 1 increment by 1;
+create table if not exists crawl_run (
+    id          bigint        not null primary key,
+    status      varchar(16)   not null,
+    started_at  timestamp(6)  not null,
+    finished_at timestamp(6),
+    attempts    integer       not null,
+    error       varchar(1000)
+);
+create index if not exists idx_crawl_run_status on crawl_run (status, started_at);
+
+create sequence if not exists crawl_checkpoint_seq start with 1 increment by 50;
+create table if not exists crawl_checkpoint (
+    id           bigint        not null primary key,
+    run_id       bigint        not null,
+    service_name varchar(255)  not null,
+    page         integer       not null,
+    crawled      integer       not null,
+    unmatched    integer       not null,
+    app_ids      varchar(8000) not null,
+    completed_at timestamp(6)  not null,
+    constraint uk_crawl_checkpoint_run_service_page unique (run_id, service_name, page)
+);
+
+-- 가격 알림 구독
+create sequence if not exists price_watch_seq start with 1 increment by 1;
+create table if not exists price_watch (
+    id                      bigint       not null primary key,
+    subscriber              varchar(200) not null,
+    service_name            varchar(255) not null,
+    app_id                  integer      not null,
+    target_price            integer,
+    target_discount_percent integer,
+    created_at              timestamp(6) not null
+);
+create index if not exists idx_price_watch_game on price_watch (service_name, app_id);
+create index if not exists idx_price_watch_subscriber on price_watch (subscriber);
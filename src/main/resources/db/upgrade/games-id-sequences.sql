@@ -0,0 +1,18 @@
+-- games·game_prices id 생성: IDENTITY → 풀링 시퀀스(allocationSize 50) 전환.
+-- ddl-auto 로 스키마를 만들지 않는 기존 DB 에, 이 버전을 배포하기 전에 한 번 실행한다 (PostgreSQL).
+--
+-- - increment by 는 @SequenceGenerator 의 allocationSize 와 같아야 한다. 다르면 이미 쓴 id 를 다시 발급한다.
+-- - Hibernate pooled 최적화기는 nextval 값 V 를 블록의 끝으로 보고 V-49..V 를 쓴다. 그래서 첫 nextval 은
+--   max(id) + 50 이어야 첫 블록이 max(id) + 1 부터 시작한다 (max(id) + 1 로 두면 이미 있는 id 와 겹친다).
+-- - id 는 Hibernate 가 넣으므로 컬럼의 IDENTITY·serial 기본값은 뗀다.
+-- - 스키마를 바꾸는 동안 크롤링 스케줄은 멈춰 둔다 (max(id) 이후 insert 가 없어야 한다).
+
+alter table games alter column id drop identity if exists;
+alter table games alter column id drop default;
+create sequence if not exists games_seq increment by 50;
+select setval('games_seq', coalesce((select max(id) from games), 0) + 50, false);
+
+alter table game_prices alter column id drop identity if exists;
+alter table game_prices alter column id drop default;
+create sequence if not exists game_prices_seq increment by 50;
+select setval('game_prices_seq', coalesce((select max(id) from game_prices), 0) + 50, false);
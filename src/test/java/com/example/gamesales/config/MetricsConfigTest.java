@@ -0,0 +1,77 @@
+package com.example.gamesales.config;
+
+import com.example.gamesales.scheduler.CrawlerScheduler;
+import com.example.gamesales.service.PriceAlertEngine;
+import com.example.gamesales.util.CrawlExecution;
+import com.example.gamesales.util.ResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("stats() → Micrometer 등록")
+class MetricsConfigTest {
+
+    private final MetricsConfig config = new MetricsConfig();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("작업별 통계는 job 태그로 나가고 scrape 때마다 다시 읽는다")
+    void schedulerMetersPerJob() {
+        CrawlerScheduler scheduler = mock(CrawlerScheduler.class);
+        CrawlerScheduler.JobRun last = new CrawlerScheduler.JobRun(CrawlerScheduler.PRICES, Instant.now(),
+                Duration.ofSeconds(3), 120, null);
+        when(scheduler.stats()).thenReturn(Map.of(
+                CrawlerScheduler.PRICES, new CrawlerScheduler.JobStats(4, 1, 2, false, last),
+                CrawlerScheduler.IGDB_ENRICHMENT, new CrawlerScheduler.JobStats(0, 0, 0, true, null)));
+
+        config.crawlerSchedulerMeters(scheduler).bindTo(registry);
+
+        assertThat(registry.get("crawler.job.runs").tag("job", CrawlerScheduler.PRICES).functionCounter().count())
+                .isEqualTo(4);
+        assertThat(registry.get("crawler.job.failures").tag("job", CrawlerScheduler.PRICES).functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("crawler.job.last.duration").tag("job", CrawlerScheduler.PRICES).timeGauge()
+                .value(TimeUnit.SECONDS)).isEqualTo(3);
+        assertThat(registry.get("crawler.job.last.rows").tag("job", CrawlerScheduler.IGDB_ENRICHMENT).gauge().value())
+                .isZero();
+        assertThat(registry.get("crawler.job.running").tag("job", CrawlerScheduler.IGDB_ENRICHMENT).gauge().value())
+                .isEqualTo(1);
+
+        when(scheduler.stats()).thenReturn(Map.of(
+                CrawlerScheduler.PRICES, new CrawlerScheduler.JobStats(5, 1, 2, false, last),
+                CrawlerScheduler.IGDB_ENRICHMENT, new CrawlerScheduler.JobStats(1, 0, 0, false, null)));
+        assertThat(registry.get("crawler.job.runs").tag("job", CrawlerScheduler.PRICES).functionCounter().count())
+                .isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("응답 캐시·JDBC 제한·가격 알림 통계를 등록한다")
+    void componentMeters() {
+        ResponseCache responseCache = mock(ResponseCache.class);
+        when(responseCache.stats()).thenReturn(new ResponseCache.Stats(3, 7, 1_000, 9_000));
+        CrawlExecution execution = mock(CrawlExecution.class);
+        when(execution.stats()).thenReturn(new CrawlExecution.Stats(true, 8, 5, 2));
+        PriceAlertEngine alertEngine = mock(PriceAlertEngine.class);
+        when(alertEngine.stats()).thenReturn(new PriceAlertEngine.Stats(12, 4, 300, 6));
+
+        config.responseCacheMeters(responseCache).bindTo(registry);
+        config.crawlExecutionMeters(execution).bindTo(registry);
+        config.priceAlertMeters(alertEngine).bindTo(registry);
+
+        assertThat(registry.get("crawler.response.cache.revalidated").functionCounter().count()).isEqualTo(7);
+        assertThat(registry.get("crawler.response.cache.saved").functionCounter().count()).isEqualTo(9_000);
+        assertThat(registry.get("crawler.jdbc.in.use").gauge().value()).isEqualTo(5);
+        assertThat(registry.get("crawler.jdbc.waiting").gauge().value()).isEqualTo(2);
+        assertThat(registry.get("crawler.alerts.watches").gauge().value()).isEqualTo(12);
+        assertThat(registry.get("crawler.alerts.sent").functionCounter().count()).isEqualTo(6);
+    }
+}
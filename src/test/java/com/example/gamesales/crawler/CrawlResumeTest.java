@@ -0,0 +1,150 @@
+package com.example.gamesales.crawler;
+
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.model.CrawlCheckpoint;
+import com.example.gamesales.model.CrawlRun;
+import com.example.gamesales.model.LatestPrice;
+import com.example.gamesales.repository.CrawlCheckpointRepository;
+import com.example.gamesales.repository.CrawlRunRepository;
+import com.example.gamesales.repository.LatestPriceRepository;
+import com.example.gamesales.service.*;
+import com.example.gamesales.util.CrawlExecution;
+import com.example.gamesales.util.SteamSearchRowParser;
+import com.example.gamesales.util.SteamSearchRowStreamParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 배치 저장은 boundedElastic 스레드에서 자기 트랜잭션으로 커밋되므로 테스트 트랜잭션을 쓰지 않는다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CrawlCheckpoints.class, GamePriceIngestService.class, LastKnownPrices.class, CrawlerConfig.class})
+@DisplayName("크롤링 체크포인트: 실패한 실행은 남은 페이지만 이어 받는다 (H2)")
+class CrawlResumeTest {
+
+    private static final int PAGES = 10;
+    private static final int PAGE_SIZE = 50;
+    private static final int FAILING_START = 400;
+
+    @Autowired CrawlCheckpoints checkpoints;
+    @Autowired GamePriceIngestService ingestService;
+    @Autowired CrawlerConfig config;
+    @Autowired CrawlRunRepository runRepo;
+    @Autowired CrawlCheckpointRepository checkpointRepo;
+    @Autowired LatestPriceRepository latestPriceRepo;
+
+    private WireMockServer wireMock;
+    private DealsIndex dealsIndex;
+    private CrawlerService crawlerService;
+
+    @BeforeEach
+    void setUp() {
+        wireMock = new WireMockServer(options().dynamicPort());
+        wireMock.start();
+        config.getSteam().setPageConcurrency(4);
+        config.getSink().setBatchSize(120);  // 페이지가 배치 두 개에 걸치도록
+
+        dealsIndex = new DealsIndex(latestPriceRepo, checkpoints);
+        SteamCrawlerService steam = new SteamCrawlerService(WebClient.builder().baseUrl(wireMock.baseUrl()).build(),
+                ingestService, new ObjectMapper(), config, new SteamSearchRowParser(), new SteamSearchRowStreamParser(),
+                dealsIndex, mock(SteamAppDetailsClient.class));
+        GameTitleMatcher titleMatcher = mock(GameTitleMatcher.class);
+        CrawlExecution execution = new CrawlExecution(config);
+        crawlerService = new CrawlerService(List.of(steam),
+                new StorePriceSink(ingestService, titleMatcher, dealsIndex, checkpoints, execution, config),
+                titleMatcher, checkpoints, execution);
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMock.stop();
+    }
+
+    @Test
+    @DisplayName("page 9 에서 실패한 실행을 이어 받으면 그 페이지만 다시 가져오고, 랭킹은 처음부터 돌린 것과 같다")
+    void resumesFromUnfinishedPage() {
+        for (int page = 0; page < PAGES; page++) {
+            int start = page * PAGE_SIZE;
+            wireMock.stubFor(searchRequest(start).willReturn(start == FAILING_START
+                    ? serverError()
+                    : ok(SteamSearchPageFixtures.searchPage(start, PAGE_SIZE))));
+        }
+
+        Map<String, StorePriceSink.StoreResult> failed = crawlerService.crawlAll();
+
+        assertThat(failed.get("Steam").matched()).isEqualTo(450);
+        CrawlRun run = runRepo.findAll().get(0);
+        assertThat(run.getStatus()).isEqualTo(CrawlRun.Status.FAILED);
+        assertThat(checkpointsOf(run))
+                .extracting(CrawlCheckpoint::getPage)
+                .containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 9);
+        assertThat(checkpointsOf(run)).allMatch(cp -> cp.appIdList().size() == PAGE_SIZE);
+
+        wireMock.stubFor(searchRequest(FAILING_START)
+                .willReturn(ok(SteamSearchPageFixtures.searchPage(FAILING_START, PAGE_SIZE))));
+        Map<String, StorePriceSink.StoreResult> resumed = crawlerService.crawlAll();
+
+        // 이어 받은 실행은 실패한 페이지 하나만 다시 요청한다
+        wireMock.verify(2, searchRequestedFor(FAILING_START));
+        wireMock.verify(1, searchRequestedFor(0));
+        wireMock.verify(1, searchRequestedFor(450));
+
+        assertThat(runRepo.findAll()).singleElement().satisfies(r -> {
+            assertThat(r.getId()).isEqualTo(run.getId());
+            assertThat(r.getStatus()).isEqualTo(CrawlRun.Status.COMPLETED);
+            assertThat(r.getAttempts()).isEqualTo(2);
+        });
+        assertThat(resumed.get("Steam")).isEqualTo(new StorePriceSink.StoreResult(500, 500, 0, 50));
+
+        // 처음부터 돌린 크롤링과 같은 랭킹: appId 는 BASE + (랭킹 - 1)
+        List<LatestPrice> latest = latestPriceRepo.findWithPlatformsByServiceName("Steam").stream()
+                .sorted(Comparator.comparingInt(LatestPrice::getRanking))
+                .toList();
+        assertThat(latest).hasSize(PAGES * PAGE_SIZE)
+                .allMatch(lp -> lp.getAppId() == SteamSearchPageFixtures.BASE_APP_ID + lp.getRanking() - 1);
+        assertThat(dealsIndex.query("Steam", DealsIndex.Sort.RANKING, null, 1_000)).hasSize(PAGES * PAGE_SIZE);
+
+        // 배치·시도가 여러 번이어도 실행 시작 시각 하나로 남으므로, 재기동 후 projection 에서 다시 만든 인덱스도 같다
+        assertThat(latest).extracting(LatestPrice::getLastSeenAt).containsOnly(run.getStartedAt());
+        DealsIndex restarted = new DealsIndex(latestPriceRepo, checkpoints);
+        restarted.warmUp();
+        assertThat(restarted.query("Steam", DealsIndex.Sort.RANKING, null, 1_000)).hasSize(PAGES * PAGE_SIZE);
+
+        // 끝난 실행은 다시 이어 받지 않는다
+        assertThat(crawlerService.hasUnfinishedRun()).isFalse();
+    }
+
+    private List<CrawlCheckpoint> checkpointsOf(CrawlRun run) {
+        return checkpointRepo.findByRunIdOrderByServiceNameAscPageAsc(run.getId());
+    }
+
+    private static MappingBuilder searchRequest(int start) {
+        return get(urlPathEqualTo("/search/")).withQueryParam("start", equalTo(String.valueOf(start)));
+    }
+
+    private static RequestPatternBuilder searchRequestedFor(int start) {
+        return getRequestedFor(urlPathEqualTo("/search/")).withQueryParam("start", equalTo(String.valueOf(start)));
+    }
+}
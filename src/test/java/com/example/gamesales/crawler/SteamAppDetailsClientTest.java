@@ -0,0 +1,153 @@
+package com.example.gamesales.crawler;
+
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.dto.AppDetailsResponse;
+import com.example.gamesales.dto.PriceDto;
+import com.example.gamesales.service.DealsIndex;
+import com.example.gamesales.service.GamePriceIngestService;
+import com.example.gamesales.util.SteamSearchRowParser;
+import com.example.gamesales.util.SteamSearchRowStreamParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Steam appdetails: price_overview 묶음 요청과 한국어 상세")
+class SteamAppDetailsClientTest {
+
+    private static final int FREE_APP = 7;
+    private static final int FAILED_APP = 8;
+
+    private WireMockServer wireMock;
+    private CrawlerConfig config;
+    private ObjectMapper objectMapper;
+    private SteamAppDetailsClient client;
+
+    @BeforeEach
+    void setUp() {
+        wireMock = new WireMockServer(options().dynamicPort());
+        wireMock.start();
+        config = new CrawlerConfig();
+        config.getSteamDetails().setPrices(true);
+        objectMapper = new ObjectMapper();
+        client = new SteamAppDetailsClient(WebClient.builder().baseUrl(wireMock.baseUrl()).build(), objectMapper, config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMock.stop();
+    }
+
+    @Test
+    @DisplayName("appId 120개는 50개씩 요청 3번. 가격은 원 단위로 바꾸고, 가격 없는 앱은 빠지며, 새로 고칠 때까지는 다시 묻지 않는다")
+    void batchedPrices() {
+        StringBuilder body = new StringBuilder("{");
+        for (int appId = 1; appId <= 120; appId++) {
+            if (appId > 1) body.append(',');
+            body.append('"').append(appId).append("\":");
+            if (appId == FREE_APP) {
+                body.append("{\"success\":true,\"data\":[]}");
+            } else if (appId == FAILED_APP) {
+                body.append("{\"success\":false}");
+            } else {
+                body.append(priceEntry(appId * 1_000, appId * 500, 50));
+            }
+        }
+        stubPrices(body.append('}').toString());
+
+        List<Integer> appIds = IntStream.rangeClosed(1, 120).boxed().toList();
+        Map<Integer, AppDetailsResponse.PriceOverview> prices = client.prices(appIds).block();
+
+        assertThat(prices).hasSize(118).doesNotContainKeys(FREE_APP, FAILED_APP);
+        assertThat(prices.get(10)).isEqualTo(new AppDetailsResponse.PriceOverview(10_000, 5_000, 50));
+        wireMock.verify(3, getRequestedFor(urlPathEqualTo("/api/appdetails"))
+                .withQueryParam("filters", equalTo("price_overview"))
+                .withQueryParam("cc", equalTo("kr")));
+
+        assertThat(client.prices(appIds).block()).isEqualTo(prices);
+        wireMock.verify(3, getRequestedFor(urlPathEqualTo("/api/appdetails")));
+    }
+
+    @Test
+    @DisplayName("실패한 묶음은 빠지고 나머지 결과는 그대로 쓴다")
+    void failedBatchIsSkipped() {
+        config.getSteamDetails().setBatchSize(2);
+        wireMock.stubFor(get(urlPathEqualTo("/api/appdetails"))
+                .withQueryParam("appids", equalTo("1,2"))
+                .willReturn(okJson("{\"1\":" + priceEntry(1_000, 1_000, 0) + ",\"2\":" + priceEntry(2_000, 1_000, 50) + "}")));
+        wireMock.stubFor(get(urlPathEqualTo("/api/appdetails"))
+                .withQueryParam("appids", equalTo("3"))
+                .willReturn(serverError()));
+
+        assertThat(client.prices(List.of(1, 2, 3)).block()).containsOnlyKeys(1, 2);
+    }
+
+    @Test
+    @DisplayName("한국어 상세는 appId 하나씩 l=koreana 로 요청한다")
+    void koreanDetails() {
+        wireMock.stubFor(get(urlPathEqualTo("/api/appdetails"))
+                .withQueryParam("appids", equalTo("1245620"))
+                .withQueryParam("filters", equalTo("basic"))
+                .withQueryParam("l", equalTo("koreana"))
+                .willReturn(okJson("{\"1245620\":{\"success\":true,\"data\":{\"name\":\"엘든 링\",\"is_free\":false}}}")));
+        wireMock.stubFor(get(urlPathEqualTo("/api/appdetails"))
+                .withQueryParam("appids", equalTo("1"))
+                .willReturn(okJson("{\"1\":{\"success\":false}}")));
+
+        assertThat(client.details(1245620).block().name()).isEqualTo("엘든 링");
+        assertThat(client.details(1).blockOptional()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("크롤링: 검색 페이지 가격을 price_overview 로 덮어쓰고, 가격을 받지 못한 행은 그대로 둔다")
+    void crawlUsesAuthoritativePrices() {
+        wireMock.stubFor(get(urlPathEqualTo("/search/"))
+                .withQueryParam("start", equalTo("0"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "text/html; charset=UTF-8")
+                        .withBody(SteamSearchPageFixtures.searchPage(0, 50))));
+        int appId = SteamSearchPageFixtures.BASE_APP_ID;
+        stubPrices("{\"" + appId + "\":" + priceEntry(77_000, 38_500, 50) + "}");
+
+        CrawlerConfig disabled = new CrawlerConfig();
+        List<PriceDto> searchPrices = crawler(disabled).fetchTop500PaidGames().collectList().block();
+        List<PriceDto> rows = crawler(config).fetchTop500PaidGames().collectList().block();
+
+        assertThat(rows).hasSize(50);
+        assertThat(rows.get(0)).isEqualTo(new PriceDto(appId, searchPrices.get(0).englishName(),
+                searchPrices.get(0).koreanName(), 77_000, 38_500, 50, 1));
+        assertThat(rows.subList(1, 50)).isEqualTo(searchPrices.subList(1, 50));
+    }
+
+    private SteamCrawlerService crawler(CrawlerConfig crawlerConfig) {
+        WebClient webClient = WebClient.builder().baseUrl(wireMock.baseUrl()).build();
+        return new SteamCrawlerService(webClient, mock(GamePriceIngestService.class), objectMapper, crawlerConfig,
+                new SteamSearchRowParser(), new SteamSearchRowStreamParser(), mock(DealsIndex.class),
+                new SteamAppDetailsClient(webClient, objectMapper, crawlerConfig));
+    }
+
+    private void stubPrices(String body) {
+        wireMock.stubFor(get(urlPathEqualTo("/api/appdetails"))
+                .withQueryParam("filters", equalTo("price_overview"))
+                .willReturn(okJson(body)));
+    }
+
+    /** appdetails 가격은 원 × 100 */
+    private static String priceEntry(int initial, int finalPrice, int discountPercent) {
+        return "{\"success\":true,\"data\":{\"price_overview\":{\"currency\":\"KRW\",\"initial\":" + initial * 100
+                + ",\"final\":" + finalPrice * 100 + ",\"discount_percent\":" + discountPercent + "}}}";
+    }
+}
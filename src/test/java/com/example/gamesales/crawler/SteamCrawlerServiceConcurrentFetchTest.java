@@ -0,0 +1,119 @@
+package com.example.gamesales.crawler;
+
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.dto.PriceDto;
+import com.example.gamesales.service.DealsIndex;
+import com.example.gamesales.service.GamePriceIngestService;
+import com.example.gamesales.util.SteamSearchRowParser;
+import com.example.gamesales.util.SteamSearchRowStreamParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Steam 검색 페이지 동시 요청 크롤링")
+class SteamCrawlerServiceConcurrentFetchTest {
+
+    private static final int PAGES = 10;
+    private static final int PAGE_SIZE = 50;
+
+    private WireMockServer wireMock;
+    private SteamCrawlerService crawlerService;
+
+    @BeforeEach
+    void setUp() {
+        wireMock = new WireMockServer(options().dynamicPort().containerThreads(PAGES * 2));
+        wireMock.start();
+
+        CrawlerConfig config = new CrawlerConfig();
+        config.getSteam().setPageConcurrency(PAGES);
+
+        crawlerService = new SteamCrawlerService(
+                WebClient.builder().baseUrl(wireMock.baseUrl()).build(),
+                mock(GamePriceIngestService.class),
+                new ObjectMapper(),
+                config,
+                new SteamSearchRowParser(),
+                new SteamSearchRowStreamParser(),
+                mock(DealsIndex.class),
+                mock(SteamAppDetailsClient.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMock.stop();
+    }
+
+    @Test
+    @DisplayName("전체 소요 시간은 페이지 지연의 합이 아니라 가장 느린 페이지에 가깝다")
+    void wallClockIsCloseToSlowestPage() {
+        int slowest = 0;
+        int sum = 0;
+        for (int page = 0; page < PAGES; page++) {
+            int delay = 200 + page * 40;   // 200ms ~ 560ms
+            slowest = Math.max(slowest, delay);
+            sum += delay;
+            stubPage(page * PAGE_SIZE, delay);
+        }
+
+        long begin = System.nanoTime();
+        List<PriceDto> rows = crawlerService.fetchTop500PaidGames().collectList().block();
+        long elapsedMs = (System.nanoTime() - begin) / 1_000_000;
+
+        assertThat(rows).hasSize(PAGES * PAGE_SIZE);
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(slowest);
+        assertThat(elapsedMs).isLessThan(slowest + (sum - slowest) / 2);
+        for (int i = 0; i < rows.size(); i++) {
+            assertThat(rows.get(i).ranking()).isEqualTo(i + 1);
+            assertThat(rows.get(i).appId()).isEqualTo(SteamSearchPageFixtures.BASE_APP_ID + i);
+        }
+    }
+
+    @Test
+    @DisplayName("실패한 페이지만 빠지고 나머지 페이지의 랭킹은 그대로 유지된다")
+    void failingPageDoesNotAbortRun() {
+        int failedStart = 250;
+        for (int page = 0; page < PAGES; page++) {
+            int start = page * PAGE_SIZE;
+            if (start == failedStart) {
+                wireMock.stubFor(searchPage(start).willReturn(serverError()));
+            } else {
+                stubPage(start, 50);
+            }
+        }
+
+        List<PriceDto> rows = crawlerService.fetchTop500PaidGames().collectList().block();
+
+        assertThat(rows).hasSize((PAGES - 1) * PAGE_SIZE);
+        assertThat(rows).extracting(PriceDto::ranking)
+                .doesNotContain(failedStart + 1, failedStart + PAGE_SIZE)
+                .contains(failedStart, failedStart + PAGE_SIZE + 1)
+                .isSorted();
+    }
+
+    private void stubPage(int start, int delayMs) {
+        wireMock.stubFor(searchPage(start).willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "text/html; charset=UTF-8")
+                .withBody(SteamSearchPageFixtures.searchPage(start, PAGE_SIZE))
+                .withFixedDelay(delayMs)));
+    }
+
+    private static MappingBuilder searchPage(int start) {
+        return get(urlPathEqualTo("/search/"))
+                .withQueryParam("filter", equalTo("topsellers"))
+                .withQueryParam("start", equalTo(String.valueOf(start)))
+                .withQueryParam("count", equalTo(String.valueOf(PAGE_SIZE)));
+    }
+}
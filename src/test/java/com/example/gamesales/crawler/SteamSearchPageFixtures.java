@@ -0,0 +1,51 @@
+package com.example.gamesales.crawler;
+
+import java.util.Locale;
+
+/**
+ * 테스트용 Steam 검색 결과 페이지 HTML 생성기.
+ * 실제 /search/ 응답과 같은 구조(.search_result_row → .search_discount_block)를 흉내낸다.
+ */
+final class SteamSearchPageFixtures {
+
+    static final int BASE_APP_ID = 100_000;
+
+    private SteamSearchPageFixtures() {
+    }
+
+    /** start 부터 rows 개의 할인 중인 게임 행을 가진 검색 페이지 */
+    static String searchPage(int start, int rows) {
+        StringBuilder sb = new StringBuilder(rows * 1_200 + 512);
+        sb.append("<!DOCTYPE html><html><head><title>Steam 검색</title></head><body>")
+                .append("<div id=\"search_resultsRows\">");
+        for (int i = 0; i < rows; i++) {
+            appendRow(sb, BASE_APP_ID + start + i, "Game " + (start + i), 64_800, 25);
+        }
+        return sb.append("</div></body></html>").toString();
+    }
+
+    static void appendRow(StringBuilder sb, int appId, String title, int initialPrice, int discountPercent) {
+        int finalPrice = initialPrice * (100 - discountPercent) / 100;
+        sb.append("<a href=\"https://store.steampowered.com/app/").append(appId)
+                .append("/").append(title.replace(' ', '_')).append("/?snr=1_7_7_7000_150_1\"")
+                .append(" data-ds-appid=\"").append(appId).append("\"")
+                .append(" class=\"search_result_row ds_collapse_flag\">")
+                .append("<div class=\"col search_capsule\"><img src=\"https://cdn.example/").append(appId).append(".jpg\"></div>")
+                .append("<div class=\"responsive_search_name_combined\">")
+                .append("<div class=\"col search_name ellipsis\"><span class=\"title\">").append(title).append("</span></div>")
+                .append("<div class=\"col search_released responsive_secondrow\">2024년 3월 1일</div>")
+                .append("<div class=\"col search_price_discount_combined responsive_secondrow\">")
+                .append("<div class=\"search_discount_and_price responsive_secondrow\">")
+                .append("<div class=\"discount_block search_discount_block\" data-price-final=\"").append(finalPrice * 100)
+                .append("\" data-discount=\"").append(discountPercent).append("\">")
+                .append("<div class=\"discount_pct\">-").append(discountPercent).append("%</div>")
+                .append("<div class=\"discount_prices\">")
+                .append("<div class=\"discount_original_price\">").append(won(initialPrice)).append("</div>")
+                .append("<div class=\"discount_final_price\">").append(won(finalPrice)).append("</div>")
+                .append("</div></div></div></div></div></a>");
+    }
+
+    static String won(int price) {
+        return String.format(Locale.ROOT, "₩ %,d", price);
+    }
+}
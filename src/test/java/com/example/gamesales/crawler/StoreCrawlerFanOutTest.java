@@ -0,0 +1,241 @@
+package com.example.gamesales.crawler;
+
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.dto.PriceDto;
+import com.example.gamesales.service.CrawlCheckpoints;
+import com.example.gamesales.service.CrawlerService;
+import com.example.gamesales.service.DealsIndex;
+import com.example.gamesales.service.GamePriceIngestService;
+import com.example.gamesales.service.GameTitleMatcher;
+import com.example.gamesales.service.StorePriceSink;
+import com.example.gamesales.util.CrawlExecution;
+import com.example.gamesales.util.RateLimiter;
+import com.example.gamesales.util.SteamSearchRowParser;
+import com.example.gamesales.util.SteamSearchRowStreamParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("스토어 크롤러 동시 실행: Steam·PSN·eShop·DirectG → 공유 저장 싱크 (WireMock)")
+class StoreCrawlerFanOutTest {
+
+    private static final int DELAY_MS = 400;
+    private static final int STEAM_PAGES = 10;
+    private static final int STEAM_PAGE_SIZE = 50;
+
+    private static final int HADES = 1145360;
+    private static final int ELDEN_RING = 1245620;
+    private static final int CELESTE = 504230;
+    private static final int STARDEW_VALLEY = 413150;
+
+    private WireMockServer wireMock;
+    private GamePriceIngestService ingestService;
+    private DealsIndex dealsIndex;
+    private CrawlCheckpoints checkpoints;
+    private CrawlerService crawlerService;
+    private final Map<String, List<PriceDto>> ingested = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        wireMock = new WireMockServer(options().dynamicPort().containerThreads(32));
+        wireMock.start();
+
+        CrawlerConfig config = new CrawlerConfig();
+        config.getSteam().setPageConcurrency(STEAM_PAGES);
+        config.getSink().setBatchSize(100);
+        config.getSink().setMaxDelay(Duration.ofMillis(200));
+        config.getStores().values().forEach(store -> {
+            store.setBaseUrl(wireMock.baseUrl());
+            store.setPageSize(2);
+            store.setMaxPages(3);
+            store.setConcurrency(3);
+        });
+        config.getStores().get("eshop").setApiUrl(wireMock.baseUrl());
+        config.getStores().get("psn").setCategory("test-deals");
+        config.getStores().get("psn").setQueryHash("test-hash");
+
+        ingestService = mock(GamePriceIngestService.class);
+        when(ingestService.ingest(anyString(), anyList(), any())).thenAnswer(inv -> {
+            List<PriceDto> dtos = inv.getArgument(1);
+            ingested.computeIfAbsent(inv.getArgument(0), s -> new ArrayList<>()).addAll(dtos);
+            return dtos.size();
+        });
+        dealsIndex = mock(DealsIndex.class);
+        GameTitleMatcher titleMatcher = mock(GameTitleMatcher.class);
+        when(titleMatcher.match("Hades")).thenReturn(HADES);
+        when(titleMatcher.match("ELDEN RING™")).thenReturn(ELDEN_RING);
+        when(titleMatcher.match("Celeste")).thenReturn(CELESTE);
+        when(titleMatcher.match("Stardew Valley")).thenReturn(STARDEW_VALLEY);
+
+        RateLimiter rateLimiter = new RateLimiter(config);
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<StoreCrawler> crawlers = List.of(
+                new SteamCrawlerService(WebClient.builder().baseUrl(wireMock.baseUrl()).build(), ingestService,
+                        objectMapper, config, new SteamSearchRowParser(), new SteamSearchRowStreamParser(), dealsIndex,
+                        mock(SteamAppDetailsClient.class)),
+                new PsnCrawlerService(WebClient.builder(), config, rateLimiter, objectMapper),
+                new EshopCrawlerService(WebClient.builder(), config, rateLimiter),
+                new DirectGCrawlerService(WebClient.builder(), config, rateLimiter));
+
+        // 체크포인트는 저장하지 않고 적재만 그대로 실행한다
+        checkpoints = mock(CrawlCheckpoints.class);
+        when(checkpoints.begin()).thenReturn(new CrawlCheckpoints.Resume(1, LocalDateTime.now(), Map.of()));
+        doAnswer(inv -> {
+            inv.<Runnable>getArgument(1).run();
+            return null;
+        }).when(checkpoints).commit(anyList(), any());
+
+        CrawlExecution execution = new CrawlExecution(config);
+        crawlerService = new CrawlerService(crawlers,
+                new StorePriceSink(ingestService, titleMatcher, dealsIndex, checkpoints, execution, config),
+                titleMatcher, checkpoints, execution);
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMock.stop();
+    }
+
+    @Test
+    @DisplayName("모든 스토어가 동시에 돌고, 전체 시간은 스토어별 시간의 합이 아니라 가장 느린 스토어에 가깝다")
+    void crawlsAllStoresInParallel() {
+        stubAllStores();
+
+        long begin = System.nanoTime();
+        Map<String, StorePriceSink.StoreResult> results = crawlerService.crawlAll();
+        long elapsedMs = (System.nanoTime() - begin) / 1_000_000;
+
+        // 순차라면 Steam 1 + PSN 2 + eShop 4 + DirectG 1 = 8 지연, 가장 느린 eShop 은 4 지연
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(4L * DELAY_MS);
+        assertThat(elapsedMs).isLessThan(6L * DELAY_MS);
+
+        assertThat(results).containsOnlyKeys("Steam", "PSN", "eShop", "DirectG");
+        assertThat(results.get("Steam")).isEqualTo(new StorePriceSink.StoreResult(500, 500, 0, 500));
+        assertThat(results.get("PSN")).isEqualTo(new StorePriceSink.StoreResult(2, 2, 0, 2));
+        assertThat(results.get("eShop")).isEqualTo(new StorePriceSink.StoreResult(3, 2, 1, 2));
+        assertThat(results.get("DirectG")).isEqualTo(new StorePriceSink.StoreResult(2, 2, 0, 2));
+
+        // 배치가 여러 번이어도 스토어 안의 순서는 유지된다
+        assertThat(ingested.get("Steam")).hasSize(500).extracting(PriceDto::ranking).isSorted();
+        assertThat(ingested.get("PSN")).containsExactly(
+                new PriceDto(HADES, "Hades", "Hades", 24_000, 12_000, 50, 1),
+                new PriceDto(ELDEN_RING, "ELDEN RING™", "ELDEN RING™", 64_800, 45_360, 30, 3));
+        assertThat(ingested.get("eShop")).containsExactly(
+                new PriceDto(HADES, "Hades", "Hades", 24_000, 16_800, 30, 1),
+                new PriceDto(CELESTE, "Celeste", "Celeste", 22_000, 11_000, 50, 3));
+        assertThat(ingested.get("DirectG")).containsExactly(
+                new PriceDto(HADES, "Hades", "Hades", 24_000, 12_000, 50, 1),
+                new PriceDto(STARDEW_VALLEY, "Stardew Valley", "Stardew Valley", 16_000, 16_000, 0, 2));
+
+        verify(dealsIndex).rebuild(eq("Steam"), anyList());
+        verify(dealsIndex).rebuild(eq("PSN"), anyList());
+        verify(dealsIndex).rebuild(eq("eShop"), anyList());
+        verify(dealsIndex).rebuild(eq("DirectG"), anyList());
+    }
+
+    @Test
+    @DisplayName("한 스토어가 실패해도 나머지 스토어 결과는 저장된다")
+    void failingStoreDoesNotAbortOthers() {
+        stubAllStores();
+        wireMock.stubFor(psnPage(0).willReturn(serverError()));
+
+        Map<String, StorePriceSink.StoreResult> results = crawlerService.crawlAll();
+
+        assertThat(results).containsOnlyKeys("Steam", "eShop", "DirectG");
+        assertThat(ingested).doesNotContainKey("PSN");
+        assertThat(ingested.get("eShop")).hasSize(2);
+        verify(dealsIndex, never()).rebuild(eq("PSN"), anyList());
+    }
+
+    @Test
+    @DisplayName("뒤 페이지가 실패하면 받은 페이지는 저장하고, 실행은 미완료로 남겨 다음 실행이 빠진 페이지를 가져온다")
+    void failingPageLeavesRunIncomplete() {
+        stubAllStores();
+        wireMock.stubFor(psnPage(2).willReturn(serverError()));
+
+        Map<String, StorePriceSink.StoreResult> results = crawlerService.crawlAll();
+
+        assertThat(results).containsKey("PSN");
+        assertThat(ingested.get("PSN")).containsExactly(new PriceDto(HADES, "Hades", "Hades", 24_000, 12_000, 50, 1));
+        assertThat(ingested.get("eShop")).hasSize(2);
+        verify(checkpoints).finish(eq(1L), eq(false), contains("PSN"));
+    }
+
+    private void stubAllStores() {
+        for (int page = 0; page < STEAM_PAGES; page++) {
+            int start = page * STEAM_PAGE_SIZE;
+            wireMock.stubFor(get(urlPathEqualTo("/search/"))
+                    .withQueryParam("start", equalTo(String.valueOf(start)))
+                    .willReturn(delayed(SteamSearchPageFixtures.searchPage(start, STEAM_PAGE_SIZE), "text/html; charset=UTF-8")));
+        }
+
+        wireMock.stubFor(psnPage(0).willReturn(delayed(fixture("psn/category-grid-0.json"), "application/json")));
+        wireMock.stubFor(psnPage(2).willReturn(delayed(fixture("psn/category-grid-2.json"), "application/json")));
+
+        for (int offset : new int[]{0, 2}) {
+            wireMock.stubFor(get(urlPathEqualTo("/api/KR/ko/search/sales"))
+                    .withQueryParam("offset", equalTo(String.valueOf(offset)))
+                    .willReturn(delayed(fixture("eshop/sales-" + offset + ".json"), "application/json")));
+        }
+        wireMock.stubFor(get(urlPathEqualTo("/v1/price"))
+                .withQueryParam("ids", equalTo("70010000000001,70010000000002"))
+                .willReturn(delayed(fixture("eshop/prices-0.json"), "application/json")));
+        wireMock.stubFor(get(urlPathEqualTo("/v1/price"))
+                .withQueryParam("ids", equalTo("70010000000003"))
+                .willReturn(delayed(fixture("eshop/prices-2.json"), "application/json")));
+
+        wireMock.stubFor(get(urlPathEqualTo("/game/game_sale.html"))
+                .willReturn(delayed(fixture("directg/sale-page-empty.html"), "text/html; charset=UTF-8")));
+        wireMock.stubFor(get(urlPathEqualTo("/game/game_sale.html"))
+                .withQueryParam("page", equalTo("1"))
+                .willReturn(delayed(fixture("directg/sale-page-1.html"), "text/html; charset=UTF-8")));
+    }
+
+    private static MappingBuilder psnPage(int offset) {
+        return get(urlPathEqualTo("/api/graphql/v1/op"))
+                .withQueryParam("operationName", equalTo("categoryGridRetrieve"))
+                .withQueryParam("variables", containing("\"offset\":" + offset));
+    }
+
+    /** 모든 응답에 같은 지연을 준다. 스토어별 시간 = 순서대로 나가야 하는 요청 수 × 지연 */
+    private static ResponseDefinitionBuilder delayed(String body, String contentType) {
+        return aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", contentType)
+                .withBody(body)
+                .withFixedDelay(DELAY_MS);
+    }
+
+    private static String fixture(String path) {
+        try (InputStream in = StoreCrawlerFanOutTest.class.getResourceAsStream("/fixtures/" + path)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.gamesales.scheduler;
+
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.repository.GameRepository;
+import com.example.gamesales.service.CrawlerService;
+import com.example.gamesales.service.DealsIndex;
+import com.example.gamesales.service.IGDBPlatformService;
+import com.example.gamesales.service.PriceArchiveService;
+import com.example.gamesales.service.SteamDetailsService;
+import com.example.gamesales.service.StorePriceSink;
+import com.example.gamesales.util.CrawlExecution;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("크롤링 스케줄러: 중복 실행 방지·작업 격리·실행 기록")
+class CrawlerSchedulerTest {
+
+    private final CrawlerService crawler = mock(CrawlerService.class);
+    private final IGDBPlatformService igdb = mock(IGDBPlatformService.class);
+    private final GameRepository gameRepo = mock(GameRepository.class);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private CrawlerScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        CrawlerConfig config = new CrawlerConfig();
+        scheduler = new CrawlerScheduler(config, crawler, igdb, gameRepo, mock(DealsIndex.class),
+                mock(PriceArchiveService.class), mock(SteamDetailsService.class), new CrawlExecution(config));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 작업이 실행 중이면 다음 실행은 건너뛴다")
+    void skipsOverlappingRun() throws Exception {
+        when(crawler.crawlAll()).thenAnswer(inv -> {
+            release.await(5, TimeUnit.SECONDS);
+            return steamRows(480);
+        });
+
+        CompletableFuture<CrawlerScheduler.JobRun> first = scheduler.trigger(CrawlerScheduler.PRICES);
+        CompletableFuture<CrawlerScheduler.JobRun> second = scheduler.trigger(CrawlerScheduler.PRICES);
+
+        assertThat(second.get()).isNull();
+        assertThat(scheduler.stats().get(CrawlerScheduler.PRICES).running()).isTrue();
+
+        release.countDown();
+        CrawlerScheduler.JobRun run = first.get(5, TimeUnit.SECONDS);
+
+        assertThat(run.succeeded()).isTrue();
+        assertThat(run.rows()).isEqualTo(480);
+        CrawlerScheduler.JobStats stats = scheduler.stats().get(CrawlerScheduler.PRICES);
+        assertThat(stats.runs()).isEqualTo(1);
+        assertThat(stats.skipped()).isEqualTo(1);
+        assertThat(stats.running()).isFalse();
+        assertThat(stats.lastRun()).isEqualTo(run);
+        verify(crawler, times(1)).crawlAll();
+    }
+
+    @Test
+    @DisplayName("느린 IGDB 보강이 돌고 있어도 가격 크롤링은 자기 스레드에서 바로 실행된다")
+    void jobsDoNotStarveEachOther() throws Exception {
+        when(gameRepo.findAllAppIds()).thenReturn(List.of(1, 2, 3));
+        when(igdb.updatePlatformsForSteamGames(anyList())).thenAnswer(inv -> {
+            release.await(5, TimeUnit.SECONDS);
+            return 3;
+        });
+        when(crawler.crawlAll()).thenReturn(steamRows(500));
+
+        CompletableFuture<CrawlerScheduler.JobRun> enrichment = scheduler.trigger(CrawlerScheduler.IGDB_ENRICHMENT);
+        CrawlerScheduler.JobRun pricesRun = scheduler.trigger(CrawlerScheduler.PRICES).get(1, TimeUnit.SECONDS);
+
+        assertThat(pricesRun.rows()).isEqualTo(500);
+        assertThat(enrichment).isNotDone();
+
+        release.countDown();
+        assertThat(enrichment.get(5, TimeUnit.SECONDS).rows()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("실패한 실행은 기록하고 다음 실행을 막지 않는다")
+    void recordsFailure() throws Exception {
+        when(crawler.crawlAll())
+                .thenThrow(new IllegalStateException("steam down"))
+                .thenReturn(steamRows(500));
+
+        CrawlerScheduler.JobRun failed = scheduler.trigger(CrawlerScheduler.PRICES).get(5, TimeUnit.SECONDS);
+        CrawlerScheduler.JobRun ok = scheduler.trigger(CrawlerScheduler.PRICES).get(5, TimeUnit.SECONDS);
+
+        assertThat(failed.succeeded()).isFalse();
+        assertThat(failed.error()).contains("steam down");
+        assertThat(ok.succeeded()).isTrue();
+        assertThat(scheduler.stats().get(CrawlerScheduler.PRICES).failures()).isEqualTo(1);
+        assertThat(scheduler.stats().get(CrawlerScheduler.PRICES).runs()).isEqualTo(2);
+    }
+
+    private static Map<String, StorePriceSink.StoreResult> steamRows(int rows) {
+        return Map.of("Steam", new StorePriceSink.StoreResult(rows, rows, 0, rows));
+    }
+}
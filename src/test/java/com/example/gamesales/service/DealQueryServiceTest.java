@@ -0,0 +1,86 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.dto.DealResponse;
+import com.example.gamesales.dto.PriceDto;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({GamePriceIngestService.class, LastKnownPrices.class, CrawlerConfig.class,
+        GameEnrichmentWriter.class, DealQueryService.class, CrawlCheckpoints.class})
+@DisplayName("latest_price projection 읽기 API (H2)")
+class DealQueryServiceTest {
+
+    @Autowired GamePriceIngestService ingestService;
+    @Autowired GameEnrichmentWriter enrichmentWriter;
+    @Autowired DealQueryService dealQueryService;
+    @Autowired EntityManager em;
+
+    @Test
+    @DisplayName("할인 중인 게임만 할인율 높은 순, 같으면 랭킹 순으로 돌려준다")
+    void topDiscounts() {
+        ingestService.ingest("Steam", List.of(
+                price(1, 10_000, 0, 1),
+                price(2, 20_000, 50, 2),
+                price(3, 30_000, 75, 3),
+                price(4, 40_000, 50, 4)));
+        flush();
+
+        List<DealResponse> deals = dealQueryService.topDiscounts("Steam", 10);
+
+        assertThat(deals).extracting(DealResponse::appId).containsExactly(3, 2, 4);
+        assertThat(deals.get(0).finalPrice()).isEqualTo(7_500);
+    }
+
+    @Test
+    @DisplayName("보강된 플랫폼으로 게임을 찾고, 이후 크롤링의 랭킹 변화가 반영된다")
+    void byPlatform() {
+        ingestService.ingest("Steam", List.of(price(1, 10_000, 0, 1), price(2, 20_000, 10, 2)));
+        enrichmentWriter.updatePlatforms(Map.of(
+                1, List.of("PC (Microsoft Windows)"),
+                2, List.of("PC (Microsoft Windows)", "PlayStation 5")));
+        ingestService.ingest("Steam", List.of(price(1, 10_000, 0, 2), price(2, 20_000, 10, 1)));
+        flush();
+
+        assertThat(dealQueryService.byPlatform("Steam", "PlayStation 5", 10))
+                .extracting(DealResponse::appId).containsExactly(2);
+        assertThat(dealQueryService.byPlatform("Steam", "PC (Microsoft Windows)", 10))
+                .extracting(DealResponse::appId).containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("마지막 크롤링에서 보지 못한 게임(순위권 밖·판매 중지)은 할인·플랫폼 목록에서 빠진다")
+    void dropsGamesNotSeenInLastCrawl() {
+        ingestService.ingest("Steam", List.of(price(1, 10_000, 50, 1), price(2, 20_000, 30, 2)),
+                LocalDateTime.of(2026, 1, 1, 0, 0));
+        enrichmentWriter.updatePlatforms(Map.of(1, List.of("PlayStation 5"), 2, List.of("PlayStation 5")));
+        ingestService.ingest("Steam", List.of(price(2, 20_000, 30, 1)), LocalDateTime.of(2026, 1, 1, 6, 0));
+        flush();
+
+        assertThat(dealQueryService.topDiscounts("Steam", 10)).extracting(DealResponse::appId).containsExactly(2);
+        assertThat(dealQueryService.byPlatform("Steam", "PlayStation 5", 10))
+                .extracting(DealResponse::appId).containsExactly(2);
+        assertThat(dealQueryService.topDiscounts("PSN", 10)).isEmpty();
+    }
+
+    private void flush() {
+        em.flush();
+        em.clear();
+    }
+
+    private static PriceDto price(int appId, int initialPrice, int discountPercent, int ranking) {
+        int finalPrice = initialPrice * (100 - discountPercent) / 100;
+        return new PriceDto(appId, "Game " + appId, "게임 " + appId, initialPrice, finalPrice, discountPercent, ranking);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.dto.PriceDto;
+import com.example.gamesales.repository.LatestPriceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("메모리 할인 인덱스")
+class DealsIndexTest {
+
+    private static final String PC = "PC (Microsoft Windows)";
+    private static final String PS5 = "PlayStation 5";
+
+    // publish/query 는 저장소를 쓰지 않는다
+    private final DealsIndex index = new DealsIndex(null, null);
+
+    @Test
+    @DisplayName("할인율·가격·랭킹 순 정렬과 플랫폼 필터")
+    void sortsAndFilters() {
+        index.publish("Steam", List.of(
+                        price(10, 30_000, 0, 1),
+                        price(20, 20_000, 50, 2),
+                        price(30, 10_000, 75, 3),
+                        price(40, 40_000, 50, 4)),
+                Map.of(10, List.of(PC), 20, List.of(PC, PS5), 40, List.of(PS5)));
+
+        assertThat(appIds(index.query("Steam", DealsIndex.Sort.DISCOUNT, null, 10))).containsExactly(30, 20, 40);
+        assertThat(appIds(index.query("Steam", DealsIndex.Sort.PRICE, null, 10))).containsExactly(30, 20, 10, 40);
+        assertThat(appIds(index.query("Steam", DealsIndex.Sort.RANKING, null, 2))).containsExactly(10, 20);
+        assertThat(appIds(index.query("Steam", DealsIndex.Sort.DISCOUNT, PS5, 10))).containsExactly(20, 40);
+        assertThat(appIds(index.query("Steam", DealsIndex.Sort.RANKING, PC, 10))).containsExactly(10, 20);
+        assertThat(index.query("Steam", DealsIndex.Sort.RANKING, "Dreamcast", 10)).isEmpty();
+        assertThat(index.query("Eshop", DealsIndex.Sort.RANKING, null, 10)).isEmpty();
+
+        assertThat(index.find("Steam", 40)).map(PriceDto::ranking).contains(4);
+        assertThat(index.find("Steam", 41)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("교체 중에도 읽기는 항상 완성된 스냅샷 하나만 본다")
+    void readersNeverSeeMixedSnapshots() throws Exception {
+        List<PriceDto> small = crawl(100, 10);
+        List<PriceDto> large = crawl(200, 20);
+        index.publish("Steam", small, Map.of());
+
+        AtomicBoolean stop = new AtomicBoolean();
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        List<Future<Long>> results = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            results.add(readers.submit(() -> {
+                long queries = 0;
+                while (!stop.get()) {
+                    List<PriceDto> deals = index.query("Steam", DealsIndex.Sort.DISCOUNT, null, 1_000);
+                    int discount = deals.get(0).discountPercent();
+                    assertThat(deals).hasSize(discount == 10 ? 100 : 200)
+                            .allMatch(d -> d.discountPercent() == discount);
+                    queries++;
+                }
+                return queries;
+            }));
+        }
+
+        for (int i = 0; i < 2_000; i++) {
+            index.publish("Steam", i % 2 == 0 ? large : small, Map.of());
+        }
+        stop.set(true);
+        readers.shutdown();
+        assertThat(readers.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        for (Future<Long> result : results) {
+            assertThat(result.get()).isPositive();
+        }
+    }
+
+    @Test
+    @DisplayName("본 시각 기준이 없는 스토어(크롤링 전)는 warm-up 에서 빈 인덱스로 남는다")
+    void warmUpWithoutCutoff() {
+        LatestPriceRepository latestPriceRepo = mock(LatestPriceRepository.class);
+        CrawlCheckpoints checkpoints = mock(CrawlCheckpoints.class);
+        when(latestPriceRepo.findServiceNames()).thenReturn(List.of("PSN"));
+        when(checkpoints.seenCutoff("PSN")).thenReturn(null);
+
+        DealsIndex warmed = new DealsIndex(latestPriceRepo, checkpoints);
+        warmed.warmUp();
+
+        assertThat(warmed.query("PSN", DealsIndex.Sort.RANKING, null, 10)).isEmpty();
+        verify(latestPriceRepo, never()).findWithPlatformsByServiceName("PSN");
+    }
+
+    private static List<PriceDto> crawl(int rows, int discountPercent) {
+        List<PriceDto> dtos = new ArrayList<>(rows);
+        for (int i = 1; i <= rows; i++) {
+            dtos.add(price(i, 20_000, discountPercent, i));
+        }
+        return dtos;
+    }
+
+    private static PriceDto price(int appId, int initialPrice, int discountPercent, int ranking) {
+        int finalPrice = initialPrice * (100 - discountPercent) / 100;
+        return new PriceDto(appId, "Game " + appId, "게임 " + appId, initialPrice, finalPrice, discountPercent, ranking);
+    }
+
+    private static List<Integer> appIds(List<PriceDto> deals) {
+        return deals.stream().map(PriceDto::appId).toList();
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.dto.PriceDto;
+import com.example.gamesales.model.Game;
+import com.example.gamesales.model.GamePrice;
+import com.example.gamesales.repository.GamePriceRepository;
+import com.example.gamesales.repository.GameRepository;
+import com.example.gamesales.repository.LatestPriceRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({GamePriceIngestService.class, LastKnownPrices.class, CrawlerConfig.class})
+@DisplayName("크롤링 결과 벌크 적재 (H2)")
+class GamePriceIngestServiceTest {
+
+    private static final int ROWS = 500;
+    /**
+     * 500행 적재 시 허용하는 SQL 문 수.
+     * 조회 3 + 시퀀스 조회 ~33 + insert 배치 ~30 + lastSeenAt update 1
+     * (games·game_prices·latest_price 세 테이블, 행 단위 저장이면 3,000개 이상)
+     */
+    private static final long STATEMENT_BOUND = 90;
+
+    @Autowired GamePriceIngestService ingestService;
+    @Autowired GameRepository gameRepo;
+    @Autowired GamePriceRepository priceRepo;
+    @Autowired LatestPriceRepository latestPriceRepo;
+    @Autowired EntityManager em;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("500행 크롤링 한 번의 SQL 문 수가 고정 상한 이내다")
+    void ingestUsesBoundedStatementCount() {
+        long firstRun = countStatements(() -> ingestService.ingest("Steam", crawl(0)));
+        long secondRun = countStatements(() -> ingestService.ingest("Steam", crawl(1)));
+
+        assertThat(firstRun).isLessThanOrEqualTo(STATEMENT_BOUND);
+        assertThat(secondRun).isLessThanOrEqualTo(STATEMENT_BOUND);
+        assertThat(gameRepo.count()).isEqualTo(ROWS);
+        assertThat(priceRepo.count()).isEqualTo(ROWS * 2L);
+    }
+
+    @Test
+    @DisplayName("이미 있는 게임의 랭킹이 갱신된다")
+    void updatesRankingOfExistingGames() {
+        ingestService.ingest("Steam", crawl(0));
+        ingestService.ingest("Steam", crawl(1));
+        em.flush();
+        em.clear();
+
+        Game first = gameRepo.findByAppId(1).orElseThrow();
+        Game last = gameRepo.findByAppId(ROWS).orElseThrow();
+        assertThat(first.getRanking()).isEqualTo(ROWS);
+        assertThat(last.getRanking()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("델타 적재: 가격이 그대로면 새 행 없이 lastSeenAt 만 옮긴다")
+    void unchangedPricesOnlyMoveLastSeen() {
+        List<PriceDto> sameCrawl = crawl(0);
+        ingestService.ingest("Steam", sameCrawl);
+        em.flush();
+        em.clear();
+        LocalDateTime firstSeen = priceRepo.findAll().get(0).getLastSeenAt();
+
+        long statements = countStatements(() -> ingestService.ingest("Steam", sameCrawl));
+        em.clear();
+
+        List<GamePrice> prices = priceRepo.findAll();
+        assertThat(prices).hasSize(ROWS);
+        assertThat(prices).allMatch(p -> p.getFetchedAt().equals(firstSeen));
+        assertThat(prices).allMatch(p -> p.getLastSeenAt().isAfter(firstSeen));
+        // IN 조회 2 (games, latest_price) + lastSeenAt update 2 (game_prices, latest_price)
+        assertThat(statements).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("델타 적재: 가격이 바뀐 게임만 새 행을 만든다")
+    void onlyChangedPricesAreInserted() {
+        ingestService.ingest("Steam", crawl(0));
+
+        List<PriceDto> next = new ArrayList<>(crawl(0));
+        PriceDto sale = next.get(0);
+        next.set(0, new PriceDto(sale.appId(), sale.englishName(), sale.koreanName(),
+                sale.initialPrice(), 10_000, 50, sale.ranking()));
+        int inserted = ingestService.ingest("Steam", next);
+
+        assertThat(inserted).isEqualTo(1);
+        assertThat(priceRepo.count()).isEqualTo(ROWS + 1L);
+    }
+
+    @Test
+    @DisplayName("델타 적재: 재시작 후에도 DB 의 최신 가격으로 비교한다")
+    void seedsLastKnownPricesFromDatabase() {
+        ingestService.ingest("Steam", crawl(0));
+        em.flush();
+        em.clear();
+
+        // 메모리 상태가 없는 새 인스턴스 = 재시작
+        GamePriceIngestService restarted = new GamePriceIngestService(
+                gameRepo, priceRepo, latestPriceRepo, new LastKnownPrices(priceRepo), new CrawlerConfig(),
+                event -> { });
+        assertThat(restarted.ingest("Steam", crawl(0))).isZero();
+        assertThat(priceRepo.count()).isEqualTo(ROWS);
+    }
+
+    @Test
+    @DisplayName("Steam 외 스토어는 있는 게임에만 가격을 붙이고 게임 랭킹은 건드리지 않는다")
+    void otherStoresOnlyAttachToKnownGames() {
+        ingestService.ingest("Steam", crawl(0));
+        em.flush();
+        em.clear();
+
+        int inserted = ingestService.ingest("PSN", List.of(
+                new PriceDto(1, "Game 1", "Game 1", 30_000, 30_000, 0, 7),
+                new PriceDto(999_999, "Unknown", "Unknown", 30_000, 30_000, 0, 8)));
+        em.flush();
+        em.clear();
+
+        assertThat(inserted).isEqualTo(1);
+        assertThat(gameRepo.count()).isEqualTo(ROWS);
+        assertThat(gameRepo.findByAppId(1)).get().extracting(g -> g.getRanking()).isEqualTo(1);
+        assertThat(latestPriceRepo.findAllByServiceNameAndAppIdIn("PSN", List.of(1, 999_999))).hasSize(1);
+    }
+
+    private long countStatements(Runnable work) {
+        em.flush();
+        em.clear();
+        statistics.clear();
+        work.run();
+        em.flush();
+        return statistics.getPrepareStatementCount();
+    }
+
+    /** run 이 홀수면 랭킹을 뒤집어서 기존 게임 랭킹 갱신 경로를 태운다 */
+    private static List<PriceDto> crawl(int run) {
+        List<PriceDto> dtos = new ArrayList<>(ROWS);
+        for (int i = 1; i <= ROWS; i++) {
+            int ranking = run % 2 == 0 ? i : ROWS - i + 1;
+            dtos.add(new PriceDto(i, "Game " + i, "Game " + i, 20_000, 15_000 - run, 25, ranking));
+        }
+        return dtos;
+    }
+}
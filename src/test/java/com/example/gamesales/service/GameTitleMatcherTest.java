@@ -0,0 +1,136 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.repository.GameRepository;
+import com.example.gamesales.util.TitleNormalizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("스토어 간 게임 제목 매칭 (trigram 색인)")
+class GameTitleMatcherTest {
+
+    private final GameRepository gameRepo = mock(GameRepository.class);
+    private final GameTitleMatcher matcher = new GameTitleMatcher(gameRepo, new CrawlerConfig());
+
+    @Test
+    @DisplayName("상표 기호·괄호·플랫폼·에디션 표기는 정규화에서 빠진다")
+    void normalizesStoreSpecificDecorations() {
+        assertThat(TitleNormalizer.normalize("ELDEN RING™ Deluxe Edition (PS4 & PS5)")).isEqualTo("elden ring");
+        assertThat(TitleNormalizer.normalize("Hades [한국어판]")).isEqualTo("hades");
+        assertThat(TitleNormalizer.normalize("Assassin’s Creed® Mirage")).isEqualTo("assassins creed mirage");
+        assertThat(TitleNormalizer.normalize("Ｆｉｎａｌ　Ｆａｎｔａｓｙ VII")).isEqualTo("final fantasy vii");
+        assertThat(TitleNormalizer.normalize("™")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("표기가 조금 달라도 찾고, 속편 번호가 다르거나 유사도가 낮으면 찾지 않는다")
+    void matchesWithThreshold() {
+        catalog(
+                title(1145360, "Hades", "하데스"),
+                title(1145350, "Hades II", "하데스 II"),
+                title(1245620, "ELDEN RING", "엘든 링"),
+                title(2622380, "ELDEN RING NIGHTREIGN", "엘든 링 나이트레인"),
+                title(1091500, "Cyberpunk 2077", "사이버펑크 2077"));
+
+        assertThat(matcher.match("Hades (PS5)")).isEqualTo(1145360);
+        assertThat(matcher.match("하데스")).isEqualTo(1145360);
+        assertThat(matcher.match("Hades II")).isEqualTo(1145350);
+        assertThat(matcher.match("ELDEN RING™ Deluxe Edition")).isEqualTo(1245620);
+        assertThat(matcher.match("Elden Ring Nightreign")).isEqualTo(2622380);
+        assertThat(matcher.best("Cyberpunk 2O77 Ultimate Edition")).isEmpty();           // 숫자 단어가 다르다
+        assertThat(matcher.best("Cyberpunck 2077")).get()
+                .satisfies(m -> {
+                    assertThat(m.appId()).isEqualTo(1091500);
+                    assertThat(m.score()).isBetween(0.6, 1.0);
+                });
+        assertThat(matcher.match("Hollow Knight")).isNull();
+        assertThat(matcher.match("")).isNull();
+    }
+
+    @Test
+    @DisplayName("2만 개 카탈로그 전체 대조가 수 초 안에 끝나고, 변형된 제목도 원래 게임으로 찾는다")
+    void reconcilesFullCatalogQuickly() {
+        Random random = new Random(42);
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            words.add(randomWord(random));
+        }
+        List<GameRepository.GameTitle> games = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        while (games.size() < 20_000) {
+            String title = words.get(random.nextInt(words.size())) + " " + words.get(random.nextInt(words.size()))
+                    + " " + words.get(random.nextInt(words.size()));
+            if (seen.add(title)) games.add(title(games.size() + 1, title, title));
+        }
+        catalog(games.toArray(GameRepository.GameTitle[]::new));
+
+        // 스토어마다 다른 표기: 대문자·상표 기호·플랫폼 괄호·에디션, 일부는 한 글자 오타
+        List<String> listings = new ArrayList<>(games.size());
+        for (int i = 0; i < games.size(); i++) {
+            String title = games.get(i).getEnglishName();
+            listings.add(switch (i % 4) {
+                case 0 -> title.toUpperCase() + "™";
+                case 1 -> title + " (PS5)";
+                case 2 -> title + " Deluxe Edition";
+                default -> title.substring(0, title.length() - 1);
+            });
+        }
+
+        long begin = System.nanoTime();
+        Map<String, GameTitleMatcher.Match> matches = matcher.matchAll(listings);
+        long elapsedMs = (System.nanoTime() - begin) / 1_000_000;
+
+        int correct = 0;
+        for (int i = 0; i < listings.size(); i++) {
+            GameTitleMatcher.Match match = matches.get(listings.get(i));
+            if (match != null && match.appId() == i + 1) correct++;
+        }
+
+        assertThat(elapsedMs).isLessThan(5_000);
+        assertThat(correct).isGreaterThanOrEqualTo(listings.size() * 99 / 100);
+    }
+
+    private void catalog(GameRepository.GameTitle... titles) {
+        when(gameRepo.findAllTitles()).thenReturn(List.of(titles));
+        matcher.refresh();
+    }
+
+    private static GameRepository.GameTitle title(int appId, String englishName, String koreanName) {
+        return new GameRepository.GameTitle() {
+            @Override
+            public Integer getAppId() {
+                return appId;
+            }
+
+            @Override
+            public String getEnglishName() {
+                return englishName;
+            }
+
+            @Override
+            public String getKoreanName() {
+                return koreanName;
+            }
+        };
+    }
+
+    private static String randomWord(Random random) {
+        int length = 4 + random.nextInt(6);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('a' + random.nextInt(26)));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.config.IgdbProperties;
+import com.example.gamesales.util.CrawlExecution;
+import com.example.gamesales.util.RateLimiter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("IGDB 플랫폼 보강 청크 파이프라인")
+class IGDBPlatformServiceEnrichmentTest {
+
+    private static final int APP_IDS = 5_000;
+    private static final int CHUNK_SIZE = 250;
+
+    private WireMockServer igdb;
+    private final Map<Integer, List<String>> saved = new ConcurrentHashMap<>();
+    private IGDBPlatformService service;
+
+    @BeforeEach
+    void setUp() {
+        igdb = IgdbFakeServer.start();
+
+        IgdbProperties props = new IgdbProperties();
+        props.setId("client-id");
+        props.setSecret("secret");
+        props.setBaseUrl(igdb.baseUrl());
+        props.setTokenUrl(igdb.baseUrl() + "/oauth2/token");
+        props.getEnrichment().setChunkSize(CHUNK_SIZE);
+        props.getEnrichment().setConcurrency(4);
+
+        CrawlerConfig crawlerConfig = new CrawlerConfig();
+        crawlerConfig.getRateLimit().setHosts(Map.of("localhost", new CrawlerConfig.Limit(100, 8)));
+
+        GameEnrichmentWriter writer = new GameEnrichmentWriter(null, null) {
+            @Override
+            public int updatePlatforms(Map<Integer, List<String>> platformsByAppId) {
+                saved.putAll(platformsByAppId);
+                return platformsByAppId.size();
+            }
+        };
+
+        service = new IGDBPlatformService(props, writer, new ObjectMapper(),
+                new RateLimiter(crawlerConfig), new TwitchTokenManager(props), new IgdbCache(props),
+                new CrawlExecution(crawlerConfig));
+    }
+
+    @AfterEach
+    void tearDown() {
+        igdb.stop();
+    }
+
+    @Test
+    @DisplayName("5,000개 appId를 청크로 나눠 하나도 빠짐없이 저장한다")
+    void enrichesAllAppIdsWithoutTruncation() {
+        List<Integer> appIds = IntStream.rangeClosed(1, APP_IDS).boxed().toList();
+
+        int updated = service.updatePlatformsForSteamGames(appIds);
+
+        assertThat(updated).isEqualTo(APP_IDS);
+        assertThat(saved).hasSize(APP_IDS);
+        assertThat(saved.values()).allMatch(IgdbFakeServer.PLATFORMS::equals);
+
+        int chunks = APP_IDS / CHUNK_SIZE;
+        igdb.verify(chunks, postRequestedFor(urlPathEqualTo("/external_games")));
+        igdb.verify(0, postRequestedFor(urlPathEqualTo("/games")));
+        igdb.verify(1, postRequestedFor(urlPathEqualTo("/platforms")));
+    }
+
+    @Test
+    @DisplayName("플랫폼 카탈로그를 읽지 못하면 빈 플랫폼으로 덮어쓰지 않고 작업을 실패시킨다")
+    void failsWithoutCatalog() {
+        igdb.stubFor(post(urlPathEqualTo("/platforms")).atPriority(1).willReturn(badRequest()));
+
+        assertThatThrownBy(() -> service.updatePlatformsForSteamGames(List.of(1, 2, 3)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(saved).isEmpty();
+        igdb.verify(0, postRequestedFor(urlPathEqualTo("/external_games")));
+    }
+
+    @Test
+    @DisplayName("카탈로그에 없는 플랫폼 ID 가 섞인 게임은 저장 대상에서 뺀다")
+    void skipsGamesWithUnknownPlatforms() throws Exception {
+        JsonNode resp = new ObjectMapper().readTree("[{\"uid\":\"1\",\"game\":{\"platforms\":[6,167]}},"
+                + "{\"uid\":\"2\",\"game\":{\"platforms\":[6,999]}}]");
+
+        Map<Integer, List<String>> platforms = IGDBPlatformService.platformsByAppId(resp,
+                Map.of(6, "PC (Microsoft Windows)", 167, "PlayStation 5"));
+
+        assertThat(platforms).containsOnlyKeys(1);
+        assertThat(platforms.get(1)).containsExactly("PC (Microsoft Windows)", "PlayStation 5");
+    }
+
+    @Test
+    @DisplayName("제목 보정 후보를 /multiquery 한 번으로 검색하고, 다음 호출은 캐시에서 답한다")
+    void searchesTitleCandidatesInOneMultiquery() {
+        assertThat(service.getSupportedPlatformsByGameName("Stellar Blade"))
+                .isEqualTo(IgdbFakeServer.PLATFORMS);
+        igdb.verify(1, postRequestedFor(urlPathEqualTo("/multiquery")));
+        igdb.verify(0, postRequestedFor(urlPathEqualTo("/games")));
+
+        igdb.resetRequests();
+        assertThat(service.getSupportedPlatformsByGameName("Stellar Blade"))
+                .isEqualTo(IgdbFakeServer.PLATFORMS);
+        igdb.verify(0, postRequestedFor(urlPathEqualTo("/multiquery")));
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.config.IgdbProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IGDB 조회 캐시")
+class IgdbCacheTest {
+
+    @Test
+    @DisplayName("같은 제목은 한 번만 조회하고, 결과가 없던 제목도 다시 묻지 않는다")
+    void cachesHitsAndMisses() {
+        IgdbCache cache = new IgdbCache(new IgdbProperties());
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            Map<String, IgdbCache.IgdbGame> games = cache.games(List.of("Stellar Blade", "No Such Game"), titles -> {
+                calls.incrementAndGet();
+                assertThat(titles).containsExactly("Stellar Blade", "No Such Game");
+                return Map.of("Stellar Blade", new IgdbCache.IgdbGame(1, List.of(48, 167)),
+                        "No Such Game", IgdbCache.NO_MATCH);
+            });
+            assertThat(games).containsEntry("No Such Game", IgdbCache.NO_MATCH);
+            assertThat(games.get("Stellar Blade").id()).isEqualTo(1);
+        }
+
+        assertThat(calls.get()).isEqualTo(1);
+        IgdbCache.Stats stats = cache.stats();
+        assertThat(stats.titleMisses()).isEqualTo(2);
+        assertThat(stats.titleHits()).isEqualTo(4);
+        assertThat(stats.negativeHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("제목 캐시 hit/miss 와 카탈로그 통계를 meter 로 내보낸다")
+    void bindsMeters() {
+        IgdbCache cache = new IgdbCache(new IgdbProperties());
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindMeters(registry);
+
+        for (int i = 0; i < 2; i++) {
+            cache.games(List.of("Hades", "No Such Game"),
+                    titles -> Map.of("Hades", new IgdbCache.IgdbGame(2, List.of(6)), "No Such Game", IgdbCache.NO_MATCH));
+        }
+        cache.platformNames(() -> Map.of(6, "PC (Microsoft Windows)"));
+
+        assertThat(registry.get("cache.gets").tags("cache", "igdb.titles", "result", "hit").functionCounter().count())
+                .isEqualTo(2);
+        assertThat(registry.get("cache.gets").tags("cache", "igdb.titles", "result", "miss").functionCounter().count())
+                .isEqualTo(2);
+        assertThat(registry.get("crawler.igdb.negative.hits").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("crawler.igdb.catalog.loads").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("crawler.igdb.platforms").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 제목만 loader 한 번으로 묻는다")
+    void loadsOnlyMissingTitles() {
+        IgdbCache cache = new IgdbCache(new IgdbProperties());
+        cache.games(List.of("Hades"), titles -> Map.of("Hades", new IgdbCache.IgdbGame(2, List.of(6))));
+
+        List<List<String>> calls = new CopyOnWriteArrayList<>();
+        Map<String, IgdbCache.IgdbGame> games = cache.games(List.of("Hades", "Celeste", "Celeste™"), titles -> {
+            calls.add(titles);
+            return Map.of("Celeste", new IgdbCache.IgdbGame(3, List.of(6)), "Celeste™", IgdbCache.NO_MATCH);
+        });
+
+        assertThat(calls).containsExactly(List.of("Celeste", "Celeste™"));
+        assertThat(games).containsOnlyKeys("Hades", "Celeste", "Celeste™");
+    }
+
+    @Test
+    @DisplayName("IGDB 오류(결과에 없는 제목)는 캐시하지 않는다")
+    void doesNotCacheErrors() {
+        IgdbCache cache = new IgdbCache(new IgdbProperties());
+        AtomicInteger calls = new AtomicInteger();
+
+        Map<String, IgdbCache.IgdbGame> failed = cache.games(List.of("Lies of P"), titles -> {
+            calls.incrementAndGet();
+            return Map.of();
+        });
+        Map<String, IgdbCache.IgdbGame> games = cache.games(List.of("Lies of P"), titles -> {
+            calls.incrementAndGet();
+            return Map.of("Lies of P", new IgdbCache.IgdbGame(7, List.of(6)));
+        });
+
+        assertThat(failed).isEmpty();
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(games.get("Lies of P").id()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("같은 제목을 동시에 찾으면 loader 는 한 번만 불리고 나머지는 그 결과를 기다린다")
+    void concurrentLookupsShareOneLoad() throws Exception {
+        IgdbCache cache = new IgdbCache(new IgdbProperties());
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Map<String, IgdbCache.IgdbGame>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.games(List.of("Stellar Blade"), titles -> {
+                calls.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return Map.of("Stellar Blade", new IgdbCache.IgdbGame(1, List.of(167)));
+            })));
+            loading.await();
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> cache.games(List.of("stellar blade "), titles -> {
+                    calls.incrementAndGet();
+                    return Map.of();
+                })));
+            }
+            release.countDown();
+
+            for (Future<Map<String, IgdbCache.IgdbGame>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).values()).singleElement()
+                        .extracting(IgdbCache.IgdbGame::id).isEqualTo(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("플랫폼 카탈로그는 TTL 안에서는 한 번만 읽는다")
+    void platformCatalogLoadedOncePerTtl() throws InterruptedException {
+        IgdbProperties props = new IgdbProperties();
+        props.getCache().setPlatformTtl(Duration.ofMillis(50));
+        IgdbCache cache = new IgdbCache(props);
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 10; i++) {
+            cache.platformNames(() -> Map.of(6, "PC (Microsoft Windows)", loads.incrementAndGet(), "dummy"));
+        }
+        assertThat(loads.get()).isEqualTo(1);
+
+        Thread.sleep(60);
+        Map<Integer, String> names = cache.platformNames(() -> Map.of(6, "PC (Microsoft Windows)", 167, "PlayStation 5"));
+        assertThat(names).containsEntry(167, "PlayStation 5");
+        assertThat(cache.stats().catalogLoads()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("카탈로그 조회가 실패하면 backoff 동안 다시 읽지 않고 이전 카탈로그를 쓴다")
+    void platformCatalogFailureBacksOff() throws InterruptedException {
+        IgdbProperties props = new IgdbProperties();
+        props.getCache().setPlatformTtl(Duration.ofMillis(20));
+        props.getCache().setPlatformRetryBackoff(Duration.ofMillis(200));
+        IgdbCache cache = new IgdbCache(props);
+        AtomicInteger failedLoads = new AtomicInteger();
+
+        cache.platformNames(() -> Map.of(6, "PC (Microsoft Windows)"));
+        Thread.sleep(30);
+        for (int i = 0; i < 10; i++) {
+            Map<Integer, String> names = cache.platformNames(() -> {
+                failedLoads.incrementAndGet();
+                return null;
+            });
+            assertThat(names).containsEntry(6, "PC (Microsoft Windows)");
+        }
+        assertThat(failedLoads.get()).isEqualTo(1);
+
+        Thread.sleep(220);
+        Map<Integer, String> names = cache.platformNames(() -> Map.of(6, "PC (Microsoft Windows)", 167, "PlayStation 5"));
+        assertThat(names).containsEntry(167, "PlayStation 5");
+        assertThat(cache.stats().catalogFailures()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("카탈로그를 한 번도 읽지 못했으면 빈 맵을 돌려주고, backoff 동안은 다시 읽지 않는다")
+    void missingCatalogBacksOff() {
+        IgdbProperties props = new IgdbProperties();
+        props.getCache().setPlatformRetryBackoff(Duration.ofMinutes(1));
+        IgdbCache cache = new IgdbCache(props);
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(cache.platformNames(() -> {
+                loads.incrementAndGet();
+                return Map.of();
+            })).isEmpty();
+        }
+        assertThat(loads.get()).isEqualTo(1);
+
+        cache.invalidateAll();
+        assertThat(cache.platformNames(() -> Map.of(6, "PC (Microsoft Windows)"))).containsKey(6);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.gamesales.service;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformer;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+/**
+ * 오프라인 테스트용 가짜 IGDB/Twitch 서버.
+ * 요청 본문(APIcalypse)의 id 목록을 읽어 응답을 만들고, IGDB 처럼 limit(최대 500)을 넘는 결과는 잘라낸다.
+ * Steam appId N 은 IGDB 게임 N + {@link #IGDB_ID_OFFSET} 에 매핑되고, 모든 게임은 PC·PS5 를 지원한다.
+ * /multiquery 의 이름 검색은 {@link #SEARCHABLE_SUFFIX} 로 끝나는 제목만 찾는다(제목 보정 후보 검증용).
+ */
+class IgdbFakeServer extends ResponseDefinitionTransformer {
+
+    static final int IGDB_ID_OFFSET = 1_000_000;
+    static final List<String> PLATFORMS = List.of("PC (Microsoft Windows)", "PlayStation 5");
+    static final String SEARCHABLE_SUFFIX = "™";
+
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+    private static final Pattern ID_LIST = Pattern.compile("\\(([^)]*)\\)");
+    private static final Pattern LIMIT = Pattern.compile("limit (\\d+)");
+    private static final Pattern SUB_QUERY = Pattern.compile(
+            "query games \"([^\"]*)\" \\{(.*?)\\};", Pattern.DOTALL);
+    private static final Pattern SEARCH = Pattern.compile("search \"((?:\\\\.|[^\"\\\\])*)\"");
+    private static final int MAX_LIMIT = 500;
+
+    static WireMockServer start() {
+        WireMockServer server = new WireMockServer(options().dynamicPort().extensions(new IgdbFakeServer()));
+        server.start();
+        server.stubFor(post(urlPathEqualTo("/oauth2/token")).willReturn(okJson(
+                "{\"access_token\":\"test-token\",\"expires_in\":5184000,\"token_type\":\"bearer\"}")));
+        for (String endpoint : List.of("/external_games", "/games", "/platforms", "/multiquery")) {
+            server.stubFor(post(urlPathEqualTo(endpoint)).willReturn(aResponse().withTransformers("igdb-fake")));
+        }
+        return server;
+    }
+
+    @Override
+    public ResponseDefinition transform(Request request, ResponseDefinition responseDefinition,
+                                        FileSource files, Parameters parameters) {
+        String body = request.getBodyAsString();
+        List<String> rows = switch (request.getUrl().replaceAll("\\?.*", "")) {
+            case "/external_games" -> ids(body).stream()
+                    .map(uid -> String.format("{\"id\":%d,\"game\":{\"id\":%d,\"platforms\":[6,167]},\"uid\":\"%d\"}",
+                            uid, uid + IGDB_ID_OFFSET, uid))
+                    .toList();
+            case "/games" -> ids(body).stream()
+                    .map(id -> String.format("{\"id\":%d,\"platforms\":[6,167]}", id))
+                    .toList();
+            case "/platforms" -> List.of(
+                    "{\"id\":6,\"name\":\"PC (Microsoft Windows)\"}",
+                    "{\"id\":167,\"name\":\"PlayStation 5\"}");
+            case "/multiquery" -> multiquery(body);
+            default -> List.of();
+        };
+        List<String> limited = request.getUrl().startsWith("/multiquery")
+                ? rows
+                : rows.subList(0, Math.min(rows.size(), limit(body)));
+        return new ResponseDefinitionBuilder()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody(limited.stream().collect(Collectors.joining(",", "[", "]")))
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return "igdb-fake";
+    }
+
+    @Override
+    public boolean applyGlobally() {
+        return false;
+    }
+
+    /** 하위 쿼리마다 {"name":..,"result":[..]} 하나. 검색 결과는 제목 해시로 만든 게임 1건 */
+    private static List<String> multiquery(String body) {
+        List<String> results = new ArrayList<>();
+        Matcher query = SUB_QUERY.matcher(body);
+        while (query.find()) {
+            Matcher search = SEARCH.matcher(query.group(2));
+            String title = search.find() ? search.group(1) : "";
+            String result = title.endsWith(SEARCHABLE_SUFFIX)
+                    ? String.format("{\"id\":%d,\"platforms\":[6,167]}", Math.abs(title.hashCode() % IGDB_ID_OFFSET))
+                    : "";
+            results.add(String.format("{\"name\":\"%s\",\"result\":[%s]}", query.group(1), result));
+        }
+        return results;
+    }
+
+    private static List<Integer> ids(String body) {
+        List<Integer> ids = new ArrayList<>();
+        Matcher list = ID_LIST.matcher(body);
+        if (!list.find()) return ids;
+        Matcher number = NUMBER.matcher(list.group(1));
+        while (number.find()) ids.add(Integer.parseInt(number.group()));
+        return ids;
+    }
+
+    /** IGDB 기본 limit 은 10, 최대 500 */
+    private static int limit(String body) {
+        Matcher m = LIMIT.matcher(body);
+        return m.find() ? Math.min(Integer.parseInt(m.group(1)), MAX_LIMIT) : 10;
+    }
+}
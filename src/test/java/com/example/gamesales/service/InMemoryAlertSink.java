@@ -0,0 +1,24 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.dto.PriceAlert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/** 테스트용 알림 싱크: 받은 알림을 모아 두고 {@link #drain()} 으로 꺼낸다 */
+class InMemoryAlertSink implements AlertSink {
+
+    private final List<PriceAlert> alerts = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void deliver(List<PriceAlert> alerts) {
+        this.alerts.addAll(alerts);
+    }
+
+    List<PriceAlert> drain() {
+        List<PriceAlert> drained = new ArrayList<>(alerts);
+        alerts.clear();
+        return drained;
+    }
+}
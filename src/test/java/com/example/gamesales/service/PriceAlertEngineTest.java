@@ -0,0 +1,140 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.dto.PriceAlert;
+import com.example.gamesales.dto.PriceChange;
+import com.example.gamesales.dto.PriceDto;
+import com.example.gamesales.dto.WatchRequest;
+import com.example.gamesales.model.PriceWatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 알림은 적재가 커밋된 뒤에 평가되므로 테스트 트랜잭션을 쓰지 않는다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({GamePriceIngestService.class, LastKnownPrices.class, CrawlerConfig.class,
+        PriceAlertEngine.class, InMemoryAlertSink.class})
+@DisplayName("가격 알림: 바뀐 가격만 평가하고 목표를 넘어설 때 한 번 알린다 (H2)")
+class PriceAlertEngineTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    @Autowired GamePriceIngestService ingestService;
+    @Autowired PriceAlertEngine alertEngine;
+    @Autowired InMemoryAlertSink sink;
+
+    @Test
+    @DisplayName("적재 → 커밋 → 가격이 목표를 넘어선 구독만 알림, 그대로인 가격·이미 넘은 목표는 다시 알리지 않는다")
+    void alertsOnCrossingAfterCommit() {
+        alertEngine.addWatch(new WatchRequest("alice", null, 101, 15_000, null));
+        alertEngine.addWatch(new WatchRequest("bob", "Steam", 102, null, 50));
+        alertEngine.addWatch(new WatchRequest("carol", null, 103, 5_000, null));
+        alertEngine.addWatch(new WatchRequest("dave", "PSN", 101, 99_999, null));
+        alertEngine.addWatch(new WatchRequest("erin", null, 104, 30_000, 10));
+
+        // 처음 본 가격: 이미 목표 가격 아래인 erin 만
+        ingestService.ingest("Steam", crawl(Map.of()));
+        assertThat(sink.drain()).extracting(PriceAlert::subscriber).containsExactly("erin");
+
+        ingestService.ingest("Steam", crawl(Map.of(101, 40, 102, 50, 103, 10)));
+        assertThat(sink.drain())
+                .extracting(PriceAlert::subscriber, PriceAlert::appId, PriceAlert::finalPrice)
+                .containsExactlyInAnyOrder(
+                        tuple("alice", 101, 12_000),
+                        tuple("bob", 102, 10_000));
+        long evaluated = alertEngine.stats().evaluatedChanges();
+
+        // 변경 없음 → 평가할 것도 없음
+        ingestService.ingest("Steam", crawl(Map.of(101, 40, 102, 50, 103, 10)));
+        assertThat(sink.drain()).isEmpty();
+        assertThat(alertEngine.stats().evaluatedChanges()).isEqualTo(evaluated);
+
+        // 이미 목표 아래에서 더 내려가도 다시 알리지 않는다
+        ingestService.ingest("Steam", crawl(Map.of(101, 45, 102, 50, 103, 10)));
+        assertThat(sink.drain()).isEmpty();
+        assertThat(alertEngine.stats().evaluatedChanges()).isEqualTo(evaluated + 1);
+
+        assertThat(alertEngine.stats().watches()).isEqualTo(5);
+        assertThat(alertEngine.watches("alice")).extracting(PriceWatch::getAppId).containsExactly(101);
+    }
+
+    @Test
+    @DisplayName("색인 평가 결과는 모든 구독을 훑는 단순 평가와 같고, 평가 건수는 구독 수가 아니라 변경 수다")
+    void indexMatchesNaiveScan() {
+        PriceAlertEngine engine = new PriceAlertEngine(null, List.of());
+        Random random = new Random(42);
+        List<PriceWatch> watches = new ArrayList<>();
+        for (long id = 1; id <= 50_000; id++) {
+            PriceWatch watch = PriceWatch.builder()
+                    .id(id)
+                    .subscriber("user-" + id)
+                    .serviceName("Steam")
+                    .appId(1 + random.nextInt(1_000))
+                    .targetPrice(random.nextInt(3) == 0 ? null : 1_000 * (1 + random.nextInt(30)))
+                    .targetDiscountPercent(random.nextBoolean() ? 5 * (1 + random.nextInt(20)) : null)
+                    .createdAt(T0)
+                    .build();
+            if (watch.getTargetPrice() == null && watch.getTargetDiscountPercent() == null) continue;
+            watches.add(watch);
+            engine.index(watch);
+        }
+
+        List<PriceChange> changes = new ArrayList<>();
+        for (int appId = 1; appId <= 500; appId++) {
+            boolean firstSeen = appId % 10 == 0;
+            int oldDiscount = random.nextInt(60);
+            int discount = random.nextInt(90);
+            changes.add(new PriceChange("Steam", appId, "Game " + appId,
+                    firstSeen ? null : 30_000 * (100 - oldDiscount) / 100, firstSeen ? null : oldDiscount,
+                    30_000, 30_000 * (100 - discount) / 100, discount, T0));
+        }
+
+        Set<Long> indexed = new HashSet<>();
+        engine.evaluate(changes).forEach(a -> assertThat(indexed.add(a.watchId())).isTrue());
+
+        Set<Long> naive = new HashSet<>();
+        for (PriceChange c : changes) {
+            for (PriceWatch w : watches) {
+                if (w.getAppId() == c.appId() && crosses(w, c)) naive.add(w.getId());
+            }
+        }
+
+        assertThat(indexed).isNotEmpty().isEqualTo(naive);
+        assertThat(engine.stats().evaluatedChanges()).isEqualTo(changes.size());
+        assertThat(engine.stats().watches()).isEqualTo(watches.size());
+    }
+
+    private static boolean crosses(PriceWatch w, PriceChange c) {
+        int oldPrice = c.firstSeen() ? Integer.MAX_VALUE : c.oldFinalPrice();
+        int oldDiscount = c.firstSeen() ? 0 : c.oldDiscountPercent();
+        boolean price = w.getTargetPrice() != null
+                && c.finalPrice() <= w.getTargetPrice() && w.getTargetPrice() < oldPrice;
+        boolean discount = w.getTargetDiscountPercent() != null
+                && oldDiscount < w.getTargetDiscountPercent() && w.getTargetDiscountPercent() <= c.discountPercent();
+        return price || discount;
+    }
+
+    /** appId 101~110, 정가 20,000. discounts 에 있는 게임만 할인 */
+    private static List<PriceDto> crawl(Map<Integer, Integer> discounts) {
+        List<PriceDto> dtos = new ArrayList<>();
+        for (int appId = 101; appId <= 110; appId++) {
+            int discount = discounts.getOrDefault(appId, 0);
+            dtos.add(new PriceDto(appId, "Game " + appId, "게임 " + appId,
+                    20_000, 20_000 * (100 - discount) / 100, discount, appId - 100));
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.dto.DailyPrice;
+import com.example.gamesales.dto.PriceHistoryPage;
+import com.example.gamesales.dto.PricePointResponse;
+import com.example.gamesales.model.Game;
+import com.example.gamesales.model.GamePrice;
+import com.example.gamesales.repository.GamePriceRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({PriceHistoryService.class, PriceArchiveService.class, PriceArchiveWriter.class, CrawlerConfig.class})
+@DisplayName("가격 이력 아카이브: 오래된 행을 컬럼 파일로 옮겨도 이력 API 결과는 같다 (H2)")
+class PriceArchiveServiceTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 10, 0);
+    private static final LocalDateTime CUTOFF = T0.plusHours(400);
+
+    @TestConfiguration
+    static class TempArchive {
+        @Bean
+        Path archiveDir() throws IOException {
+            return Files.createTempDirectory("price-archive");
+        }
+
+        @Bean
+        PriceArchive priceArchive(Path archiveDir) {
+            CrawlerConfig config = new CrawlerConfig();
+            config.getArchive().setDir(archiveDir.toString());
+            return new PriceArchive(config);
+        }
+    }
+
+    @Autowired PriceHistoryService historyService;
+    @Autowired PriceArchiveService archiveService;
+    @Autowired PriceArchive archive;
+    @Autowired GamePriceRepository priceRepo;
+    @Autowired EntityManager em;
+    @Autowired Path archiveDir;
+
+    @Test
+    @DisplayName("cutoff 이전 행만 옮기고(스토어별 마지막 행은 남김), 페이지·일별 조회는 테이블과 아카이브를 이어 읽는다")
+    void archivedHistoryReadsTheSame() throws IOException {
+        Game game = game(1);
+        Game recent = game(2);
+        for (int i = 0; i < 600; i++) {
+            LocalDateTime fetchedAt = T0.plusHours(i);
+            price(game, "Steam", 20_000, 10_000 - (i % 50) * 100, fetchedAt, i % 7 == 0 ? null : fetchedAt.plusMinutes(30));
+        }
+        for (int i = 0; i < 10; i++) {
+            price(game, "Eshop", 30_000, 30_000 - i * 1_000, T0.plusHours(i), T0.plusHours(i).plusMinutes(30));
+        }
+        for (int i = 0; i < 5; i++) {
+            price(recent, "Steam", 5_000, 5_000, T0.plusHours(500 + i), null);
+        }
+        em.flush();
+        em.clear();
+
+        List<PricePointResponse> steam = allPages(1, "Steam");
+        List<PricePointResponse> eshop = allPages(1, "Eshop");
+        List<DailyPrice> daily = daily(1, "Steam");
+
+        // 파일은 썼는데 삭제가 롤백된 상황: 같은 행이 양쪽에 있어도 한 번만 보인다
+        Long gameId = game.getId();
+        archive.append(1, priceRepo.findArchivable(gameId, CUTOFF));
+        assertThat(allPages(1, "Steam")).isEqualTo(steam);
+
+        // Steam 400행(i < 400) + Eshop 9행(마지막 행 제외). 이미 파일에 있는 행은 다시 쓰지 않고 지우기만 한다
+        assertThat(archiveService.archiveOlderThan(CUTOFF)).isEqualTo(409);
+        em.clear();
+        assertThat(priceRepo.count()).isEqualTo(600 + 10 + 5 - 409);
+        assertThat(archiveService.archiveOlderThan(CUTOFF)).isZero();
+
+        assertThat(allPages(1, "Steam")).isEqualTo(steam);
+        assertThat(allPages(1, "Eshop")).isEqualTo(eshop);
+        assertThat(daily(1, "Steam")).isEqualTo(daily);
+        assertThat(historyService.daily(1, "Steam", LocalDate.of(2026, 1, 5), LocalDate.of(2026, 1, 5)).orElseThrow())
+                .containsExactly(daily.get(4));
+
+        // 행마다 수십 바이트 대신 10바이트 남짓
+        assertThat(Files.size(archiveDir.resolve("1.gpa"))).isLessThan(409L * 16);
+        assertThat(archiveDir.resolve("2.gpa")).doesNotExist();
+    }
+
+    /** 70건씩: 페이지 하나가 테이블과 아카이브에 걸친다 */
+    private List<PricePointResponse> allPages(int appId, String serviceName) {
+        List<PricePointResponse> all = new ArrayList<>();
+        String cursor = null;
+        do {
+            PriceHistoryPage page = historyService.page(appId, serviceName, cursor, 70).orElseThrow();
+            all.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return all;
+    }
+
+    private List<DailyPrice> daily(int appId, String serviceName) {
+        return historyService.daily(appId, serviceName, LocalDate.of(2025, 12, 31), LocalDate.of(2026, 1, 31))
+                .orElseThrow();
+    }
+
+    private Game game(int appId) {
+        Game game = Game.builder()
+                .appId(appId)
+                .englishName("Game " + appId)
+                .koreanName("게임 " + appId)
+                .normalizedKey("game-" + appId)
+                .ranking(appId)
+                .build();
+        em.persist(game);
+        return game;
+    }
+
+    private void price(Game game, String serviceName, int initialPrice, int finalPrice,
+                       LocalDateTime fetchedAt, LocalDateTime lastSeenAt) {
+        em.persist(GamePrice.builder()
+                .game(game)
+                .serviceName(serviceName)
+                .initialPrice(initialPrice)
+                .finalPrice(finalPrice)
+                .discountPercent(100 - finalPrice * 100 / initialPrice)
+                .fetchedAt(fetchedAt)
+                .lastSeenAt(lastSeenAt)
+                .build());
+    }
+}
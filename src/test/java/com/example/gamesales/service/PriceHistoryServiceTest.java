@@ -0,0 +1,145 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.dto.DailyPrice;
+import com.example.gamesales.dto.PriceHistoryPage;
+import com.example.gamesales.dto.PricePointResponse;
+import com.example.gamesales.model.Game;
+import com.example.gamesales.model.GamePrice;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import(PriceHistoryService.class)
+@DisplayName("가격 이력: 키셋 페이지·일별 집계 (H2)")
+class PriceHistoryServiceTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    /** 임시 디렉터리의 빈 아카이브 */
+    @TestConfiguration
+    static class EmptyArchive {
+        @Bean
+        PriceArchive priceArchive() throws IOException {
+            CrawlerConfig config = new CrawlerConfig();
+            config.getArchive().setDir(Files.createTempDirectory("price-archive").toString());
+            return new PriceArchive(config);
+        }
+    }
+
+    @Autowired PriceHistoryService historyService;
+    @Autowired EntityManager em;
+
+    @Test
+    @DisplayName("커서로 이어 읽으면 중복·누락 없이 최근 순으로 끝까지 읽는다")
+    void keysetPagesCoverWholeHistory() {
+        Game game = game(1);
+        Game other = game(2);
+        for (int i = 0; i < 1_200; i++) {
+            // 같은 fetchedAt 이 여러 행이어도 id 로 순서가 정해진다
+            price(game, "Steam", 10_000 + i, T0.plusHours(i / 3), null);
+        }
+        price(other, "Steam", 1, T0, null);
+        price(game, "Eshop", 1, T0, null);
+        em.flush();
+        em.clear();
+
+        List<PricePointResponse> all = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            PriceHistoryPage page = historyService.page(1, "Steam", cursor, 500).orElseThrow();
+            all.addAll(page.items());
+            pageSizes.add(page.items().size());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(pageSizes).containsExactly(500, 500, 200);
+        assertThat(all).extracting(PricePointResponse::serviceName).containsOnly("Steam");
+        assertThat(new HashSet<>(all.stream().map(PricePointResponse::finalPrice).toList())).hasSize(1_200);
+        assertThat(all.get(0).finalPrice()).isEqualTo(10_000 + 1_199);
+        assertThat(all).isSortedAccordingTo((a, b) -> b.fetchedAt().compareTo(a.fetchedAt()));
+    }
+
+    @Test
+    @DisplayName("일별 min/max/last: 변경 없는 날은 직전 가격으로 채우고, lastSeenAt 이후는 비운다")
+    void downsamplesDaily() {
+        Game game = game(1);
+        price(game, "Steam", 10_000, T0, T0.plusDays(2).withHour(6));                   // 1/1 10:00 ~ 1/3 06:00
+        price(game, "Steam", 7_000, T0.plusDays(2).withHour(12), T0.plusDays(4).withHour(6)); // 1/3 12:00 ~ 1/5 06:00
+        em.flush();
+        em.clear();
+
+        List<DailyPrice> days = historyService.daily(1, "Steam",
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 7)).orElseThrow();
+
+        assertThat(days).containsExactly(
+                daily(1, 10_000, 10_000, 10_000),
+                daily(2, 10_000, 10_000, 10_000),
+                daily(3, 7_000, 10_000, 7_000),
+                daily(4, 7_000, 7_000, 7_000),
+                daily(5, 7_000, 7_000, 7_000));
+
+        // 구간 시작 전 가격을 첫날로 이어받는다
+        assertThat(historyService.daily(1, "Steam", LocalDate.of(2026, 1, 2), LocalDate.of(2026, 1, 2)).orElseThrow())
+                .containsExactly(daily(2, 10_000, 10_000, 10_000));
+    }
+
+    @Test
+    @DisplayName("모르는 appId 는 empty, 잘못된 커서·기간은 IllegalArgumentException")
+    void rejectsBadInput() {
+        game(1);
+
+        assertThat(historyService.page(999, "Steam", null, 10)).isEmpty();
+        assertThatThrownBy(() -> historyService.page(1, "Steam", "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> historyService.daily(1, "Steam", LocalDate.of(2026, 1, 2), LocalDate.of(2026, 1, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Game game(int appId) {
+        Game game = Game.builder()
+                .appId(appId)
+                .englishName("Game " + appId)
+                .koreanName("게임 " + appId)
+                .normalizedKey("game-" + appId)
+                .ranking(appId)
+                .build();
+        em.persist(game);
+        return game;
+    }
+
+    private void price(Game game, String serviceName, int finalPrice, LocalDateTime fetchedAt, LocalDateTime lastSeenAt) {
+        em.persist(GamePrice.builder()
+                .game(game)
+                .serviceName(serviceName)
+                .initialPrice(10_000)
+                .finalPrice(finalPrice)
+                .discountPercent(finalPrice < 10_000 ? 100 - finalPrice / 100 : 0)
+                .fetchedAt(fetchedAt)
+                .lastSeenAt(lastSeenAt)
+                .build());
+    }
+
+    private static DailyPrice daily(int dayOfJanuary, int min, int max, int last) {
+        return new DailyPrice(LocalDate.of(2026, 1, dayOfJanuary), min, max, last,
+                last < 10_000 ? 100 - last / 100 : 0);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.gamesales.service;
+
+import com.example.gamesales.config.IgdbProperties;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Twitch 토큰 지연 발급·재발급")
+class TwitchTokenManagerTest {
+
+    private WireMockServer twitch;
+    private IgdbProperties props;
+
+    @BeforeEach
+    void setUp() {
+        twitch = new WireMockServer(options().dynamicPort());
+        twitch.start();
+
+        props = new IgdbProperties();
+        props.setId("client-id");
+        props.setSecret("secret");
+        props.setBaseUrl(twitch.baseUrl());
+        props.setTokenUrl(twitch.baseUrl() + "/oauth2/token");
+    }
+
+    @AfterEach
+    void tearDown() {
+        twitch.stop();
+    }
+
+    @Test
+    @DisplayName("생성 시에는 발급하지 않고, 동시에 들어온 첫 요청들은 발급 한 번을 공유한다")
+    void fetchesLazilyAndOnce() {
+        stubToken(Scenario.STARTED, null, "t1", 5_184_000, 200);
+        TwitchTokenManager tokens = new TwitchTokenManager(props);
+        twitch.verify(0, postRequestedFor(urlPathEqualTo("/oauth2/token")));
+
+        List<String> values = Flux.range(0, 16)
+                .flatMap(i -> tokens.token())
+                .map(TwitchTokenManager.Token::value)
+                .collectList()
+                .block();
+
+        assertThat(values).hasSize(16).containsOnly("t1");
+        twitch.verify(1, postRequestedFor(urlPathEqualTo("/oauth2/token")));
+    }
+
+    @Test
+    @DisplayName("만료가 refreshBefore 안으로 들어온 토큰은 미리 새로 받는다")
+    void refreshesBeforeExpiry() {
+        props.setTokenRefreshBefore(Duration.ofHours(1));
+        stubToken(Scenario.STARTED, "second", "t1", 1_800, 0);
+        stubToken("second", null, "t2", 5_184_000, 0);
+        TwitchTokenManager tokens = new TwitchTokenManager(props);
+
+        assertThat(tokens.token().block().value()).isEqualTo("t1");
+        assertThat(tokens.token().block().value()).isEqualTo("t2");
+        assertThat(tokens.token().block().value()).isEqualTo("t2");
+        twitch.verify(2, postRequestedFor(urlPathEqualTo("/oauth2/token")));
+    }
+
+    @Test
+    @DisplayName("401 이면 토큰을 새로 받아 같은 요청을 한 번 다시 보낸다")
+    void retriesOnceAfterUnauthorized() {
+        stubToken(Scenario.STARTED, "second", "revoked", 5_184_000, 0);
+        stubToken("second", null, "fresh", 5_184_000, 0);
+        twitch.stubFor(post(urlPathEqualTo("/games")).withHeader("Authorization", equalTo("Bearer revoked"))
+                .willReturn(unauthorized()));
+        twitch.stubFor(post(urlPathEqualTo("/games")).withHeader("Authorization", equalTo("Bearer fresh"))
+                .willReturn(okJson("[{\"id\":1}]")));
+
+        WebClient client = WebClient.builder()
+                .baseUrl(twitch.baseUrl())
+                .filter(new TwitchTokenManager(props).filter())
+                .build();
+        String body = client.post().uri("/games").bodyValue("fields id;")
+                .retrieve().bodyToMono(String.class).block();
+
+        assertThat(body).isEqualTo("[{\"id\":1}]");
+        twitch.verify(2, postRequestedFor(urlPathEqualTo("/games")));
+        twitch.verify(2, postRequestedFor(urlPathEqualTo("/oauth2/token")));
+    }
+
+    private void stubToken(String state, String nextState, String token, long expiresIn, int delayMillis) {
+        var mapping = post(urlPathEqualTo("/oauth2/token"))
+                .inScenario("token")
+                .whenScenarioStateIs(state)
+                .willReturn(okJson(String.format(
+                                "{\"access_token\":\"%s\",\"expires_in\":%d,\"token_type\":\"bearer\"}",
+                                token, expiresIn))
+                        .withFixedDelay(delayMillis));
+        if (nextState != null) mapping = mapping.willSetStateTo(nextState);
+        twitch.stubFor(mapping);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.gamesales.util;
+
+import com.example.gamesales.config.CrawlerConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("크롤링 실행 모드: 가상 스레드 + JDBC 세마포어")
+class CrawlExecutionTest {
+
+    @Test
+    @DisplayName("가상 스레드 1,000개가 동시에 JDBC 구간에 들어와도 jdbcPermits 개까지만 함께 실행된다")
+    void boundsJdbcConcurrency() {
+        CrawlExecution execution = new CrawlExecution(config(true, 4, Duration.ofSeconds(10)));
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger maxInside = new AtomicInteger();
+        AtomicInteger virtual = new AtomicInteger();
+        try {
+            Integer done = Flux.range(0, 1_000)
+                    .flatMap(i -> Mono.fromCallable(() -> {
+                        if (Thread.currentThread().isVirtual()) virtual.incrementAndGet();
+                        return execution.jdbc(() -> {
+                            maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+                            sleep(2);
+                            inside.decrementAndGet();
+                            return 1;
+                        });
+                    }).subscribeOn(execution.scheduler()), 1_000)
+                    .reduce(0, Integer::sum)
+                    .block(Duration.ofSeconds(30));
+
+            assertThat(done).isEqualTo(1_000);
+            assertThat(virtual.get()).isEqualTo(1_000);
+            assertThat(maxInside.get()).isBetween(1, 4);
+            assertThat(execution.stats()).isEqualTo(new CrawlExecution.Stats(true, 4, 0, 0));
+        } finally {
+            execution.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("허가를 제때 못 얻으면 커넥션 풀까지 가지 않고 JdbcPermitTimeoutException")
+    void timesOutWaitingForPermit() throws Exception {
+        CrawlExecution execution = new CrawlExecution(config(true, 1, Duration.ofMillis(100)));
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = Thread.ofVirtual().start(() -> execution.jdbc(() -> {
+            holding.countDown();
+            await(release);
+        }));
+        try {
+            assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThatThrownBy(() -> execution.jdbc(() -> 1))
+                    .isInstanceOf(CrawlExecution.JdbcPermitTimeoutException.class);
+
+            // 허가가 돌아오면 다시 들어갈 수 있다
+            release.countDown();
+            holder.join(5_000);
+            assertThat(execution.jdbc(() -> 1)).isEqualTo(1);
+        } finally {
+            release.countDown();
+            execution.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("기본 모드는 기존처럼 boundedElastic 플랫폼 스레드에서 돌고 세마포어를 쓰지 않는다")
+    void platformModeKeepsBoundedElastic() {
+        CrawlExecution execution = new CrawlExecution(new CrawlerConfig());
+
+        String thread = Mono.fromCallable(() -> execution.jdbc(() -> Thread.currentThread().getName()))
+                .subscribeOn(execution.scheduler())
+                .block(Duration.ofSeconds(5));
+
+        assertThat(execution.virtualThreads()).isFalse();
+        assertThat(thread).startsWith("boundedElastic");
+        assertThat(execution.stats()).isEqualTo(new CrawlExecution.Stats(false, 0, 0, 0));
+        assertThat(execution.jobThreadFactory("crawl-test").newThread(() -> { }).isDaemon()).isTrue();
+    }
+
+    private static CrawlerConfig config(boolean virtualThreads, int permits, Duration acquireTimeout) {
+        CrawlerConfig config = new CrawlerConfig();
+        config.getExecution().setVirtualThreads(virtualThreads);
+        config.getExecution().setJdbcPermits(permits);
+        config.getExecution().setJdbcAcquireTimeout(acquireTimeout);
+        return config;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.gamesales.util;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("크롤링 계측: 이유별 스킵 카운터·페이지 타이머")
+class CrawlerMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.removeRegistry(registry);
+        registry.close();
+    }
+
+    @Test
+    @DisplayName("파서가 버린 행은 이유별로, 파싱 시간은 페이지마다 기록된다")
+    void countsSkippedRowsByReason() throws IOException {
+        String html;
+        try (InputStream in = getClass().getResourceAsStream("/fixtures/steam/search-topsellers-50.html")) {
+            html = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        int rows = CrawlerMetrics.timeParse("Steam", () -> new SteamSearchRowParser().parsePage(html, 0)).size();
+
+        assertThat(rows).isEqualTo(48);
+        // 번들 링크 하나(appId 없음), 무료 게임 하나
+        assertThat(skipped("bad_app_id")).isEqualTo(1);
+        assertThat(skipped("free")).isEqualTo(1);
+        assertThat(skipped("no_discount_block")).isZero();
+        assertThat(registry.get(CrawlerMetrics.PAGE_PARSE).tag("store", "Steam").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("페이지 요청 타이머는 성공·실패를 outcome 태그로 나눈다")
+    void timesFetchByOutcome() {
+        CrawlerMetrics.timePageFetch("PSN", Mono.just("page")).block();
+        CrawlerMetrics.timePageFetch("PSN", Mono.empty()).block();
+        assertThatThrownBy(() -> CrawlerMetrics.timePageFetch("PSN", Mono.error(new IllegalStateException("boom"))).block())
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(fetchTimer("success").count()).isEqualTo(2);
+        assertThat(fetchTimer("error").count()).isEqualTo(1);
+    }
+
+    private double skipped(String reason) {
+        var counter = registry.find(CrawlerMetrics.ROWS_SKIPPED).tags("store", "Steam", "reason", reason).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private Timer fetchTimer(String outcome) {
+        return registry.get(CrawlerMetrics.PAGE_FETCH).tags("store", "PSN", "outcome", outcome).timer();
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.gamesales.util;
+
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.crawler.SteamAppDetailsClient;
+import com.example.gamesales.crawler.SteamCrawlerService;
+import com.example.gamesales.dto.PriceDto;
+import com.example.gamesales.service.DealsIndex;
+import com.example.gamesales.service.GamePriceIngestService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("HTTP 복원력 계층: 재시도·Retry-After·회로 차단기 (WireMock 장애 주입)")
+class HttpResilienceTest {
+
+    private static final int PAGES = 10;
+    private static final int PAGE_SIZE = 50;
+
+    private WireMockServer wireMock;
+    private CrawlerConfig config;
+
+    @BeforeEach
+    void setUp() {
+        wireMock = new WireMockServer(options().dynamicPort().containerThreads(PAGES * 2));
+        wireMock.start();
+
+        config = new CrawlerConfig();
+        config.getHttp().setReadTimeout(Duration.ofMillis(500));
+        config.getHttp().getRetry().setInitialBackoff(Duration.ofMillis(20));
+        config.getHttp().getRetry().setMaxBackoff(Duration.ofMillis(100));
+        config.getHttp().getCircuitBreaker().setFailureThreshold(20);
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMock.stop();
+    }
+
+    @Test
+    @DisplayName("5xx·429·연결 끊김·읽기 타임아웃이 섞여도 Steam 검색 페이지를 하나도 잃지 않는다")
+    void steamCrawlLosesNoPagesUnderFaults() throws IOException {
+        config.getSteam().setPageConcurrency(PAGES);
+        HttpResilience resilience = new HttpResilience(config);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        resilience.bindMeters(registry);
+        String page = fixture();
+
+        stubSequence(50, serviceUnavailable(), searchPage(page));
+        stubSequence(100, aResponse().withStatus(429).withHeader("Retry-After", "1"), searchPage(page));
+        stubSequence(150, aResponse().withFault(Fault.CONNECTION_RESET_BY_PEER), searchPage(page));
+        stubSequence(200, searchPage(page).withFixedDelay(1_500), searchPage(page));
+        stubSequence(250, aResponse().withStatus(502), serviceUnavailable(), searchPage(page));
+        for (int start : new int[]{0, 300, 350, 400, 450}) {
+            wireMock.stubFor(searchRequest(start).willReturn(searchPage(page)));
+        }
+
+        SteamCrawlerService crawler = new SteamCrawlerService(
+                resilience.customize(WebClient.builder()).baseUrl(wireMock.baseUrl()).build(),
+                mock(GamePriceIngestService.class), new ObjectMapper(), config,
+                new SteamSearchRowParser(), new SteamSearchRowStreamParser(), mock(DealsIndex.class),
+                mock(SteamAppDetailsClient.class));
+
+        List<PriceDto> rows = crawler.fetchTop500PaidGames().collectList().block();
+
+        assertThat(rows).extracting(PriceDto::ranking)
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, PAGES * PAGE_SIZE).boxed().toList());
+        HttpResilience.Stats stats = resilience.stats().get("localhost");
+        assertThat(stats.retries()).isEqualTo(6);
+        assertThat(stats.timeouts()).isEqualTo(1);
+        assertThat(stats.exhausted()).isZero();
+        assertThat(stats.state()).isEqualTo(HttpResilience.State.CLOSED);
+
+        // 처음 요청할 때 생긴 호스트도 registry 에 나간다
+        assertThat(registry.get("crawler.http.retries").tag("host", "localhost").functionCounter().count()).isEqualTo(6);
+        assertThat(registry.get("crawler.http.timeouts").tag("host", "localhost").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("crawler.http.circuit.state").tag("host", "localhost").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("429 의 Retry-After 만큼 기다렸다가 다시 보낸다")
+    void honorsRetryAfter() {
+        wireMock.stubFor(get("/limited").inScenario("limited").whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(aResponse().withStatus(429).withHeader("Retry-After", "1"))
+                .willSetStateTo("ok"));
+        wireMock.stubFor(get("/limited").inScenario("limited").whenScenarioStateIs("ok")
+                .willReturn(ok("done")));
+
+        long begin = System.nanoTime();
+        String body = client(new HttpResilience(config)).get().uri("/limited")
+                .retrieve().bodyToMono(String.class).block();
+        long elapsedMs = (System.nanoTime() - begin) / 1_000_000;
+
+        assertThat(body).isEqualTo("done");
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(1_000);
+        wireMock.verify(2, getRequestedFor(urlEqualTo("/limited")));
+    }
+
+    @Test
+    @DisplayName("재시도를 다 쓰면 마지막 오류 응답을 그대로 돌려준다")
+    void givesUpAfterMaxAttempts() {
+        wireMock.stubFor(get("/down").willReturn(serviceUnavailable()));
+        HttpResilience resilience = new HttpResilience(config);
+
+        assertThatThrownBy(() -> client(resilience).get().uri("/down")
+                .retrieve().bodyToMono(String.class).block())
+                .isInstanceOf(WebClientResponseException.ServiceUnavailable.class);
+
+        wireMock.verify(config.getHttp().getRetry().getMaxAttempts(), getRequestedFor(urlEqualTo("/down")));
+        assertThat(resilience.stats().get("localhost").exhausted()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 쌓이면 호스트를 차단하고, 차단 시간이 지나면 요청 하나로 회복을 확인한다")
+    void circuitOpensAndRecovers() throws InterruptedException {
+        config.getHttp().getRetry().setMaxAttempts(1);
+        config.getHttp().getCircuitBreaker().setFailureThreshold(3);
+        config.getHttp().getCircuitBreaker().setOpenDuration(Duration.ofMillis(300));
+        HttpResilience resilience = new HttpResilience(config);
+        WebClient client = client(resilience);
+        wireMock.stubFor(get("/flaky").willReturn(serverError()));
+
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> client.get().uri("/flaky").retrieve().bodyToMono(String.class).block())
+                    .isInstanceOfAny(WebClientResponseException.class, HttpResilience.CircuitOpenException.class);
+        }
+        wireMock.verify(3, getRequestedFor(urlEqualTo("/flaky")));
+        HttpResilience.Stats open = resilience.stats().get("localhost");
+        assertThat(open.state()).isEqualTo(HttpResilience.State.OPEN);
+        assertThat(open.shortCircuited()).isEqualTo(2);
+
+        wireMock.stubFor(get("/flaky").willReturn(ok("back")));
+        Thread.sleep(350);
+
+        assertThat(client.get().uri("/flaky").retrieve().bodyToMono(String.class).block()).isEqualTo("back");
+        assertThat(resilience.stats().get("localhost").state()).isEqualTo(HttpResilience.State.CLOSED);
+        assertThat(resilience.stats().get("localhost").opened()).isEqualTo(1);
+    }
+
+    private WebClient client(HttpResilience resilience) {
+        return resilience.customize(WebClient.builder()).baseUrl(wireMock.baseUrl()).build();
+    }
+
+    /** 같은 페이지에 응답을 순서대로 하나씩 준다 (마지막 응답은 이후에도 계속) */
+    private void stubSequence(int start, ResponseDefinitionBuilder... responses) {
+        String scenario = "page-" + start;
+        for (int i = 0; i < responses.length; i++) {
+            MappingBuilder mapping = searchRequest(start)
+                    .inScenario(scenario)
+                    .whenScenarioStateIs(i == 0 ? Scenario.STARTED : "attempt-" + i)
+                    .willReturn(responses[i]);
+            if (i + 1 < responses.length) mapping = mapping.willSetStateTo("attempt-" + (i + 1));
+            wireMock.stubFor(mapping);
+        }
+    }
+
+    private static MappingBuilder searchRequest(int start) {
+        return get(urlPathEqualTo("/search/"))
+                .withQueryParam("start", equalTo(String.valueOf(start)));
+    }
+
+    private static ResponseDefinitionBuilder searchPage(String html) {
+        return aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "text/html; charset=UTF-8")
+                .withBody(html);
+    }
+
+    private static String fixture() throws IOException {
+        try (InputStream in = HttpResilienceTest.class.getResourceAsStream("/fixtures/steam/search-topsellers-50.html")) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.gamesales.util;
+
+import com.example.gamesales.config.CrawlerConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("호스트별 토큰 버킷 요청 제한기")
+class RateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    @DisplayName("버스트만큼은 바로 통과하고 이후에는 1/rate 간격으로 예약된다")
+    void burstThenSpaced() {
+        RateLimiter.Bucket bucket = new RateLimiter.Bucket(4, 4);
+        long now = System.nanoTime();
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(bucket.reserve(now, SECOND * 10)).isZero();
+        }
+        assertThat(bucket.reserve(now, SECOND * 10)).isEqualTo(SECOND / 4);
+        assertThat(bucket.reserve(now, SECOND * 10)).isEqualTo(SECOND / 2);
+
+        // 시간이 충분히 지나면 다시 버스트 허용
+        assertThat(bucket.reserve(now + SECOND * 5, SECOND * 10)).isZero();
+    }
+
+    @Test
+    @DisplayName("maxWait 보다 오래 기다려야 하면 거절하고 토큰을 소비하지 않는다")
+    void rejectsBeyondMaxWait() {
+        RateLimiter.Bucket bucket = new RateLimiter.Bucket(1, 1);
+        long now = System.nanoTime();
+
+        assertThat(bucket.reserve(now, SECOND)).isZero();
+        assertThat(bucket.reserve(now, SECOND)).isEqualTo(SECOND);
+        assertThat(bucket.reserve(now, SECOND)).isEqualTo(-1);
+        assertThat(bucket.stats()).isEqualTo(new RateLimiter.Stats(2, 1, SECOND, SECOND));
+    }
+
+    @Test
+    @DisplayName("설정된 호스트만 제한하고 대기는 논블로킹으로 처리한다")
+    void limitsConfiguredHostsOnly() {
+        CrawlerConfig config = new CrawlerConfig();
+        config.getRateLimit().setHosts(Map.of("api.igdb.com", new CrawlerConfig.Limit(20, 1)));
+        RateLimiter limiter = new RateLimiter(config);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        limiter.bindMeters(registry);
+
+        long begin = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire("api.igdb.com").block();
+            limiter.acquire("localhost").block();
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        // 20/s, 버스트 1 → 첫 요청 이후 4번 × 50ms
+        assertThat(Duration.ofNanos(elapsed)).isGreaterThanOrEqualTo(Duration.ofMillis(190));
+        assertThat(limiter.stats()).containsOnlyKeys("api.igdb.com");
+        assertThat(limiter.stats().get("api.igdb.com").acquired()).isEqualTo(5);
+        assertThat(registry.get("crawler.ratelimit.permits").tag("host", "api.igdb.com").functionCounter().count())
+                .isEqualTo(5);
+        assertThat(registry.get("crawler.ratelimit.wait").tag("host", "api.igdb.com").functionTimer()
+                .totalTime(TimeUnit.MILLISECONDS)).isGreaterThan(0);
+        assertThat(registry.find("crawler.ratelimit.permits").tag("host", "localhost").meter()).isNull();
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.gamesales.util;
+
+import com.example.gamesales.config.CrawlerConfig;
+import com.example.gamesales.crawler.SteamAppDetailsClient;
+import com.example.gamesales.crawler.SteamCrawlerService;
+import com.example.gamesales.dto.PriceDto;
+import com.example.gamesales.service.DealsIndex;
+import com.example.gamesales.service.GamePriceIngestService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("응답 캐시: 조건부 요청·304 재사용·해시로 파싱 건너뛰기")
+class ResponseCacheTest {
+
+    @TempDir
+    Path cacheDir;
+
+    private WireMockServer wireMock;
+    private CrawlerConfig config;
+
+    @BeforeEach
+    void setUp() {
+        wireMock = new WireMockServer(options().dynamicPort());
+        wireMock.start();
+        config = new CrawlerConfig();
+        config.getResponseCache().setDir(cacheDir.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMock.stop();
+    }
+
+    @Test
+    @DisplayName("ETag 가 같으면 304 를 받고 디스크의 본문을 200 으로 돌려준다 (재시작 후에도)")
+    void revalidatesWithEtag() throws IOException {
+        String html = fixture();
+        wireMock.stubFor(get("/page").atPriority(1)
+                .withHeader("If-None-Match", equalTo("\"v1\""))
+                .willReturn(aResponse().withStatus(304).withHeader("ETag", "\"v1\"")));
+        wireMock.stubFor(get("/page").atPriority(2)
+                .willReturn(aResponse().withStatus(200).withHeader("ETag", "\"v1\"")
+                        .withHeader("Content-Type", "text/html; charset=UTF-8").withBody(html)));
+
+        ResponseCache cache = new ResponseCache(config);
+        ResponseEntity<String> first = fetch(cache);
+        ResponseEntity<String> second = fetch(cache);
+        // 새 인스턴스는 메모리가 비어 있어도 디스크의 검증자를 쓴다
+        ResponseEntity<String> afterRestart = fetch(new ResponseCache(config));
+
+        assertThat(first.getHeaders().getFirst(ResponseCache.CACHE_STATUS)).isEqualTo("MISS");
+        assertThat(second.getStatusCode().value()).isEqualTo(200);
+        assertThat(second.getHeaders().getFirst(ResponseCache.CACHE_STATUS)).isEqualTo("REVALIDATED");
+        assertThat(second.getBody()).isEqualTo(html);
+        assertThat(afterRestart.getBody()).isEqualTo(html);
+        assertThat(second.getHeaders().getFirst(ResponseCache.CONTENT_HASH))
+                .isEqualTo(first.getHeaders().getFirst(ResponseCache.CONTENT_HASH));
+        wireMock.verify(2, getRequestedFor(urlEqualTo("/page")).withHeader("If-None-Match", equalTo("\"v1\"")));
+
+        assertThat(cache.stats().revalidated()).isEqualTo(1);
+        assertThat(cache.stats().bytesSaved()).isEqualTo(html.getBytes(StandardCharsets.UTF_8).length);
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            Path body = files.filter(f -> f.toString().endsWith(".gz")).findFirst().orElseThrow();
+            assertThat(Files.size(body)).isLessThan(html.length() / 4);
+        }
+    }
+
+    @Test
+    @DisplayName("검증자가 없는 Steam 검색 페이지도 내용이 같으면 두 번째 크롤링은 파싱하지 않는다")
+    void steamCrawlSkipsUnchangedPages() throws IOException {
+        wireMock.stubFor(get(urlPathEqualTo("/search/")).willReturn(aResponse().withStatus(200)
+                .withHeader("Content-Type", "text/html; charset=UTF-8").withBody(fixture())));
+        SteamSearchRowParser parser = spy(new SteamSearchRowParser());
+        SteamCrawlerService crawler = new SteamCrawlerService(
+                WebClient.builder().baseUrl(wireMock.baseUrl()).filter(new ResponseCache(config).filter()).build(),
+                mock(GamePriceIngestService.class), new ObjectMapper(), config,
+                parser, new SteamSearchRowStreamParser(), mock(DealsIndex.class), mock(SteamAppDetailsClient.class));
+
+        List<PriceDto> first = crawler.fetchTop500PaidGames().collectList().block();
+        List<PriceDto> second = crawler.fetchTop500PaidGames().collectList().block();
+
+        assertThat(first).hasSize(500);
+        assertThat(second).isEqualTo(first);
+        verify(parser, times(10)).parsePage(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("스트리밍 크롤링은 응답 캐시를 건너뛰어 본문을 모으지 않는다")
+    void streamingCrawlBypassesCache() throws IOException {
+        wireMock.stubFor(get(urlPathEqualTo("/search/")).willReturn(aResponse().withStatus(200)
+                .withHeader("Content-Type", "text/html; charset=UTF-8").withBody(fixture())));
+        config.getSteam().setStreaming(true);
+        ResponseCache cache = new ResponseCache(config);
+        SteamCrawlerService crawler = new SteamCrawlerService(
+                WebClient.builder().baseUrl(wireMock.baseUrl()).filter(cache.filter()).build(),
+                mock(GamePriceIngestService.class), new ObjectMapper(), config, new SteamSearchRowParser(),
+                new SteamSearchRowStreamParser(), mock(DealsIndex.class), mock(SteamAppDetailsClient.class));
+
+        assertThat(crawler.fetchTop500PaidGames().collectList().block()).hasSize(500);
+        assertThat(cache.stats().misses()).isZero();
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private ResponseEntity<String> fetch(ResponseCache cache) {
+        return WebClient.builder().baseUrl(wireMock.baseUrl()).filter(cache.filter()).build()
+                .get().uri("/page").retrieve().toEntity(String.class).block();
+    }
+
+    private static String fixture() throws IOException {
+        try (InputStream in = ResponseCacheTest.class.getResourceAsStream("/fixtures/steam/search-topsellers-50.html")) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.gamesales.util;
+
+import com.example.gamesales.dto.PriceDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Steam 검색 행 파서")
+class SteamSearchRowParserTest {
+
+    private final SteamSearchRowParser parser = new SteamSearchRowParser();
+
+    @Test
+    @DisplayName("50행 페이지에서 무료·번들 행을 빼고 파싱하며 랭킹은 행 위치를 따른다")
+    void parsesFixturePage() throws IOException {
+        List<PriceDto> rows = parser.parsePage(fixture(), 100);
+
+        assertThat(rows).hasSize(48);
+        assertThat(rows.get(0)).isEqualTo(
+                new PriceDto(1558253, "Lies of P", "Lies of P", 36000, 21600, 40, 101));
+        // 할인이 없는 행은 정가 = 할인가, 할인율 0
+        assertThat(rows.get(4)).extracting(PriceDto::initialPrice, PriceDto::finalPrice, PriceDto::discountPercent)
+                .containsExactly(22000, 22000, 0);
+        assertThat(rows).extracting(PriceDto::ranking).isSorted().allMatch(r -> r > 100 && r <= 150);
+    }
+
+    @Test
+    @DisplayName("숫자 스캐너는 통화 기호와 구분자를 건너뛴다")
+    void digitScanner() {
+        assertThat(JsoupUtil.digitsOf("₩ 64,800")).isEqualTo(64800);
+        assertThat(JsoupUtil.digitsOf("-40%")).isEqualTo(40);
+        assertThat(JsoupUtil.digitsOf("무료")).isZero();
+        assertThat(JsoupUtil.digitsOf("99999999999")).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("appId는 /app/{숫자}/ 형식에서만 추출한다")
+    void appIdScanner() {
+        assertThat(SteamSearchRowParser.appIdOf("https://store.steampowered.com/app/1627720/Lies_of_P/?snr=1")).isEqualTo(1627720);
+        assertThat(SteamSearchRowParser.appIdOf("https://store.steampowered.com/bundle/1691897/Schedule_I/")).isEqualTo(-1);
+        assertThat(SteamSearchRowParser.appIdOf("https://store.steampowered.com/app/123")).isEqualTo(-1);
+    }
+
+    private static String fixture() throws IOException {
+        try (InputStream in = SteamSearchRowParserTest.class.getResourceAsStream("/fixtures/steam/search-topsellers-50.html")) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.gamesales.util;
+
+import com.example.gamesales.dto.PriceDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Steam 검색 페이지 스트리밍 파서")
+class SteamSearchRowStreamParserTest {
+
+    /** 네트워크 청크 크기를 흉내낸다. 일부러 작게 잡아 멀티바이트 문자가 경계에 걸리게 한다 */
+    private static final int BUFFER_SIZE = 1_000;
+    /** 큰 페이지 = 50행 픽스처 × 40 (2,000행, 약 4MB) */
+    private static final int REPEAT = 40;
+
+    private final SteamSearchRowParser domParser = new SteamSearchRowParser();
+    private final SteamSearchRowStreamParser streamParser = new SteamSearchRowStreamParser();
+
+    @Test
+    @DisplayName("DOM 파서와 같은 결과를 낸다")
+    void sameResultAsDomParser() throws IOException {
+        byte[] page = fixture().getBytes(StandardCharsets.UTF_8);
+
+        List<PriceDto> streamed = streamParser.parse(buffers(page, null), 50).collectList().block();
+
+        assertThat(streamed).isEqualTo(domParser.parsePage(fixture(), 50));
+    }
+
+    @Test
+    @DisplayName("본문을 다 받기 전에 첫 행이 나온다")
+    void emitsFirstRowBeforeBodyCompletes() throws IOException {
+        byte[] page = largePage().getBytes(StandardCharsets.UTF_8);
+        int totalBuffers = (page.length + BUFFER_SIZE - 1) / BUFFER_SIZE;
+        AtomicInteger consumed = new AtomicInteger();
+
+        PriceDto first = streamParser.parse(buffers(page, consumed), 0).blockFirst();
+
+        assertThat(first).isNotNull();
+        assertThat(first.ranking()).isEqualTo(1);
+        assertThat(consumed.get()).isLessThan(totalBuffers / 10);
+    }
+
+    @Test
+    @DisplayName("큰 페이지에서 스트리밍 모드가 버퍼링 모드보다 적게 할당한다")
+    void streamingAllocatesLessThanBuffered() throws IOException {
+        byte[] page = largePage().getBytes(StandardCharsets.UTF_8);
+
+        Supplier<List<PriceDto>> buffered = () -> DataBufferUtils.join(buffers(page, null))
+                .map(joined -> {
+                    String html = joined.toString(StandardCharsets.UTF_8);
+                    DataBufferUtils.release(joined);
+                    return domParser.parsePage(html, 0);
+                })
+                .block();
+        Supplier<List<PriceDto>> streaming = () -> streamParser.parse(buffers(page, null), 0).collectList().block();
+
+        // 워밍업 겸 결과 비교
+        assertThat(streaming.get()).isEqualTo(buffered.get());
+
+        long bufferedBytes = allocatedBy(buffered);
+        long streamingBytes = allocatedBy(streaming);
+        assertThat(streamingBytes).isLessThan(bufferedBytes);
+    }
+
+    /** 현재 스레드가 work 동안 할당한 바이트 (Flux 가 동기 소스라 모두 테스트 스레드에서 실행된다) */
+    private static long allocatedBy(Supplier<?> work) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        work.get();
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    private static Flux<DataBuffer> buffers(byte[] page, AtomicInteger consumed) {
+        List<byte[]> slices = new ArrayList<>();
+        for (int i = 0; i < page.length; i += BUFFER_SIZE) {
+            byte[] slice = new byte[Math.min(BUFFER_SIZE, page.length - i)];
+            System.arraycopy(page, i, slice, 0, slice.length);
+            slices.add(slice);
+        }
+        return Flux.fromIterable(slices)
+                .doOnNext(slice -> {
+                    if (consumed != null) consumed.incrementAndGet();
+                })
+                .map(DefaultDataBufferFactory.sharedInstance::wrap);
+    }
+
+    private static String largePage() throws IOException {
+        String html = fixture();
+        int rowsFrom = html.indexOf("<a href");
+        int rowsTo = html.lastIndexOf("</a>") + "</a>".length();
+        String rows = html.substring(rowsFrom, rowsTo);
+        return html.substring(0, rowsFrom) + rows.repeat(REPEAT) + html.substring(rowsTo);
+    }
+
+    private static String fixture() throws IOException {
+        try (InputStream in = SteamSearchRowStreamParserTest.class.getResourceAsStream("/fixtures/steam/search-topsellers-50.html")) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}